@@ -0,0 +1,81 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board lookups on plain and jump cells, compared with the former map-based board.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardLookupBenchmark {
+
+    /** Cell looked up: a plain cell, a ladder foot or a snake head. */
+    @Param({"50", "37", "98"})
+    public int cell;
+
+    private SnakesAndLaddersBoard board;
+    private MapBoard mapBoard;
+
+    @Setup
+    public void setUp() {
+        board = new SnakesAndLaddersBoard();
+        mapBoard = new MapBoard(board);
+    }
+
+    @Benchmark
+    public int finalPosition() {
+        return board.getFinalPosition(cell);
+    }
+
+    @Benchmark
+    public byte cellKind() {
+        return board.getCellKind(cell);
+    }
+
+    @Benchmark
+    public int mapFinalPosition() {
+        return mapBoard.getFinalPosition(cell);
+    }
+
+    /**
+     * The board lookups as they were implemented with boxed hash maps.
+     */
+    static final class MapBoard {
+        private final Map<Integer, Integer> ladders = new HashMap<>();
+        private final Map<Integer, Integer> snakes = new HashMap<>();
+
+        MapBoard(SnakesAndLaddersBoard board) {
+            ladders.putAll(board.getLadders());
+            snakes.putAll(board.getSnakes());
+        }
+
+        int getFinalPosition(int position) {
+            if (ladders.containsKey(position)) {
+                return ladders.get(position);
+            } else if (snakes.containsKey(position)) {
+                return snakes.get(position);
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.GameInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Console rendering of a move in {@link GameInterface#playSingleMove}, with standard
+ * output sent to a null stream so only the formatting cost is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConsoleRenderingBenchmark {
+
+    /** Starting position and roll as "position:dice". */
+    @Param({"10:2", "34:3", "95:6"})
+    public String move;
+
+    private GameInterface gameInterface;
+    private PrintStream originalOut;
+    private int position;
+    private int diceRoll;
+
+    @Setup
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        gameInterface = new GameInterface();
+        String[] parts = move.split(":");
+        position = Integer.parseInt(parts[0]);
+        diceRoll = Integer.parseInt(parts[1]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+        gameInterface.close();
+    }
+
+    @Benchmark
+    public boolean playSingleMove() {
+        gameInterface.getEngine().setCurrentPosition(position);
+        return gameInterface.playSingleMove(diceRoll);
+    }
+}
@@ -0,0 +1,100 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.MoveClient;
+import com.snakeladders.MoveDaemon;
+import com.snakeladders.SnakesAndLaddersApplication;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time of one command line move: a cold launch of {@link SnakesAndLaddersApplication},
+ * a launch of {@link MoveClient} against a running {@link MoveDaemon} (with default and with
+ * quick-start JVM flags), and a request from an already running JVM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DaemonLaunchBenchmark {
+
+    private static final String[] MOVE = {"34", "3"};
+    private static final String[] QUICK_START_FLAGS = {"-XX:TieredStopAtLevel=1", "-XX:+UseSerialGC", "-Xss256k"};
+
+    private Path directory;
+    private MoveDaemon daemon;
+    private String java;
+    private String classPath;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("move-daemon");
+        daemon = new MoveDaemon(new SnakesAndLaddersBoard(), directory.resolve("moves.sock"));
+        daemon.start();
+        java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        classPath = System.getProperty("java.class.path");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        daemon.close();
+        Files.deleteIfExists(directory);
+    }
+
+    private int launch(String[] flags, Class<?> mainClass, String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(Arrays.asList(flags));
+        command.add("-cp");
+        command.add(classPath);
+        command.add(mainClass.getName());
+        command.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        int length = process.getInputStream().readAllBytes().length;
+        process.waitFor();
+        return length;
+    }
+
+    @Benchmark
+    public int coldLaunch() throws IOException, InterruptedException {
+        return launch(new String[0], SnakesAndLaddersApplication.class, MOVE);
+    }
+
+    @Benchmark
+    public int clientLaunch() throws IOException, InterruptedException {
+        return launch(new String[0], MoveClient.class, "--socket", daemon.getSocket().toString(), MOVE[0], MOVE[1]);
+    }
+
+    @Benchmark
+    public int clientLaunchQuickStart() throws IOException, InterruptedException {
+        return launch(QUICK_START_FLAGS, MoveClient.class, "--socket", daemon.getSocket().toString(), MOVE[0], MOVE[1]);
+    }
+
+    @Benchmark
+    public int inProcessRequest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MoveClient.forward(daemon.getSocket(), 34, 3, out);
+        return out.size();
+    }
+}
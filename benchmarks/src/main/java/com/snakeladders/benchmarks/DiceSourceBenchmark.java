@@ -0,0 +1,102 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.FastDiceSource;
+import com.snakeladders.ReplayDiceSource;
+import com.snakeladders.SeededDiceSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dice rolls per second from each {@link com.snakeladders.DiceSource}, against one
+ * {@link Random#nextInt(int)} call per roll.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceSourceBenchmark {
+
+    private static final int ROLLS = 1024;
+
+    private Random random;
+    private SeededDiceSource seeded;
+    private ReplayDiceSource replay;
+    private FastDiceSource fast;
+    private byte[] rolls;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        seeded = new SeededDiceSource(42);
+        fast = new FastDiceSource(42);
+        int[] recorded = new int[ROLLS];
+        for (int i = 0; i < ROLLS; i++) {
+            recorded[i] = random.nextInt(6) + 1;
+        }
+        replay = new ReplayDiceSource(recorded);
+        rolls = new byte[ROLLS];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public void randomNextInt(Blackhole blackhole) {
+        for (int i = 0; i < ROLLS; i++) {
+            blackhole.consume(random.nextInt(6) + 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public void seeded(Blackhole blackhole) {
+        for (int i = 0; i < ROLLS; i++) {
+            blackhole.consume(seeded.nextRoll());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public void replay(Blackhole blackhole) {
+        replay.rewind();
+        for (int i = 0; i < ROLLS; i++) {
+            blackhole.consume(replay.nextRoll());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public void fast(Blackhole blackhole) {
+        for (int i = 0; i < ROLLS; i++) {
+            blackhole.consume(fast.nextRoll());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public byte[] fastBulk() {
+        fast.nextRolls(rolls, 0, ROLLS);
+        return rolls;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public byte[] fastThreadLocalBulk() {
+        FastDiceSource.current().nextRolls(rolls, 0, ROLLS);
+        return rolls;
+    }
+}
@@ -0,0 +1,83 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.EngineMetrics;
+import com.snakeladders.FastDiceSource;
+import com.snakeladders.GameEngine;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link EngineMetrics} instrumentation on {@link GameEngine#applyMove}.
+ * <p>
+ * {@code baseline} applies the same rules through {@link GameEngine#step} with no
+ * instrumentation at all; {@code disabled} and {@code enabled} go through the engine in
+ * JVMs started without and with {@code -Dsnakeladders.metrics=true}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineMetricsBenchmark {
+
+    private static final int ROLLS = 1 << 12;
+
+    private final byte[] rolls = new byte[ROLLS];
+    private SnakesAndLaddersBoard board;
+    private GameEngine engine;
+    private int position;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        board = new SnakesAndLaddersBoard();
+        engine = new GameEngine(board);
+        new FastDiceSource(42).nextRolls(rolls, 0, ROLLS);
+    }
+
+    private int nextRoll() {
+        int roll = rolls[next];
+        next = (next + 1) & (ROLLS - 1);
+        return roll;
+    }
+
+    @Benchmark
+    public long baseline() {
+        long move = GameEngine.step(board, position, nextRoll());
+        position = MoveOutcome.outcome(move) == MoveOutcome.WON ? 0 : MoveOutcome.newPosition(move);
+        return move;
+    }
+
+    @Benchmark
+    public long disabled() {
+        return engineMove();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dsnakeladders.metrics=true")
+    public long enabled() {
+        return engineMove();
+    }
+
+    private long engineMove() {
+        long move = engine.applyMove(nextRoll());
+        if (engine.isGameWon()) {
+            engine.resetGame();
+        }
+        return move;
+    }
+}
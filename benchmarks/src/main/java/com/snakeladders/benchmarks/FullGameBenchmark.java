@@ -0,0 +1,80 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameSimulator;
+import com.snakeladders.SimulationResult;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complete games played through the engine and through the simulator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FullGameBenchmark {
+
+    private static final int SIMULATED_GAMES = 100_000;
+
+    private SnakesAndLaddersBoard board;
+    private GameEngine engine;
+    private SplittableRandom random;
+    private GameSimulator singleThreadSimulator;
+    private ForkJoinPool singleThreadPool;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        board = new SnakesAndLaddersBoard();
+        engine = new GameEngine(board);
+        random = new SplittableRandom(42);
+        singleThreadPool = new ForkJoinPool(1);
+        singleThreadSimulator = new GameSimulator(board, singleThreadPool, GameSimulator.DEFAULT_MAX_TURNS);
+    }
+
+    @Benchmark
+    public int movePlayerGame() {
+        engine.resetGame();
+        int turns = 0;
+        while (!engine.isGameWon()) {
+            engine.movePlayer(random.nextInt(6) + 1);
+            turns++;
+        }
+        return turns;
+    }
+
+    @Benchmark
+    public int applyMoveGame() {
+        engine.resetGame();
+        int turns = 0;
+        while (!engine.isGameWon()) {
+            engine.applyMove(random.nextInt(6) + 1);
+            turns++;
+        }
+        return turns;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIMULATED_GAMES)
+    public SimulationResult simulatorGame() {
+        return singleThreadSimulator.simulate(SIMULATED_GAMES, seed++);
+    }
+}
@@ -0,0 +1,109 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.GameEventHub;
+import com.snakeladders.GameMoveEvent;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.OverflowPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishing moves through a {@link GameEventHub} with thousands of subscribers, nine in ten
+ * of which never request anything. Each subscriber follows its own game; a few more follow
+ * the whole board. The buffered event count printed at tear down stays within the
+ * subscribers times the buffer capacity, however many moves were published.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameEventHubBenchmark {
+
+    private static final int BUFFER_CAPACITY = 64;
+    private static final int BOARD_SUBSCRIBERS = 16;
+
+    @Param({"1000", "10000"})
+    public int games;
+
+    @Param({"COALESCE", "DROP_OLDEST"})
+    public String overflowPolicy;
+
+    private GameEventHub hub;
+    private int[] positions;
+    private int game;
+    private long delivered;
+
+    @Setup
+    public void setUp() {
+        hub = new GameEventHub(Runnable::run, BUFFER_CAPACITY, OverflowPolicy.valueOf(overflowPolicy));
+        positions = new int[games];
+        for (int i = 0; i < games; i++) {
+            hub.forGame(i).subscribe(new Subscriber(i % 10 == 0));
+        }
+        for (int i = 0; i < BOARD_SUBSCRIBERS; i++) {
+            hub.forBoard().subscribe(new Subscriber(i % 2 == 0));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n%d subscribers: %d events buffered (bound %d), %d dropped, %d delivered%n",
+                hub.getSubscriberCount(), hub.getBufferedEvents(),
+                (long) hub.getSubscriberCount() * BUFFER_CAPACITY, hub.getDroppedEvents(), delivered);
+        hub.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        game = game + 1 == games ? 0 : game + 1;
+        int from = positions[game];
+        int to = from == 99 ? 0 : from + 1;
+        positions[game] = to;
+        hub.publish(game, from, MoveOutcome.pack(to, MoveOutcome.MOVED, 1));
+    }
+
+    private final class Subscriber implements Flow.Subscriber<GameMoveEvent> {
+
+        private final boolean fast;
+
+        Subscriber(boolean fast) {
+            this.fast = fast;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (fast) {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(GameMoveEvent event) {
+            delivered++;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
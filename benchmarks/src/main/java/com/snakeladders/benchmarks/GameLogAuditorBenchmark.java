@@ -0,0 +1,88 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.AuditResult;
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameLogAuditor;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auditing a generated game log with {@link GameLogAuditor}, one record in ten thousand
+ * wrong. The log stays in the page cache between iterations, so this measures the parser
+ * rather than the disk; the read rate is printed at tear down.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameLogAuditorBenchmark {
+
+    @Param({"268435456"})
+    public long logBytes;
+
+    private final SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+    private final PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+    private GameLogAuditor auditor;
+    private Path log;
+    private AuditResult result;
+
+    @Setup
+    public void setUp() throws IOException {
+        auditor = new GameLogAuditor(board);
+        log = Files.createTempFile("snakeladders-audit", ".log");
+        SplittableRandom random = new SplittableRandom(42);
+        long written = 0;
+        long record = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(log)) {
+            while (written < logBytes) {
+                int position = random.nextInt(board.getSize());
+                int diceRoll = random.nextInt(1, 7);
+                int claimed = MoveOutcome.newPosition(GameEngine.step(board, position, diceRoll));
+                if (++record % 10_000 == 0) {
+                    claimed++;
+                }
+                String line = position + " " + diceRoll + " " + claimed + "\n";
+                writer.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        System.out.println();
+        result.describe().forEach(System.out::println);
+        Files.delete(log);
+    }
+
+    @Benchmark
+    public AuditResult audit() throws IOException {
+        result = auditor.audit(log, ForkJoinPool.commonPool(), discard);
+        return result;
+    }
+}
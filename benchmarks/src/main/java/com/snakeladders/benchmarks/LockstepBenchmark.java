@@ -0,0 +1,81 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.FastDiceSource;
+import com.snakeladders.GameEngine;
+import com.snakeladders.LockstepSimulator;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complete games on the standard board, played in lockstep with and without the Vector
+ * API, against one game per loop iteration through {@link GameEngine#step}. All variants
+ * take their rolls from {@link FastDiceSource}; scores are per game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class LockstepBenchmark {
+
+    private static final int GAMES = 1 << 16;
+    private static final int MAX_TURNS = 100_000;
+
+    private SnakesAndLaddersBoard board;
+    private LockstepSimulator vector;
+    private LockstepSimulator scalar;
+    private FastDiceSource dice;
+
+    @Setup
+    public void setUp() {
+        board = new SnakesAndLaddersBoard();
+        vector = new LockstepSimulator(board);
+        scalar = new LockstepSimulator(board, false);
+        if (!vector.isVectorized()) {
+            throw new IllegalStateException("Vector API not available");
+        }
+        dice = new FastDiceSource(42);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public int[] lockstepVector() {
+        return vector.playGames(GAMES, dice, MAX_TURNS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public int[] lockstepScalar() {
+        return scalar.playGames(GAMES, dice, MAX_TURNS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long gameAtATime() {
+        int boardSize = board.getSize();
+        long totalTurns = 0;
+        for (int game = 0; game < GAMES; game++) {
+            int position = SnakesAndLaddersBoard.START_POSITION;
+            while (position != boardSize) {
+                position = MoveOutcome.newPosition(GameEngine.step(board, position, dice.nextRoll()));
+                totalTurns++;
+            }
+        }
+        return totalTurns;
+    }
+}
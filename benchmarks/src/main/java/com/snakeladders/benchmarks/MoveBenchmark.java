@@ -0,0 +1,62 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameMoveResult;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single moves through {@link GameEngine#movePlayer} and {@link GameEngine#applyMove},
+ * covering the plain, ladder, snake, overshoot and win branches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveBenchmark {
+
+    /** Starting position and roll as "position:dice". */
+    @Param({"10:2", "34:3", "31:5", "95:6", "99:1"})
+    public String move;
+
+    private GameEngine engine;
+    private int position;
+    private int diceRoll;
+
+    @Setup
+    public void setUp() {
+        engine = new GameEngine(new SnakesAndLaddersBoard());
+        String[] parts = move.split(":");
+        position = Integer.parseInt(parts[0]);
+        diceRoll = Integer.parseInt(parts[1]);
+    }
+
+    @Benchmark
+    public GameMoveResult movePlayer() {
+        engine.resetGame();
+        engine.setCurrentPosition(position);
+        return engine.movePlayer(diceRoll);
+    }
+
+    @Benchmark
+    public long applyMove() {
+        engine.resetGame();
+        engine.setCurrentPosition(position);
+        return engine.applyMove(diceRoll);
+    }
+}
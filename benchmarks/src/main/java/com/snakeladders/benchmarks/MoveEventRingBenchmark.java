@@ -0,0 +1,78 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.MoveEventRing;
+import com.snakeladders.SnakesAndLaddersBoard;
+import com.snakeladders.WaitStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of publishing every move of a {@link GameEngine} to a {@link MoveEventRing} with
+ * one consumer, against the same moves with no ring attached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveEventRingBenchmark {
+
+    @Param({"YIELD", "PARK"})
+    public String waitStrategy;
+
+    private GameEngine plain;
+    private GameEngine publishing;
+    private MoveEventRing ring;
+    private long consumed;
+    private int roll;
+
+    @Setup
+    public void setUp() {
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        plain = new GameEngine(board);
+        publishing = new GameEngine(board);
+        ring = new MoveEventRing(MoveEventRing.DEFAULT_CAPACITY, WaitStrategy.valueOf(waitStrategy));
+        ring.addConsumer((event, sequence, endOfBatch) -> consumed += event.getDiceRoll());
+        ring.start();
+        publishing.setMoveEvents(ring, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ring.close();
+    }
+
+    private long play(GameEngine engine) {
+        roll = roll == 6 ? 1 : roll + 1;
+        long move = engine.applyMove(roll);
+        if (engine.isGameWon()) {
+            engine.resetGame();
+        }
+        return move;
+    }
+
+    @Benchmark
+    public long withoutEvents() {
+        return play(plain);
+    }
+
+    @Benchmark
+    public long withEvents() {
+        return play(publishing);
+    }
+}
@@ -0,0 +1,52 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.FastDiceSource;
+import com.snakeladders.GameRules;
+import com.snakeladders.MultiPlayerGame;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complete four-player games through {@link MultiPlayerGame} under the standard rules and
+ * under every variant at once; both run the same table-driven loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiPlayerBenchmark {
+
+    @Param({"standard", "variants"})
+    public String rules;
+
+    private MultiPlayerGame game;
+    private FastDiceSource dice;
+
+    @Setup
+    public void setUp() {
+        GameRules gameRules = "standard".equals(rules) ? GameRules.STANDARD : new GameRules(true, true, true, 2);
+        game = new MultiPlayerGame(new SnakesAndLaddersBoard(), gameRules, 4);
+        dice = new FastDiceSource(42);
+    }
+
+    @Benchmark
+    public int playGame() {
+        game.resetGame();
+        return game.playToEnd(dice, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.OffHeapGameArena;
+import com.snakeladders.PackedGameState;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves applied to randomly chosen games of a large {@link OffHeapGameArena}, comparable
+ * with {@link SessionStoreBenchmark}. Run with {@code -t} to play from several threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class OffHeapArenaBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Arena {
+
+        @Param({"1000000"})
+        public int games;
+
+        @Param({"4"})
+        public int players;
+
+        OffHeapGameArena arena;
+
+        @Setup
+        public void setUp() {
+            arena = new OffHeapGameArena(new SnakesAndLaddersBoard(), games);
+            for (int i = 0; i < games; i++) {
+                arena.createGame(players);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Dice {
+
+        SplittableRandom random = new SplittableRandom(Thread.currentThread().getId());
+    }
+
+    @Benchmark
+    public long applyMove(Arena state, Dice dice) {
+        long game = dice.random.nextInt(state.games);
+        long move = state.arena.applyMove(game, dice.random.nextInt(6) + 1);
+        if (PackedGameState.isWon(state.arena.getState(game))) {
+            state.arena.resetGame(game, state.players);
+        }
+        return move;
+    }
+}
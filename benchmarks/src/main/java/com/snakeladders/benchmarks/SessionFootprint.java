@@ -0,0 +1,53 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameSessionStore;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.lang.ref.Reference;
+
+/**
+ * Measures the retained heap per game of a {@link GameSessionStore} compared with one
+ * {@link GameEngine} per player.
+ * <p>
+ * Run with {@code java -Xmx4g -cp benchmarks/target/benchmarks.jar com.snakeladders.benchmarks.SessionFootprint [games] [players]}.
+ */
+public class SessionFootprint {
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+
+        long before = usedHeap();
+        GameSessionStore store = new GameSessionStore(board, players);
+        for (int i = 0; i < games; i++) {
+            store.createSession(players);
+        }
+        long storeBytes = usedHeap() - before;
+        System.out.printf("GameSessionStore: %d games x %d players, %.2f bytes/game (%d bytes/slot, capacity %d)%n",
+                games, players, (double) storeBytes / games, store.getBytesPerSession(), store.capacity());
+        Reference.reachabilityFence(store);
+        store = null;
+
+        int engineGames = Math.min(games, 2_000_000);
+        before = usedHeap();
+        GameEngine[] engines = new GameEngine[engineGames * players];
+        for (int i = 0; i < engines.length; i++) {
+            engines[i] = new GameEngine(board);
+        }
+        long engineBytes = usedHeap() - before;
+        System.out.printf("GameEngine per player: %d games x %d players, %.2f bytes/game%n",
+                engineGames, players, (double) engineBytes / engineGames);
+        Reference.reachabilityFence(engines);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
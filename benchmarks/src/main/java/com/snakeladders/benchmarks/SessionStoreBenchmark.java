@@ -0,0 +1,61 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.GameSessionStore;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves applied to randomly chosen sessions of a large {@link GameSessionStore}.
+ * See {@link SessionFootprint} for the memory used per game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class SessionStoreBenchmark {
+
+    @Param({"1000000"})
+    public int sessions;
+
+    @Param({"4"})
+    public int players;
+
+    private GameSessionStore store;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        store = new GameSessionStore(new SnakesAndLaddersBoard(), players);
+        for (int i = 0; i < sessions; i++) {
+            store.createSession(players);
+        }
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public long applyMove() {
+        int sessionId = random.nextInt(sessions);
+        long move = store.applyMove(sessionId, random.nextInt(6) + 1);
+        if (store.isGameWon(sessionId)) {
+            store.removeSession(sessionId);
+            store.createSession(players);
+        }
+        return move;
+    }
+}
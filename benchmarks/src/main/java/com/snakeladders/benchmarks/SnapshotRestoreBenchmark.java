@@ -0,0 +1,84 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.GameSessionStore;
+import com.snakeladders.GameSnapshot;
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to restore a large {@link GameSessionStore} from a {@link GameSnapshot}, and to
+ * write one.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class SnapshotRestoreBenchmark {
+
+    @Param({"10000000"})
+    public int sessions;
+
+    @Param({"4"})
+    public int players;
+
+    private SnakesAndLaddersBoard board;
+    private GameSessionStore store;
+    private Path file;
+    private Path writeFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        board = new SnakesAndLaddersBoard();
+        store = new GameSessionStore(board, players);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < sessions; i++) {
+            store.createSession(players);
+        }
+        for (int i = 0; i < sessions * 8; i++) {
+            int sessionId = random.nextInt(sessions);
+            if (!store.isGameWon(sessionId)) {
+                store.applyMove(sessionId, random.nextInt(6) + 1);
+            }
+        }
+
+        file = Files.createTempFile("snakes-ladders", ".snap");
+        GameSnapshot.write(store, file);
+        writeFile = Files.createTempFile("snakes-ladders", ".snap");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(writeFile);
+    }
+
+    @Benchmark
+    public GameSessionStore restore() throws IOException {
+        return GameSnapshot.restore(file, board);
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        GameSnapshot.write(store, writeFile);
+    }
+}
@@ -0,0 +1,85 @@
+package com.snakeladders.benchmarks;
+
+
+import com.snakeladders.SnakesAndLaddersBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board lookups on large boards with few jumps. The smaller board stays in the dense
+ * mode and the larger one switches to the sparse index; the map-based board is the
+ * baseline for both. One lookup in ten hits a jump.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class SparseBoardBenchmark {
+
+    private static final int QUERIES = 1 << 12;
+
+    @Param({"60000", "100000000"})
+    public int cells;
+
+    @Param({"4000"})
+    public int jumps;
+
+    private SnakesAndLaddersBoard board;
+    private BoardLookupBenchmark.MapBoard mapBoard;
+    private int[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Integer, Integer> ladders = new HashMap<>();
+        Map<Integer, Integer> snakes = new HashMap<>();
+        while (ladders.size() + snakes.size() < jumps) {
+            // Odd starts and even ends keep the jumps free of chains
+            int from = (1 + random.nextInt(cells - 2)) | 1;
+            int to = (1 + random.nextInt(cells - 2)) & ~1;
+            if (!ladders.containsKey(from) && !snakes.containsKey(from)) {
+                (to > from ? ladders : snakes).put(from, to);
+            }
+        }
+        board = new SnakesAndLaddersBoard(cells, ladders, snakes);
+        mapBoard = new BoardLookupBenchmark.MapBoard(board);
+
+        Integer[] sources = ladders.keySet().toArray(new Integer[0]);
+        queries = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = random.nextInt(10) == 0 ? sources[random.nextInt(sources.length)] : random.nextInt(cells);
+        }
+    }
+
+    @Benchmark
+    public int finalPosition() {
+        return board.getFinalPosition(queries[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public byte cellKind() {
+        return board.getCellKind(queries[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public int mapFinalPosition() {
+        return mapBoard.getFinalPosition(queries[next++ & (QUERIES - 1)]);
+    }
+}
@@ -0,0 +1,102 @@
+package com.snakeladders;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Totals of a game log audit.
+ */
+public class AuditResult {
+
+    private final long records;
+    private final long mismatches;
+    private final long bytes;
+    private final int chunks;
+    private final long elapsedNanos;
+
+    /**
+     * Create an audit result.
+     *
+     * @param records Number of records checked
+     * @param mismatches Number of records that do not match the move rules or are malformed
+     * @param bytes Size of the log in bytes
+     * @param chunks Number of chunks the log was split into
+     * @param elapsedNanos Wall-clock duration of the audit
+     */
+    AuditResult(long records, long mismatches, long bytes, int chunks, long elapsedNanos) {
+        this.records = records;
+        this.mismatches = mismatches;
+        this.bytes = bytes;
+        this.chunks = chunks;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get the number of records checked.
+     *
+     * @return Number of records
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Get the number of records that do not match the move rules or are malformed.
+     *
+     * @return Number of mismatches
+     */
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    /**
+     * Get the size of the log.
+     *
+     * @return Size in bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Get the number of chunks the log was split into.
+     *
+     * @return Number of chunks
+     */
+    public int getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Get the wall-clock duration of the audit.
+     *
+     * @return Duration in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get the rate at which the log was read.
+     *
+     * @return Gigabytes (10^9 bytes) per second
+     */
+    public double getGigabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (double) bytes / elapsedNanos;
+    }
+
+    /**
+     * Describe the audit in human-readable lines.
+     *
+     * @return Report lines
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Records audited: %d (%d mismatches)", records, mismatches));
+        lines.add(String.format("Log size: %.1f MB in %d chunks", bytes / 1e6, chunks));
+        lines.add(String.format("Throughput: %.2f GB/s (%.0f records/sec)", getGigabytesPerSecond(),
+                records / (Math.max(elapsedNanos, 1) / 1e9)));
+        return lines;
+    }
+}
@@ -0,0 +1,231 @@
+package com.snakeladders;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams many moves through the engine in one process.
+ * <p>
+ * Each input line holds a starting position followed by one or more dice rolls,
+ * separated by spaces, tabs or commas. A line with a single roll is scored exactly like
+ * one command-line launch; further rolls continue the same game from the resulting
+ * position. Every move is printed exactly as {@link GameInterface#playCommandLineMove}
+ * prints it. Input is parsed straight from bytes and output is formatted into one large
+ * buffer, so no strings are created per move.
+ */
+public class BatchMoveProcessor {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final byte[] INPUT_PREFIX = ascii("Input - Current position: ");
+    private static final byte[] DICE_PREFIX = ascii(", Dice outcome: ");
+    private static final byte[] OUTPUT_PREFIX = ascii("Output - New position: ");
+    private static final byte[] DICE_ERROR_PREFIX = ascii("Error: Invalid dice roll: ");
+    private static final byte[] DICE_ERROR_SUFFIX = ascii(". Must be between 1 and 6.");
+    private static final byte[] WON_MESSAGE = ascii(MoveOutcome.message(
+            MoveOutcome.pack(0, MoveOutcome.WON, 1), 0));
+    private static final byte[] ALREADY_WON_MESSAGE = ascii(MoveOutcome.message(
+            MoveOutcome.pack(0, MoveOutcome.ALREADY_WON, 1), 0));
+
+    private final GameEngine engine;
+
+    private final byte[] output = new byte[BUFFER_SIZE];
+    private int outputLength;
+    private OutputStream out;
+
+    private long moves;
+    private long lineNumber;
+    private int tokenIndex;
+    private int startPosition;
+    private boolean lineError;
+
+    /**
+     * Create a batch processor for a board.
+     *
+     * @param board The game board
+     */
+    public BatchMoveProcessor(SnakesAndLaddersBoard board) {
+        this.engine = new GameEngine(board);
+    }
+
+    /**
+     * Score every line of the input.
+     *
+     * @param in Input with one game per line
+     * @param out Destination of the move output
+     * @param err Destination of messages about malformed lines; moves before a malformed
+     *            line are written to the output first, so the two may share one stream
+     * @return Number of moves scored
+     * @throws IOException if reading or writing fails
+     */
+    public long process(InputStream in, OutputStream out, PrintStream err) throws IOException {
+        this.out = out;
+        this.outputLength = 0;
+        this.moves = 0;
+        this.lineNumber = 1;
+        this.tokenIndex = 0;
+        this.lineError = false;
+
+        byte[] input = new byte[BUFFER_SIZE];
+        boolean inNumber = false;
+        boolean negative = false;
+        boolean hasDigits = false;
+        int value = 0;
+
+        int read;
+        while ((read = in.read(input)) != -1) {
+            for (int i = 0; i < read; i++) {
+                byte b = input[i];
+                if (b >= '0' && b <= '9') {
+                    int digit = b - '0';
+                    if (value > (Integer.MAX_VALUE - digit) / 10) {
+                        lineError = true;
+                    }
+                    value = value * 10 + digit;
+                    inNumber = true;
+                    hasDigits = true;
+                } else if (b == '-' && !inNumber) {
+                    inNumber = true;
+                    negative = true;
+                } else if (b == ' ' || b == '\t' || b == ',' || b == '\r' || b == '\n') {
+                    if (inNumber) {
+                        endToken(hasDigits, negative ? -value : value, err);
+                        inNumber = false;
+                        negative = false;
+                        hasDigits = false;
+                        value = 0;
+                    }
+                    if (b == '\n') {
+                        endLine(err);
+                    }
+                } else {
+                    lineError = true;
+                }
+            }
+        }
+        if (inNumber) {
+            endToken(hasDigits, negative ? -value : value, err);
+        }
+        endLine(err);
+
+        flush();
+        out.flush();
+        return moves;
+    }
+
+    private void endToken(boolean hasDigits, int value, PrintStream err) throws IOException {
+        if (!hasDigits) {
+            lineError = true;
+        }
+        if (lineError) {
+            return;
+        }
+
+        if (tokenIndex == 0) {
+            startPosition = value;
+            engine.resetGame();
+            engine.setCurrentPosition(value);
+        } else {
+            // The first move reports the position as given, like the command line does
+            int reportedPosition = tokenIndex == 1 ? startPosition : engine.getCurrentPosition();
+            playMove(reportedPosition, value);
+        }
+        tokenIndex++;
+    }
+
+    private void playMove(int reportedPosition, int diceRoll) throws IOException {
+        if (!GameEngine.isValidDiceRoll(diceRoll)) {
+            write(DICE_ERROR_PREFIX);
+            writeInt(diceRoll);
+            write(DICE_ERROR_SUFFIX);
+            writeNewline();
+            return;
+        }
+
+        long move = engine.applyMove(diceRoll);
+        moves++;
+
+        write(INPUT_PREFIX);
+        writeInt(reportedPosition);
+        write(DICE_PREFIX);
+        writeInt(diceRoll);
+        writeNewline();
+        write(OUTPUT_PREFIX);
+        writeInt(MoveOutcome.newPosition(move));
+        writeNewline();
+
+        int outcome = MoveOutcome.outcome(move);
+        if (outcome == MoveOutcome.WON) {
+            write(WON_MESSAGE);
+            writeNewline();
+        } else if (outcome == MoveOutcome.ALREADY_WON) {
+            write(ALREADY_WON_MESSAGE);
+            writeNewline();
+        }
+    }
+
+    private void endLine(PrintStream err) throws IOException {
+        if (lineError) {
+            reportError(err, "Error: Invalid number format on line " + lineNumber + ".");
+        } else if (tokenIndex == 1) {
+            reportError(err, "Error: Missing dice roll on line " + lineNumber + ".");
+        }
+        lineNumber++;
+        tokenIndex = 0;
+        lineError = false;
+    }
+
+    private void reportError(PrintStream err, String message) throws IOException {
+        flush();
+        out.flush();
+        err.println(message);
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        if (outputLength + bytes.length > output.length) {
+            flush();
+        }
+        System.arraycopy(bytes, 0, output, outputLength, bytes.length);
+        outputLength += bytes.length;
+    }
+
+    private void writeNewline() throws IOException {
+        if (outputLength == output.length) {
+            flush();
+        }
+        output[outputLength++] = '\n';
+    }
+
+    private void writeInt(int value) throws IOException {
+        if (outputLength + 11 > output.length) {
+            flush();
+        }
+        long remaining = value;
+        if (remaining < 0) {
+            output[outputLength++] = '-';
+            remaining = -remaining;
+        }
+        int digits = 1;
+        for (long limit = 10; limit <= remaining; limit *= 10) {
+            digits++;
+        }
+        for (int i = outputLength + digits - 1; i >= outputLength; i--) {
+            output[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        outputLength += digits;
+    }
+
+    private void flush() throws IOException {
+        out.write(output, 0, outputLength);
+        outputLength = 0;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,148 @@
+package com.snakeladders;
+
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of compiled boards keyed by the hash of their file content.
+ * <p>
+ * Loading the same board twice returns the same instance, so sessions sharing a board
+ * also share its compiled tables. The least recently used board is evicted once the
+ * cache is full. The cache is thread-safe.
+ */
+public class BoardCache {
+
+    /** Default maximum number of cached boards. */
+    public static final int DEFAULT_MAX_BOARDS = 64;
+
+    private final Map<ContentKey, SnakesAndLaddersBoard> boards;
+    private long hits;
+    private long misses;
+
+    /**
+     * Create a cache holding up to {@link #DEFAULT_MAX_BOARDS} boards.
+     */
+    public BoardCache() {
+        this(DEFAULT_MAX_BOARDS);
+    }
+
+    /**
+     * Create a cache.
+     *
+     * @param maxBoards Maximum number of cached boards
+     */
+    public BoardCache(int maxBoards) {
+        if (maxBoards < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one board: " + maxBoards);
+        }
+        this.boards = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ContentKey, SnakesAndLaddersBoard> eldest) {
+                return size() > maxBoards;
+            }
+        };
+    }
+
+    /**
+     * Load a board file, compiling it only if the same content is not cached yet.
+     *
+     * @param file The board file
+     * @return The compiled board
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file describes an invalid board
+     */
+    public SnakesAndLaddersBoard load(Path file) throws IOException {
+        return get(Files.readAllBytes(file));
+    }
+
+    /**
+     * Get the board for file content, compiling it only if it is not cached yet.
+     *
+     * @param content The board file content, in either {@link BoardLoader} format
+     * @return The compiled board
+     * @throws IllegalArgumentException if the content describes an invalid board
+     */
+    public SnakesAndLaddersBoard get(byte[] content) {
+        ContentKey key = new ContentKey(sha256(content));
+        synchronized (this) {
+            SnakesAndLaddersBoard board = boards.get(key);
+            if (board != null) {
+                hits++;
+                return board;
+            }
+            misses++;
+        }
+
+        // Compile outside the lock; if two threads race, the first board stored wins
+        SnakesAndLaddersBoard compiled = BoardLoader.parse(content);
+        synchronized (this) {
+            return boards.computeIfAbsent(key, ignored -> compiled);
+        }
+    }
+
+    /**
+     * Get the number of cached boards.
+     *
+     * @return Number of boards
+     */
+    public synchronized int size() {
+        return boards.size();
+    }
+
+    /**
+     * Get the number of loads answered from the cache.
+     *
+     * @return Number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of loads that compiled a board.
+     *
+     * @return Number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Content hash usable as a map key.
+     */
+    private static final class ContentKey {
+
+        private final byte[] hash;
+        private final int hashCode;
+
+        ContentKey(byte[] hash) {
+            this.hash = hash;
+            this.hashCode = Arrays.hashCode(hash);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ContentKey && Arrays.equals(hash, ((ContentKey) other).hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
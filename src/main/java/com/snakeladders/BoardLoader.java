@@ -0,0 +1,203 @@
+package com.snakeladders;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Loads custom boards from text or binary files.
+ * <p>
+ * The text format has one entry per line; blank lines and lines starting with {@code #}
+ * are ignored:
+ * <pre>
+ *   size 100
+ *   ladder 7 33
+ *   snake 36 19
+ * </pre>
+ * The binary format is the magic bytes {@code SLB1} followed by big-endian ints: the
+ * board size, the number of ladders, the number of snakes, and then a from/to pair for
+ * each ladder and each snake. Either way the board is validated and compiled by
+ * {@link SnakesAndLaddersBoard#SnakesAndLaddersBoard(int, Map, Map)}.
+ */
+public final class BoardLoader {
+
+    private static final byte[] BINARY_MAGIC = {'S', 'L', 'B', '1'};
+
+    private BoardLoader() {
+    }
+
+    /**
+     * Load a board file in either format.
+     *
+     * @param file The board file
+     * @return The compiled board
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is malformed or describes an invalid board
+     */
+    public static SnakesAndLaddersBoard load(Path file) throws IOException {
+        return parse(Files.readAllBytes(file));
+    }
+
+    /**
+     * Parse a board in either format.
+     *
+     * @param content The file content
+     * @return The compiled board
+     * @throws IllegalArgumentException if the content is malformed or describes an invalid board
+     */
+    public static SnakesAndLaddersBoard parse(byte[] content) {
+        return isBinary(content) ? parseBinary(content) : parseText(new String(content, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a board in the text format.
+     *
+     * @param text The board description
+     * @return The compiled board
+     * @throws IllegalArgumentException if the text is malformed or describes an invalid board
+     */
+    public static SnakesAndLaddersBoard parseText(String text) {
+        int size = -1;
+        Map<Integer, Integer> ladders = new HashMap<>();
+        Map<Integer, Integer> snakes = new HashMap<>();
+
+        String[] lines = text.split("\\R");
+        for (int lineNumber = 1; lineNumber <= lines.length; lineNumber++) {
+            String line = lines[lineNumber - 1].trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] parts = line.split("\\s+");
+            try {
+                switch (parts[0].toLowerCase()) {
+                    case "size":
+                        requireFields(parts, 2, lineNumber);
+                        size = Integer.parseInt(parts[1]);
+                        break;
+                    case "ladder":
+                        requireFields(parts, 3, lineNumber);
+                        putJump(ladders, snakes, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), lineNumber);
+                        break;
+                    case "snake":
+                        requireFields(parts, 3, lineNumber);
+                        putJump(snakes, ladders, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), lineNumber);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown entry on line " + lineNumber + ": " + parts[0]);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number format on line " + lineNumber + ".");
+            }
+        }
+
+        if (size < 0) {
+            throw new IllegalArgumentException("Board file has no size entry");
+        }
+        return new SnakesAndLaddersBoard(size, ladders, snakes);
+    }
+
+    private static SnakesAndLaddersBoard parseBinary(byte[] content) {
+        ByteBuffer buffer = ByteBuffer.wrap(content, BINARY_MAGIC.length, content.length - BINARY_MAGIC.length);
+        try {
+            int size = buffer.getInt();
+            int ladderCount = buffer.getInt();
+            int snakeCount = buffer.getInt();
+            if (ladderCount < 0 || snakeCount < 0
+                    || (ladderCount + (long) snakeCount) * 2 * Integer.BYTES != buffer.remaining()) {
+                throw new IllegalArgumentException("Binary board has an invalid length");
+            }
+
+            Map<Integer, Integer> ladders = new HashMap<>();
+            Map<Integer, Integer> snakes = new HashMap<>();
+            for (int i = 0; i < ladderCount; i++) {
+                putJump(ladders, snakes, buffer.getInt(), buffer.getInt(), -1);
+            }
+            for (int i = 0; i < snakeCount; i++) {
+                putJump(snakes, ladders, buffer.getInt(), buffer.getInt(), -1);
+            }
+            return new SnakesAndLaddersBoard(size, ladders, snakes);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Binary board is truncated");
+        }
+    }
+
+    /**
+     * Encode a board in the binary format.
+     *
+     * @param board The board
+     * @return The encoded board
+     */
+    public static byte[] toBinary(SnakesAndLaddersBoard board) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(BINARY_MAGIC);
+            out.writeInt(board.getSize());
+            out.writeInt(board.getLadders().size());
+            out.writeInt(board.getSnakes().size());
+            for (Map.Entry<Integer, Integer> ladder : new TreeMap<>(board.getLadders()).entrySet()) {
+                out.writeInt(ladder.getKey());
+                out.writeInt(ladder.getValue());
+            }
+            for (Map.Entry<Integer, Integer> snake : new TreeMap<>(board.getSnakes()).entrySet()) {
+                out.writeInt(snake.getKey());
+                out.writeInt(snake.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encode a board in the text format.
+     *
+     * @param board The board
+     * @return The board description
+     */
+    public static String toText(SnakesAndLaddersBoard board) {
+        StringBuilder text = new StringBuilder("size ").append(board.getSize()).append('\n');
+        new TreeMap<>(board.getLadders()).forEach((from, to) ->
+                text.append("ladder ").append(from).append(' ').append(to).append('\n'));
+        new TreeMap<>(board.getSnakes()).forEach((from, to) ->
+                text.append("snake ").append(from).append(' ').append(to).append('\n'));
+        return text.toString();
+    }
+
+    private static boolean isBinary(byte[] content) {
+        if (content.length < BINARY_MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < BINARY_MAGIC.length; i++) {
+            if (content[i] != BINARY_MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void requireFields(String[] parts, int count, int lineNumber) {
+        if (parts.length != count) {
+            throw new IllegalArgumentException("Expected " + (count - 1) + " numbers on line " + lineNumber + ".");
+        }
+    }
+
+    private static void putJump(Map<Integer, Integer> jumps, Map<Integer, Integer> otherJumps, int from, int to,
+                                int lineNumber) {
+        if (jumps.containsKey(from) || otherJumps.containsKey(from)) {
+            throw new IllegalArgumentException("Jumps overlap at " + from
+                    + (lineNumber > 0 ? " on line " + lineNumber + "." : ""));
+        }
+        jumps.put(from, to);
+    }
+}
@@ -0,0 +1,93 @@
+package com.snakeladders;
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts how often moves land on each cell of one board, for {@link EngineMetrics}.
+ * <p>
+ * Boards of up to {@link #MAX_BINS} cells get one counter per cell; on larger boards
+ * each counter covers a power-of-two run of cells, so the heatmap stays small whatever
+ * the board size. Every counter is striped like the other engine metrics: a thread only
+ * increments the copy of its stripe, and the copies are summed when read.
+ */
+final class CellHeatmap {
+
+    /** Largest number of counters per stripe. */
+    static final int MAX_BINS = 1 << 10;
+
+    private final int boardId;
+    private final int boardSize;
+    private final int binShift;
+    private final int bins;
+    private final AtomicLongArray counts;
+
+    /**
+     * Create an empty heatmap.
+     *
+     * @param boardId Number identifying the board in reports
+     * @param boardSize Number of cells of the board
+     * @param stripes Number of stripes
+     */
+    CellHeatmap(int boardId, int boardSize, int stripes) {
+        this.boardId = boardId;
+        this.boardSize = boardSize;
+        int shift = 0;
+        while ((boardSize >>> shift) >= MAX_BINS) {
+            shift++;
+        }
+        this.binShift = shift;
+        this.bins = (boardSize >>> shift) + 1;
+        this.counts = new AtomicLongArray(stripes * bins);
+    }
+
+    /**
+     * Count a landing on a cell.
+     *
+     * @param stripe Stripe of the calling thread
+     * @param cell The cell landed on
+     */
+    void record(int stripe, int cell) {
+        counts.getAndIncrement(stripe * bins + (cell >>> binShift));
+    }
+
+    /**
+     * Get the landings summed over all stripes.
+     *
+     * @return Landings per bin; bin {@code i} covers the cells starting at {@code i << getBinShift()}
+     */
+    long[] getCounts() {
+        long[] total = new long[bins];
+        for (int index = 0; index < counts.length(); index++) {
+            total[index % bins] += counts.get(index);
+        }
+        return total;
+    }
+
+    /**
+     * Get the number of bits a cell is shifted right by to find its bin.
+     *
+     * @return 0 if every cell has its own counter
+     */
+    int getBinShift() {
+        return binShift;
+    }
+
+    /**
+     * Get the number identifying the board in reports.
+     *
+     * @return Board number, starting at 1
+     */
+    int getBoardId() {
+        return boardId;
+    }
+
+    /**
+     * Get the number of cells of the board.
+     *
+     * @return Board size
+     */
+    int getBoardSize() {
+        return boardSize;
+    }
+}
@@ -0,0 +1,166 @@
+package com.snakeladders;
+
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A rule combination compiled for one board into flat lookup tables.
+ * <p>
+ * Every (position, roll) pair maps to a packed move as described in {@link MoveOutcome},
+ * with the overshoot or bounce-back rule and the snakes and ladders already applied. The
+ * turn rules become plain numbers: the roll that gives an extra turn (or one no die can
+ * show) and the number of such rolls after which the turn is forfeited (or one that is
+ * never reached). A game loop therefore only does table reads and comparisons, whatever
+ * rules were chosen.
+ */
+public final class CompiledRules {
+
+    /** Largest board that can be compiled. */
+    public static final int MAX_CELLS = 1 << 20;
+
+    /** Maximum number of compiled combinations kept by {@link #forBoard}. */
+    public static final int MAX_CACHED_RULES = 64;
+
+    private static final Map<List<Object>, CompiledRules> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, CompiledRules> eldest) {
+            return size() > MAX_CACHED_RULES;
+        }
+    };
+
+    private final SnakesAndLaddersBoard board;
+    private final GameRules rules;
+    private final int boardSize;
+    private final int minRoll;
+    private final int maxRoll;
+    private final int rollsPerCell;
+    private final int extraTurnRoll;
+    private final int forfeitRolls;
+    private final long[] moves;
+
+    /**
+     * Compile a rule combination for a board.
+     *
+     * @param board The game board
+     * @param rules The rule combination
+     * @throws IllegalArgumentException if the board is larger than {@link #MAX_CELLS}
+     */
+    public CompiledRules(SnakesAndLaddersBoard board, GameRules rules) {
+        this.board = board;
+        this.rules = rules;
+        this.boardSize = board.getSize();
+        if (boardSize > MAX_CELLS) {
+            throw new IllegalArgumentException("Board too large to compile rules for: " + boardSize);
+        }
+        this.minRoll = rules.getMinRoll();
+        this.maxRoll = rules.getMaxRoll();
+        this.rollsPerCell = maxRoll - minRoll + 1;
+        this.extraTurnRoll = rules.isExtraTurnOnSix() ? maxRoll : 0;
+        this.forfeitRolls = rules.isForfeitOnThreeSixes() ? GameRules.FORFEIT_ROLLS : Integer.MAX_VALUE;
+
+        this.moves = new long[(boardSize + 1) * rollsPerCell];
+        for (int position = 0; position <= boardSize; position++) {
+            for (int roll = minRoll; roll <= maxRoll; roll++) {
+                moves[position * rollsPerCell + roll - minRoll] = compileMove(position, roll);
+            }
+        }
+    }
+
+    /**
+     * Get the shared compiled rules for a board, compiling them on first use.
+     *
+     * @param board The game board
+     * @param rules The rule combination
+     * @return The compiled rules
+     */
+    public static CompiledRules forBoard(SnakesAndLaddersBoard board, GameRules rules) {
+        synchronized (CACHE) {
+            return CACHE.computeIfAbsent(List.of(board, rules), key -> new CompiledRules(board, rules));
+        }
+    }
+
+    private long compileMove(int position, int roll) {
+        int landing = position + roll;
+        if (landing <= boardSize || !rules.isBounceBack()) {
+            // Within the board, or overshooting under the standard rule
+            return GameEngine.step(board, position, roll);
+        }
+
+        // Reflect off the last cell, and off the start on boards shorter than a roll
+        while (landing > boardSize || landing < 0) {
+            landing = landing > boardSize ? 2 * boardSize - landing : -landing;
+        }
+        int finalPosition = board.getFinalPosition(landing);
+        if (finalPosition == boardSize) {
+            return MoveOutcome.pack(finalPosition, MoveOutcome.WON, roll);
+        }
+        return MoveOutcome.pack(finalPosition, MoveOutcome.BOUNCED, roll);
+    }
+
+    /**
+     * Get the packed move for a roll from a position.
+     *
+     * @param position The position before the move
+     * @param roll The roll, between {@link #getMinRoll()} and {@link #getMaxRoll()}
+     * @return The packed move
+     */
+    public long move(int position, int roll) {
+        return moves[position * rollsPerCell + roll - minRoll];
+    }
+
+    /**
+     * Get the roll that gives an extra turn.
+     *
+     * @return The highest roll, or 0 if no roll gives an extra turn
+     */
+    public int getExtraTurnRoll() {
+        return extraTurnRoll;
+    }
+
+    /**
+     * Get the number of extra-turn rolls in a row that forfeits the turn.
+     *
+     * @return Number of rolls, or {@link Integer#MAX_VALUE} if turns are never forfeited
+     */
+    public int getForfeitRolls() {
+        return forfeitRolls;
+    }
+
+    /**
+     * Get the smallest possible roll.
+     *
+     * @return The smallest roll
+     */
+    public int getMinRoll() {
+        return minRoll;
+    }
+
+    /**
+     * Get the highest possible roll.
+     *
+     * @return The highest roll
+     */
+    public int getMaxRoll() {
+        return maxRoll;
+    }
+
+    /**
+     * Get the game board.
+     *
+     * @return The game board instance
+     */
+    public SnakesAndLaddersBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Get the compiled rule combination.
+     *
+     * @return The rules
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+}
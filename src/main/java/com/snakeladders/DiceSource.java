@@ -0,0 +1,36 @@
+package com.snakeladders;
+
+
+/**
+ * Supplies dice rolls to a {@link GameEngine}.
+ * <p>
+ * Implementations are not required to be thread-safe; each game or worker thread should
+ * use its own source.
+ *
+ * @see SeededDiceSource
+ * @see ReplayDiceSource
+ * @see FastDiceSource
+ */
+public interface DiceSource {
+
+    /**
+     * Get the next dice roll.
+     *
+     * @return A roll between 1 and 6
+     */
+    int nextRoll();
+
+    /**
+     * Fill part of a buffer with dice rolls. The rolls are the same as those of as many
+     * calls to {@link #nextRoll()}.
+     *
+     * @param rolls Buffer to fill
+     * @param offset First index to fill
+     * @param length Number of rolls
+     */
+    default void nextRolls(byte[] rolls, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            rolls[i] = (byte) nextRoll();
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.snakeladders;
+
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Runtime metrics of the {@link GameEngine}: moves by outcome, move latencies and a
+ * heatmap of the cells landed on for every board.
+ * <p>
+ * Metrics are switched on for the whole JVM with {@code -Dsnakeladders.metrics=true}.
+ * The switch is read once into a constant, so when it is off the JIT compiler removes
+ * the instrumentation from the move path entirely. When it is on, every counter is
+ * striped: a thread increments the copy of its own stripe, picked from its thread id,
+ * so threads do not fight over cache lines, and the copies are only summed when read.
+ * Latency is timed on a random one in {@value #DEFAULT_SAMPLE_INTERVAL} moves (see
+ * {@code -Dsnakeladders.metrics.sampleInterval}), because reading the clock costs more
+ * than a move.
+ * <p>
+ * While enabled, the metrics are registered as the MXBean {@value #OBJECT_NAME}, and
+ * {@code -Dsnakeladders.metrics.dumpMillis} prints them to standard error periodically.
+ */
+public final class EngineMetrics {
+
+    /** System property that enables the metrics. */
+    public static final String ENABLED_PROPERTY = "snakeladders.metrics";
+    /** System property holding the number of moves per latency sample, rounded down to a power of two. */
+    public static final String SAMPLE_INTERVAL_PROPERTY = "snakeladders.metrics.sampleInterval";
+    /** System property holding the interval of the text dump in milliseconds; no dump if unset. */
+    public static final String DUMP_INTERVAL_PROPERTY = "snakeladders.metrics.dumpMillis";
+    /** Name of the registered MXBean. */
+    public static final String OBJECT_NAME = "com.snakeladders:type=EngineMetrics";
+    /** Default number of moves per latency sample. */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+
+    /** Whether the engine records metrics; constant so the disabled path compiles away. */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    /** Number of moves per latency sample, a power of two. */
+    static final int SAMPLE_INTERVAL =
+            Integer.highestOneBit(Math.max(1, Integer.getInteger(SAMPLE_INTERVAL_PROPERTY, DEFAULT_SAMPLE_INTERVAL)));
+    /** Number of counter stripes, a power of two. */
+    static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1);
+    /** Start time of a move whose latency is not sampled. */
+    static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    // Outcomes the engine can produce, MOVED to ALREADY_WON
+    private static final int OUTCOMES = MoveOutcome.ALREADY_WON + 1;
+    // Keeps the outcome counters of neighbouring stripes on different cache lines
+    private static final int PADDING = 8;
+    private static final int HOT_CELLS = 5;
+
+    private static final Stripe[] STRIPE_TABLE = IntStream.range(0, STRIPES)
+            .mapToObj(stripe -> new Stripe()).toArray(Stripe[]::new);
+    private static final List<WeakReference<CellHeatmap>> HEATMAPS = new ArrayList<>();
+    private static int boardsSeen;
+    private static ScheduledExecutorService dumper;
+
+    static {
+        if (ENABLED) {
+            registerMBean();
+            long dumpMillis = Long.getLong(DUMP_INTERVAL_PROPERTY, 0);
+            if (dumpMillis > 0) {
+                startDump(System.err, dumpMillis);
+            }
+        }
+    }
+
+    private EngineMetrics() {
+    }
+
+    /**
+     * Check if metrics are recorded in this JVM.
+     *
+     * @return true if {@value #ENABLED_PROPERTY} was set when the class was loaded
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Decide whether to time the next move of the calling thread and, if so, read the clock.
+     *
+     * @return The start time of the move, or {@link #NOT_SAMPLED}
+     */
+    static long startMove() {
+        if ((ThreadLocalRandom.current().nextInt() & (SAMPLE_INTERVAL - 1)) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a move made by the engine.
+     *
+     * @param board The board the move was made on
+     * @param fromPosition The position before the move
+     * @param move The packed move
+     * @param start The value returned by {@link #startMove()} before the move
+     */
+    static void recordMove(SnakesAndLaddersBoard board, int fromPosition, long move, long start) {
+        int stripe = stripe();
+        int outcome = MoveOutcome.outcome(move);
+        Stripe counters = STRIPE_TABLE[stripe];
+        counters.outcomes.getAndIncrement(PADDING + outcome);
+        if (outcome != MoveOutcome.OVERSHOOT && outcome != MoveOutcome.ALREADY_WON) {
+            board.heatmap().record(stripe, fromPosition + MoveOutcome.diceRoll(move));
+        }
+        if (start != NOT_SAMPLED) {
+            counters.recordLatency(System.nanoTime() - start);
+        }
+    }
+
+    private static int stripe() {
+        return (int) Thread.currentThread().getId() & (STRIPES - 1);
+    }
+
+    /**
+     * Create the heatmap of a board and list it for reporting.
+     *
+     * @param boardSize Number of cells of the board
+     * @return A new heatmap
+     */
+    static CellHeatmap newHeatmap(int boardSize) {
+        synchronized (HEATMAPS) {
+            CellHeatmap heatmap = new CellHeatmap(++boardsSeen, boardSize, STRIPES);
+            HEATMAPS.add(new WeakReference<>(heatmap));
+            return heatmap;
+        }
+    }
+
+    /**
+     * Get the number of moves recorded.
+     *
+     * @return Number of moves
+     */
+    public static long getMoves() {
+        long moves = 0;
+        for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+            moves += getMoves(outcome);
+        }
+        return moves;
+    }
+
+    /**
+     * Get the number of moves recorded with an outcome.
+     *
+     * @param outcome The outcome code, see {@link MoveOutcome}
+     * @return Number of moves, 0 for outcomes the engine does not produce
+     */
+    public static long getMoves(int outcome) {
+        if (outcome < 0 || outcome >= OUTCOMES) {
+            return 0;
+        }
+        long moves = 0;
+        for (Stripe stripe : STRIPE_TABLE) {
+            moves += stripe.outcomes.get(PADDING + outcome);
+        }
+        return moves;
+    }
+
+    /**
+     * Get the latencies of the sampled moves.
+     *
+     * @return A new histogram holding all samples so far
+     */
+    public static LatencyHistogram getLatencies() {
+        LatencyHistogram latencies = new LatencyHistogram();
+        long[] buckets = new long[LatencyHistogram.BUCKETS];
+        for (Stripe stripe : STRIPE_TABLE) {
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                buckets[bucket] = stripe.latencyBuckets.get(bucket);
+            }
+            latencies.merge(buckets, stripe.latencySum.get(), stripe.latencyMax.get());
+        }
+        return latencies;
+    }
+
+    /**
+     * Get the number of landings on each cell of a board.
+     *
+     * @param board The game board
+     * @return Landings indexed by cell; boards larger than {@value CellHeatmap#MAX_BINS} cells
+     *         are grouped into runs of cells, as described in {@link CellHeatmap}
+     */
+    public static long[] getHeatmap(SnakesAndLaddersBoard board) {
+        return board.heatmap().getCounts();
+    }
+
+    /**
+     * Describe the metrics as printable report lines.
+     *
+     * @return Report lines
+     */
+    public static List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        StringBuilder moves = new StringBuilder(String.format("Moves: %d (", getMoves()));
+        for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+            moves.append(outcome == 0 ? "" : ", ").append(MoveOutcome.name(outcome)).append(' ').append(getMoves(outcome));
+        }
+        lines.add(moves.append(')').toString());
+
+        LatencyHistogram latencies = getLatencies();
+        lines.add(String.format("Latency (1 in %d moves, %d samples): mean=%.0fns p50=%dns p99=%dns p99.9=%dns max=%dns",
+                SAMPLE_INTERVAL, latencies.getCount(), latencies.getMeanNanos(), latencies.getPercentileNanos(50),
+                latencies.getPercentileNanos(99), latencies.getPercentileNanos(99.9), latencies.getMaxNanos()));
+
+        lines.addAll(Arrays.asList(hotCells()));
+        return lines;
+    }
+
+    private static String[] hotCells() {
+        List<String> lines = new ArrayList<>();
+        for (CellHeatmap heatmap : liveHeatmaps()) {
+            long[] counts = heatmap.getCounts();
+            int shift = heatmap.getBinShift();
+            StringBuilder line = new StringBuilder(String.format("Board %d (%d cells) hot %s:",
+                    heatmap.getBoardId(), heatmap.getBoardSize(), shift == 0 ? "cells" : "runs of " + (1 << shift)));
+            IntStream.range(0, counts.length).boxed()
+                    .filter(bin -> counts[bin] > 0)
+                    .sorted((a, b) -> Long.compare(counts[b], counts[a]))
+                    .limit(HOT_CELLS)
+                    .forEach(bin -> line.append(' ').append(bin << shift).append('=').append(counts[bin]));
+            lines.add(line.toString());
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    private static List<CellHeatmap> liveHeatmaps() {
+        synchronized (HEATMAPS) {
+            List<CellHeatmap> live = new ArrayList<>();
+            for (Iterator<WeakReference<CellHeatmap>> it = HEATMAPS.iterator(); it.hasNext(); ) {
+                CellHeatmap heatmap = it.next().get();
+                if (heatmap == null) {
+                    it.remove();
+                } else {
+                    live.add(heatmap);
+                }
+            }
+            return live;
+        }
+    }
+
+    /**
+     * Print the metrics periodically from a daemon thread.
+     *
+     * @param out Stream to print to
+     * @param intervalMillis Time between two dumps
+     * @return Handle that stops the dump when cancelled
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public static synchronized ScheduledFuture<?> startDump(PrintStream out, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Dump interval must be positive: " + intervalMillis);
+        }
+        if (dumper == null) {
+            dumper = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "engine-metrics-dump");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return dumper.scheduleAtFixedRate(() -> {
+            List<String> lines = describe();
+            synchronized (out) {
+                out.println("Engine metrics at " + Instant.now());
+                lines.forEach(out::println);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new StandardMBean(new View(), EngineMetricsMXBean.class, true), new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Counters written by the threads of one stripe.
+     */
+    private static final class Stripe {
+
+        final AtomicLongArray outcomes = new AtomicLongArray(PADDING + OUTCOMES + PADDING);
+        final AtomicLongArray latencyBuckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+        final AtomicLong latencySum = new AtomicLong();
+        final AtomicLong latencyMax = new AtomicLong();
+
+        void recordLatency(long nanos) {
+            long value = Math.max(0, nanos);
+            latencyBuckets.getAndIncrement(LatencyHistogram.bucketOf(value));
+            latencySum.getAndAdd(value);
+            if (value > latencyMax.get()) {
+                latencyMax.accumulateAndGet(value, Math::max);
+            }
+        }
+    }
+
+    /**
+     * The registered MXBean, reading the static metrics.
+     */
+    private static final class View implements EngineMetricsMXBean {
+
+        @Override
+        public long getMoves() {
+            return EngineMetrics.getMoves();
+        }
+
+        @Override
+        public Map<String, Long> getMovesByOutcome() {
+            Map<String, Long> moves = new LinkedHashMap<>();
+            for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+                moves.put(MoveOutcome.name(outcome), EngineMetrics.getMoves(outcome));
+            }
+            return moves;
+        }
+
+        @Override
+        public long getSampledMoves() {
+            return getLatencies().getCount();
+        }
+
+        @Override
+        public double getLatencyMeanNanos() {
+            return getLatencies().getMeanNanos();
+        }
+
+        @Override
+        public long getLatencyP50Nanos() {
+            return getLatencies().getPercentileNanos(50);
+        }
+
+        @Override
+        public long getLatencyP99Nanos() {
+            return getLatencies().getPercentileNanos(99);
+        }
+
+        @Override
+        public long getLatencyP999Nanos() {
+            return getLatencies().getPercentileNanos(99.9);
+        }
+
+        @Override
+        public long getLatencyMaxNanos() {
+            return getLatencies().getMaxNanos();
+        }
+
+        @Override
+        public int getTrackedBoards() {
+            return liveHeatmaps().size();
+        }
+
+        @Override
+        public String[] getHotCells() {
+            return hotCells();
+        }
+    }
+}
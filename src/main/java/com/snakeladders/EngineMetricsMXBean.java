@@ -0,0 +1,80 @@
+package com.snakeladders;
+
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link EngineMetrics}, registered as {@value EngineMetrics#OBJECT_NAME}.
+ */
+public interface EngineMetricsMXBean {
+
+    /**
+     * Get the number of moves made through the game engine.
+     *
+     * @return Number of moves
+     */
+    long getMoves();
+
+    /**
+     * Get the number of moves by outcome.
+     *
+     * @return Moves keyed by outcome name
+     */
+    Map<String, Long> getMovesByOutcome();
+
+    /**
+     * Get the number of moves whose latency was sampled.
+     *
+     * @return Number of sampled moves
+     */
+    long getSampledMoves();
+
+    /**
+     * Get the mean latency of the sampled moves.
+     *
+     * @return Mean latency in nanoseconds
+     */
+    double getLatencyMeanNanos();
+
+    /**
+     * Get the median latency of the sampled moves.
+     *
+     * @return Median latency in nanoseconds
+     */
+    long getLatencyP50Nanos();
+
+    /**
+     * Get the 99th percentile latency of the sampled moves.
+     *
+     * @return Latency in nanoseconds
+     */
+    long getLatencyP99Nanos();
+
+    /**
+     * Get the 99.9th percentile latency of the sampled moves.
+     *
+     * @return Latency in nanoseconds
+     */
+    long getLatencyP999Nanos();
+
+    /**
+     * Get the largest latency of the sampled moves.
+     *
+     * @return Latency in nanoseconds
+     */
+    long getLatencyMaxNanos();
+
+    /**
+     * Get the number of boards with a cell heatmap.
+     *
+     * @return Number of boards played on since metrics were enabled
+     */
+    int getTrackedBoards();
+
+    /**
+     * Get the most landed-on cells of every tracked board.
+     *
+     * @return One line per board
+     */
+    String[] getHotCells();
+}
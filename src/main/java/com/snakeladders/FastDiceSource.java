@@ -0,0 +1,129 @@
+package com.snakeladders;
+
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * High-throughput dice for simulations.
+ * <p>
+ * Every 64-bit word of a SplitMix64 generator is cut into eight bytes and each byte is
+ * turned into a roll by multiplying it by six and keeping the high bits. The four byte
+ * values whose low bits would favour some faces are rejected, so the rolls are unbiased
+ * without any division. Rejection works on whole words: a word containing any rejected
+ * byte is skipped, which still leaves about seven rolls per word on average and lets the
+ * eight rolls of a word be computed together in one register and stored with one write.
+ * <p>
+ * An instance must only be used by one thread; {@link #current()} gives each thread its
+ * own, so workers never contend.
+ */
+public class FastDiceSource implements DiceSource {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long EVEN_BYTES = 0x00FF00FF00FF00FFL;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    // Products whose low byte is below 256 % 6 = 4 would bias the low faces
+    private static final long ABOVE_REJECTED = 0xFCFCFCFCFCFCFCFCL;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final ThreadLocal<FastDiceSource> CURRENT =
+            ThreadLocal.withInitial(() -> new FastDiceSource(ThreadLocalRandom.current().nextLong()));
+
+    private long state;
+    // Rolls of the current word not handed out yet, lowest byte first
+    private long pending;
+    private int pendingRolls;
+
+    /**
+     * Create a source of rolls; the same seed always gives the same sequence.
+     *
+     * @param seed Seed of the dice
+     */
+    public FastDiceSource(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Get the source of the calling thread.
+     *
+     * @return A source used only by the calling thread
+     */
+    public static FastDiceSource current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Get the next dice roll.
+     *
+     * @return A roll between 1 and 6
+     */
+    @Override
+    public int nextRoll() {
+        if (pendingRolls == 0) {
+            pending = nextRollWord();
+            pendingRolls = Long.BYTES;
+        }
+        int roll = (int) pending & 0xFF;
+        pending >>>= Byte.SIZE;
+        pendingRolls--;
+        return roll;
+    }
+
+    /**
+     * Fill part of a buffer with dice rolls. Rolls left over from the last word come
+     * first, so single and bulk rolls form one sequence.
+     *
+     * @param rolls Buffer to fill
+     * @param offset First index to fill
+     * @param length Number of rolls
+     */
+    @Override
+    public void nextRolls(byte[] rolls, int offset, int length) {
+        int index = offset;
+        int end = offset + length;
+        while (index < end && pendingRolls > 0) {
+            rolls[index++] = (byte) nextRoll();
+        }
+        for (; end - index >= Long.BYTES; index += Long.BYTES) {
+            LONGS.set(rolls, index, nextRollWord());
+        }
+        while (index < end) {
+            rolls[index++] = (byte) nextRoll();
+        }
+    }
+
+    /**
+     * Draw words until one has no rejected byte and turn it into eight rolls.
+     *
+     * @return Eight rolls between 1 and 6, one per byte
+     */
+    private long nextRollWord() {
+        long seed = state;
+        while (true) {
+            seed += GOLDEN_GAMMA;
+            long word = mix(seed);
+
+            // Multiply the even and odd bytes by six in 16-bit lanes, which cannot carry over
+            long even = (word & EVEN_BYTES) * 6;
+            long odd = (word >>> Byte.SIZE & EVEN_BYTES) * 6;
+            long lowBytes = (even & EVEN_BYTES) | (odd & EVEN_BYTES) << Byte.SIZE;
+
+            // Accept the word when no low byte is below the rejection bound
+            long kept = lowBytes & ABOVE_REJECTED;
+            if (((kept - ONES) & ~kept & HIGH_BITS) == 0) {
+                state = seed;
+                return ((even >>> Byte.SIZE & EVEN_BYTES) | (odd & ~EVEN_BYTES)) + ONES;
+            }
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
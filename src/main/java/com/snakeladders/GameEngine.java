@@ -9,6 +9,8 @@ public class GameEngine {
     private final SnakesAndLaddersBoard board;
     private int currentPosition;
     private boolean gameWon;
+    private MoveEventRing moveEvents;
+    private long eventGame;
 
     /**
      * Initialize the game engine with a board.
@@ -23,41 +25,123 @@ public class GameEngine {
 
     /**
      * Move the player based on dice roll.
+     * On boards small enough for a result table, the result is a shared immutable instance
+     * from that table; otherwise its message is rendered when first requested.
      *
      * @param diceRoll The dice roll value (1-6)
      * @return GameMoveResult containing new position and message
      * @throws IllegalArgumentException if dice roll is invalid
      */
     public GameMoveResult movePlayer(int diceRoll) {
-        if (!isValidDiceRoll(diceRoll)) {
-            throw new IllegalArgumentException("Invalid dice roll: " + diceRoll + ". Must be between 1 and 6.");
+        int fromPosition = currentPosition;
+        long move = applyMove(diceRoll);
+        MoveResultTable table = board.moveResults();
+        return table != null ? table.get(fromPosition, move) : new GameMoveResult(move, fromPosition);
+    }
+
+    /**
+     * Move the player by the next roll of a dice source.
+     *
+     * @param dice Source of the dice roll
+     * @return GameMoveResult containing new position and message
+     * @throws IllegalArgumentException if the source returns an invalid roll
+     */
+    public GameMoveResult movePlayer(DiceSource dice) {
+        return movePlayer(dice.nextRoll());
+    }
+
+    /**
+     * Move the player by the next roll of a dice source without allocating a result.
+     *
+     * @param dice Source of the dice roll
+     * @return The packed move
+     * @throws IllegalArgumentException if the source returns an invalid roll
+     */
+    public long applyMove(DiceSource dice) {
+        return applyMove(dice.nextRoll());
+    }
+
+    /**
+     * Move the player based on dice roll without allocating a result.
+     * The outcome is packed as described in {@link MoveOutcome}; the message can be
+     * rendered later with {@link MoveOutcome#message(long, int)}. Moves are counted in
+     * {@link EngineMetrics} when metrics are enabled.
+     *
+     * @param diceRoll The dice roll value (1-6)
+     * @return The packed move
+     * @throws IllegalArgumentException if dice roll is invalid
+     */
+    public long applyMove(int diceRoll) {
+        if (EngineMetrics.ENABLED) {
+            int fromPosition = currentPosition;
+            long start = EngineMetrics.startMove();
+            long move = advance(diceRoll);
+            EngineMetrics.recordMove(board, fromPosition, move, start);
+            return move;
         }
+        return advance(diceRoll);
+    }
+
+    private long advance(int diceRoll) {
+        requireValidDiceRoll(diceRoll);
 
         if (gameWon) {
-            return new GameMoveResult(currentPosition, "Game already won!");
+            return MoveOutcome.pack(currentPosition, MoveOutcome.ALREADY_WON, diceRoll);
         }
 
-        int newPosition = currentPosition + diceRoll;
+        int fromPosition = currentPosition;
+        long move = step(board, fromPosition, diceRoll);
+        currentPosition = MoveOutcome.newPosition(move);
+        gameWon = MoveOutcome.outcome(move) == MoveOutcome.WON;
+        if (moveEvents != null) {
+            moveEvents.publish(eventGame, fromPosition, move);
+        }
+        return move;
+    }
+
+    /**
+     * Publish every move of this engine to a ring buffer. Rolls after the game is won
+     * are not published.
+     *
+     * @param moveEvents The started ring to publish to, or null to stop publishing
+     * @param game Game id to tag the events with
+     */
+    public void setMoveEvents(MoveEventRing moveEvents, long game) {
+        this.moveEvents = moveEvents;
+        this.eventGame = game;
+    }
+
+    /**
+     * Apply the move rules to a single position without touching any game state.
+     * A roll past the last cell leaves the player in place, only an exact landing on
+     * the last cell or a ladder to it wins, and otherwise snakes and ladders are applied.
+     *
+     * @param board The game board
+     * @param position The position before the move
+     * @param diceRoll The dice roll value, assumed to be valid
+     * @return The packed move
+     */
+    public static long step(SnakesAndLaddersBoard board, int position, int diceRoll) {
+        int newPosition = position + diceRoll;
+        int boardSize = board.getSize();
 
         // Check if move exceeds board size
-        if (newPosition > SnakesAndLaddersBoard.BOARD_SIZE) {
-            String message = String.format("Cannot move to %d. Staying at %d.", newPosition, currentPosition);
-            return new GameMoveResult(currentPosition, message);
+        if (newPosition > boardSize) {
+            return MoveOutcome.pack(position, MoveOutcome.OVERSHOOT, diceRoll);
         }
 
         // Check for exact win condition
-        if (newPosition == SnakesAndLaddersBoard.BOARD_SIZE) {
-            currentPosition = newPosition;
-            gameWon = true;
-            return new GameMoveResult(currentPosition, "Yay!! You won!!");
+        if (newPosition == boardSize) {
+            return MoveOutcome.pack(newPosition, MoveOutcome.WON, diceRoll);
         }
 
-        // Apply snake/ladder effects
+        // Apply snake/ladder effects; plain, ladder and snake cell kinds match their outcome codes.
+        // A ladder ending on the last cell wins as well.
         int finalPosition = board.getFinalPosition(newPosition);
-        String message = generateMoveMessage(newPosition, finalPosition);
-
-        currentPosition = finalPosition;
-        return new GameMoveResult(currentPosition, message);
+        if (finalPosition == boardSize) {
+            return MoveOutcome.pack(finalPosition, MoveOutcome.WON, diceRoll);
+        }
+        return MoveOutcome.pack(finalPosition, board.getCellKind(newPosition), diceRoll);
     }
 
     /**
@@ -66,24 +150,19 @@ public class GameEngine {
      * @param diceRoll The dice roll to validate
      * @return true if valid, false otherwise
      */
-    private boolean isValidDiceRoll(int diceRoll) {
+    static boolean isValidDiceRoll(int diceRoll) {
         return diceRoll >= 1 && diceRoll <= 6;
     }
 
     /**
-     * Generate appropriate message for the move.
+     * Reject an invalid dice roll value.
      *
-     * @param intermediatePosition Position after dice roll
-     * @param finalPosition Final position after snake/ladder effects
-     * @return Descriptive message for the move
+     * @param diceRoll The dice roll to validate
+     * @throws IllegalArgumentException if dice roll is invalid
      */
-    private String generateMoveMessage(int intermediatePosition, int finalPosition) {
-        if (board.hasLadder(intermediatePosition)) {
-            return String.format("Climbed ladder from %d to %d!", intermediatePosition, finalPosition);
-        } else if (board.hasSnake(intermediatePosition)) {
-            return String.format("Bitten by snake at %d, moved down to %d!", intermediatePosition, finalPosition);
-        } else {
-            return String.format("Moved to position %d.", finalPosition);
+    static void requireValidDiceRoll(int diceRoll) {
+        if (!isValidDiceRoll(diceRoll)) {
+            throw new IllegalArgumentException("Invalid dice roll: " + diceRoll + ". Must be between 1 and 6.");
         }
     }
 
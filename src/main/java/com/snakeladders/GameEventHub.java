@@ -0,0 +1,401 @@
+package com.snakeladders;
+
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reactive streams of the moves made on one board, as {@link Flow.Publisher}s.
+ * <p>
+ * Integrators subscribe to one game with {@link #forGame} or to every game of the board
+ * with {@link #forBoard}; moves are fed in with {@link #publish}, or by adding the hub as a
+ * consumer of a {@link MoveEventRing}. Each subscription delivers events only as far as its
+ * subscriber has requested, on the hub's executor, and keeps the rest in a buffer of at
+ * most the configured capacity. When a slow subscriber's buffer is full the
+ * {@link OverflowPolicy} decides which move it misses, so memory stays bounded by the
+ * number of subscribers times the capacity however far a subscriber lags.
+ * {@link java.util.concurrent.SubmissionPublisher} can only block or drop the new item,
+ * hence this class.
+ */
+public class GameEventHub implements MoveEventHandler, AutoCloseable {
+
+    /** Default maximum number of buffered events per subscription. */
+    public static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+    private static final int INITIAL_BUFFER = 16;
+
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Map<Long, List<HubSubscription>> gameSubscriptions = new ConcurrentHashMap<>();
+    private final List<HubSubscription> boardSubscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder droppedEvents = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Create a hub delivering on the common fork-join pool, coalescing moves of slow subscribers.
+     */
+    public GameEventHub() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY, OverflowPolicy.COALESCE);
+    }
+
+    /**
+     * Create a hub.
+     *
+     * @param executor Executor running the deliveries to subscribers
+     * @param bufferCapacity Maximum number of buffered events per subscription
+     * @param overflowPolicy What to do when a subscription's buffer is full
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public GameEventHub(Executor executor, int bufferCapacity, OverflowPolicy overflowPolicy) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be positive: " + bufferCapacity);
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Get a publisher of the moves of one game.
+     *
+     * @param game The game id
+     * @return Publisher whose subscribers see moves published after they subscribed
+     */
+    public Flow.Publisher<GameMoveEvent> forGame(long game) {
+        return subscriber -> subscribe(subscriber, game);
+    }
+
+    /**
+     * Get a publisher of the moves of every game.
+     *
+     * @return Publisher whose subscribers see moves published after they subscribed
+     */
+    public Flow.Publisher<GameMoveEvent> forBoard() {
+        return subscriber -> subscribe(subscriber, null);
+    }
+
+    /**
+     * Attach a subscriber to one game, or to the board when the game is null. A game's
+     * list is created by its first subscription and removed with its last one.
+     */
+    private void subscribe(Flow.Subscriber<? super GameMoveEvent> subscriber, Long game) {
+        Objects.requireNonNull(subscriber);
+        HubSubscription subscription = new HubSubscription(subscriber, game);
+        subscriber.onSubscribe(subscription);
+        if (game == null) {
+            boardSubscriptions.add(subscription);
+        } else {
+            gameSubscriptions.compute(game, (key, list) -> {
+                if (list == null) {
+                    list = new CopyOnWriteArrayList<>();
+                }
+                list.add(subscription);
+                return list;
+            });
+        }
+        if (subscription.cancelled) {
+            subscription.detach();
+        } else if (closed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Publish a move to the subscribers of its game and of the board.
+     *
+     * @param game Id of the game the move was made in
+     * @param fromPosition The position before the move
+     * @param move The packed move
+     */
+    public void publish(long game, int fromPosition, long move) {
+        List<HubSubscription> forGame = gameSubscriptions.get(game);
+        if (boardSubscriptions.isEmpty() && (forGame == null || forGame.isEmpty())) {
+            return;
+        }
+        GameMoveEvent event = new GameMoveEvent(game, fromPosition, move);
+        for (HubSubscription subscription : boardSubscriptions) {
+            subscription.offer(event);
+        }
+        if (forGame != null) {
+            for (HubSubscription subscription : forGame) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    /**
+     * Publish a move taken from a {@link MoveEventRing}.
+     *
+     * @param event The event slot
+     * @param sequence Sequence number of the event
+     * @param endOfBatch Whether this is the last event of the batch
+     */
+    @Override
+    public void onEvent(MoveEvent event, long sequence, boolean endOfBatch) {
+        publish(event.getGame(), event.getFromPosition(), event.getMove());
+    }
+
+    /**
+     * Get the number of active subscriptions.
+     *
+     * @return Number of subscriptions
+     */
+    public int getSubscriberCount() {
+        int count = boardSubscriptions.size();
+        for (List<HubSubscription> list : gameSubscriptions.values()) {
+            count += list.size();
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of events buffered for subscribers that have not requested them yet.
+     *
+     * @return Number of buffered events
+     */
+    public long getBufferedEvents() {
+        long buffered = 0;
+        for (HubSubscription subscription : boardSubscriptions) {
+            buffered += subscription.buffered();
+        }
+        for (List<HubSubscription> list : gameSubscriptions.values()) {
+            for (HubSubscription subscription : list) {
+                buffered += subscription.buffered();
+            }
+        }
+        return buffered;
+    }
+
+    /**
+     * Get the number of events that subscribers missed because their buffer was full,
+     * including those replaced by a later move of the same game.
+     *
+     * @return Number of dropped events
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Complete every subscription once its buffered events have been delivered.
+     * Later subscribers are completed straight away.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (HubSubscription subscription : boardSubscriptions) {
+            subscription.complete();
+        }
+        for (List<HubSubscription> list : gameSubscriptions.values()) {
+            for (HubSubscription subscription : list) {
+                subscription.complete();
+            }
+        }
+    }
+
+    /**
+     * One subscriber's demand and bounded buffer. Events are delivered by a drain task on
+     * the executor, at most one at a time, so the subscriber is signalled serially.
+     */
+    private final class HubSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super GameMoveEvent> subscriber;
+        private final Long game;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        // Guarded by this: a circular buffer growing up to the capacity
+        private GameMoveEvent[] events = new GameMoveEvent[Math.min(INITIAL_BUFFER, bufferCapacity)];
+        private int head;
+        private int size;
+        private boolean completed;
+        private Throwable error;
+
+        HubSubscription(Flow.Subscriber<? super GameMoveEvent> subscriber, Long game) {
+            this.subscriber = subscriber;
+            this.game = game;
+        }
+
+        void offer(GameMoveEvent event) {
+            synchronized (this) {
+                if (cancelled || completed) {
+                    return;
+                }
+                if (size < bufferCapacity) {
+                    if (size == events.length) {
+                        grow();
+                    }
+                    events[(head + size++) % events.length] = event;
+                } else {
+                    overflow(event);
+                }
+            }
+            if (demand.get() > 0) {
+                signal();
+            }
+        }
+
+        private void grow() {
+            GameMoveEvent[] grown = new GameMoveEvent[Math.min(events.length * 2, bufferCapacity)];
+            for (int i = 0; i < size; i++) {
+                grown[i] = events[(head + i) % events.length];
+            }
+            events = grown;
+            head = 0;
+        }
+
+        private void overflow(GameMoveEvent event) {
+            droppedEvents.increment();
+            switch (overflowPolicy) {
+                case DROP_NEWEST:
+                    break;
+                case COALESCE:
+                    if (!coalesce(event)) {
+                        dropOldest(event);
+                    }
+                    break;
+                default:
+                    dropOldest(event);
+            }
+        }
+
+        private boolean coalesce(GameMoveEvent event) {
+            for (int i = size - 1; i >= 0; i--) {
+                int index = (head + i) % events.length;
+                if (events[index].getGame() == event.getGame()) {
+                    events[index] = event;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void dropOldest(GameMoveEvent event) {
+            events[head] = event;
+            head = (head + 1) % events.length;
+        }
+
+        private synchronized GameMoveEvent poll() {
+            if (size == 0) {
+                return null;
+            }
+            GameMoveEvent event = events[head];
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+            return event;
+        }
+
+        synchronized int buffered() {
+            return size;
+        }
+
+        void complete() {
+            synchronized (this) {
+                completed = true;
+            }
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                synchronized (this) {
+                    error = new IllegalArgumentException("Requested demand must be positive: " + n);
+                }
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            detach();
+            synchronized (this) {
+                events = new GameMoveEvent[0];
+                head = 0;
+                size = 0;
+            }
+        }
+
+        private void detach() {
+            if (game == null) {
+                boardSubscriptions.remove(this);
+            } else {
+                gameSubscriptions.computeIfPresent(game, (key, list) -> {
+                    list.remove(this);
+                    return list.isEmpty() ? null : list;
+                });
+            }
+        }
+
+        private void signal() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    cancel();
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted < requested && !cancelled) {
+                    GameMoveEvent event = poll();
+                    if (event == null) {
+                        break;
+                    }
+                    try {
+                        subscriber.onNext(event);
+                    } catch (RuntimeException e) {
+                        cancel();
+                        System.err.println("Error: Game event subscriber failed: " + e.getMessage());
+                    }
+                    emitted++;
+                }
+                if (emitted > 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                if (!cancelled) {
+                    Throwable failure;
+                    boolean done;
+                    synchronized (this) {
+                        failure = error;
+                        done = completed && size == 0;
+                    }
+                    if (failure != null || done) {
+                        cancel();
+                        if (failure != null) {
+                            subscriber.onError(failure);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                    }
+                }
+
+                missed = pendingDrains.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
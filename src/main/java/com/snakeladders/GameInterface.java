@@ -18,7 +18,16 @@ public class GameInterface {
      * Initialize the game interface.
      */
     public GameInterface() {
-        this.board = new SnakesAndLaddersBoard();
+        this(new SnakesAndLaddersBoard());
+    }
+
+    /**
+     * Initialize the game interface for a custom board.
+     *
+     * @param board The game board
+     */
+    public GameInterface(SnakesAndLaddersBoard board) {
+        this.board = board;
         this.engine = new GameEngine(board);
         this.scanner = new Scanner(System.in);
     }
@@ -28,7 +37,7 @@ public class GameInterface {
      */
     public void displayBoardInfo() {
         System.out.println("=== SNAKES & LADDERS GAME ===");
-        System.out.println("Board size: " + SnakesAndLaddersBoard.BOARD_SIZE + " cells");
+        System.out.println("Board size: " + board.getSize() + " cells");
         System.out.println("Starting position: " + SnakesAndLaddersBoard.START_POSITION);
 
         System.out.println("\nLadders on the board:");
@@ -76,7 +85,7 @@ public class GameInterface {
     public void playInteractive() {
         displayBoardInfo();
 
-        System.out.println("Enter dice rolls (1-6) or 'quit' to exit:");
+        System.out.println("Enter dice rolls (1-6), 'hint' for the best roll, or 'quit' to exit:");
 
         while (true) {
             try {
@@ -87,6 +96,10 @@ public class GameInterface {
                     System.out.println("Thanks for playing!");
                     break;
                 }
+                if ("hint".equalsIgnoreCase(input)) {
+                    showHint();
+                    continue;
+                }
 
                 int diceRoll = Integer.parseInt(input);
                 if (!playSingleMove(diceRoll)) {
@@ -94,13 +107,33 @@ public class GameInterface {
                 }
 
             } catch (NumberFormatException e) {
-                System.out.println("Please enter a valid number between 1 and 6, or 'quit' to exit.");
+                System.out.println("Please enter a valid number between 1 and 6, 'hint', or 'quit' to exit.");
             } catch (Exception e) {
                 System.out.println("An error occurred: " + e.getMessage());
             }
         }
     }
 
+    /**
+     * Show the best roll and the minimum number of rolls left from the current position.
+     */
+    public void showHint() {
+        int position = engine.getCurrentPosition();
+        MinimumRollsSolver solver = MinimumRollsSolver.forBoard(board);
+        int rolls = solver.getMinimumRolls(position);
+
+        if (engine.isGameWon() || rolls == 0) {
+            System.out.println("Hint: the game is already won.");
+        } else if (rolls < 0) {
+            System.out.println("Hint: the last cell cannot be reached from " + position + ".");
+        } else {
+            int bestRoll = solver.getBestRoll(position);
+            int reached = MoveOutcome.newPosition(GameEngine.step(board, position, bestRoll));
+            System.out.println("Hint: hope for a " + bestRoll + " (to " + reached + "); you need at least "
+                    + rolls + (rolls == 1 ? " roll" : " rolls") + " to win from " + position + ".");
+        }
+    }
+
     /**
      * Play a single move from command line arguments.
      *
@@ -0,0 +1,132 @@
+package com.snakeladders;
+
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load generator for {@link GameServer}.
+ * <p>
+ * Opens many connections, each playing single-player games back to back with
+ * {@code ROLL} requests, and reports the overall moves per second and the request
+ * latency percentiles.
+ */
+public class GameLoadClient {
+
+    private static final byte[] CREATE_REQUEST = "CREATE 1\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ROLL_REQUEST = "ROLL\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final int port;
+    private final int connections;
+    private final int movesPerConnection;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong failedConnections = new AtomicLong();
+
+    /**
+     * Create a load generator.
+     *
+     * @param port Port of the server on the loopback interface
+     * @param connections Number of concurrent connections
+     * @param movesPerConnection Number of moves each connection makes
+     */
+    public GameLoadClient(int port, int connections, int movesPerConnection) {
+        this.port = port;
+        this.connections = connections;
+        this.movesPerConnection = movesPerConnection;
+    }
+
+    /**
+     * Run the load and print a report.
+     *
+     * @throws InterruptedException if interrupted while waiting for the connections
+     */
+    public void run() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(connections);
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("load-client");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        play();
+                    } catch (IOException e) {
+                        failedConnections.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // More connections than the platform thread fallback runs at once
+                failedConnections.incrementAndGet();
+                done.countDown();
+            }
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        System.out.printf("Connections: %d (%d failed), moves: %d%n",
+                connections, failedConnections.get(), latencies.getCount());
+        System.out.printf("Throughput: %.0f moves/sec%n", latencies.getCount() / (elapsedNanos / 1e9));
+        System.out.printf("Latency: mean=%.1fus p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus%n",
+                latencies.getMeanNanos() / 1e3, latencies.getPercentileNanos(50) / 1e3,
+                latencies.getPercentileNanos(99) / 1e3, latencies.getPercentileNanos(99.9) / 1e3,
+                latencies.getMaxNanos() / 1e3);
+    }
+
+    private void play() throws IOException {
+        LatencyHistogram local = new LatencyHistogram();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                     StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+            OutputStream out = socket.getOutputStream();
+
+            out.write(CREATE_REQUEST);
+            in.readLine();
+            for (int move = 0; move < movesPerConnection; move++) {
+                long start = System.nanoTime();
+                out.write(ROLL_REQUEST);
+                String response = in.readLine();
+                local.record(System.nanoTime() - start);
+
+                if (response == null) {
+                    throw new IOException("Connection closed by server");
+                }
+                if (response.endsWith(" won")) {
+                    out.write(CREATE_REQUEST);
+                    in.readLine();
+                }
+            }
+        } finally {
+            synchronized (latencies) {
+                latencies.merge(local);
+            }
+        }
+    }
+
+    /**
+     * Run the load generator from the command line.
+     *
+     * @param args Port, number of connections and moves per connection
+     * @throws InterruptedException if interrupted while waiting for the connections
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : GameServer.DEFAULT_PORT;
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int movesPerConnection = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+
+        new GameLoadClient(port, connections, movesPerConnection).run();
+    }
+}
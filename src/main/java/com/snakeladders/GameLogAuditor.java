@@ -0,0 +1,333 @@
+package com.snakeladders;
+
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks recorded game logs against the move rules.
+ * <p>
+ * A log holds one transition per line: the position before the move, the dice roll and
+ * the claimed position after it, separated by spaces, tabs or commas. Blank lines are
+ * ignored. Each claim is recomputed with {@link GameEngine#step}, the rule behind
+ * {@link GameEngine#movePlayer} and {@link SnakesAndLaddersBoard#getFinalPosition}.
+ * <p>
+ * The log is memory-mapped in chunks that end at line boundaries, and the chunks are
+ * audited in parallel. The parser reads the mapped bytes directly and allocates nothing
+ * for a matching record, so more cores raise the rate until reading the pages is the
+ * limit. Mismatches are printed in log order as soon as every earlier chunk is done, and
+ * at most two chunks per worker are in flight, so the mismatches held in memory stay
+ * bounded however long the log is.
+ */
+public class GameLogAuditor {
+
+    /** Default size of the chunks the log is split into (64 MiB). */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    private static final int MALFORMED = 1;
+    private static final int INVALID_DICE = 2;
+    private static final int INVALID_POSITION = 3;
+    private static final int WRONG_POSITION = 4;
+
+    // Ints per recorded mismatch: line, kind, position, dice roll, claimed position
+    private static final int MISMATCH_INTS = 5;
+    private static final int BOUNDARY_SCAN = 4096;
+    private static final int OVERFLOW_GUARD = Integer.MAX_VALUE / 10;
+
+    private final SnakesAndLaddersBoard board;
+    private final int chunkSize;
+
+    /**
+     * Create an auditor with the default chunk size.
+     *
+     * @param board The board the games were played on
+     */
+    public GameLogAuditor(SnakesAndLaddersBoard board) {
+        this(board, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create an auditor.
+     *
+     * @param board The board the games were played on
+     * @param chunkSize Approximate number of bytes audited by one task
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public GameLogAuditor(SnakesAndLaddersBoard board, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.board = board;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Audit a log, printing every mismatch.
+     *
+     * @param log The log file
+     * @param executor Executor auditing the chunks
+     * @param out Destination of the mismatch lines
+     * @return The audit totals
+     * @throws IOException if the log cannot be read
+     */
+    public AuditResult audit(Path log, Executor executor, PrintStream out) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] boundaries = findBoundaries(channel, size);
+            // Table lookups instead of rule evaluation, but only where the shared table stays small
+            CompiledRules rules = board.getSize() <= SnakesAndLaddersBoard.MOVE_TABLE_MAX_CELLS
+                    ? CompiledRules.forBoard(board, GameRules.STANDARD) : null;
+
+            int chunks = boundaries.length - 1;
+            int window = 2 * parallelism(executor);
+            Queue<CompletableFuture<Chunk>> inFlight = new ArrayDeque<>(window);
+            int submitted = 0;
+
+            long lines = 0;
+            long records = 0;
+            long mismatches = 0;
+            try {
+                while (submitted < chunks || !inFlight.isEmpty()) {
+                    while (submitted < chunks && inFlight.size() < window) {
+                        Chunk chunk = new Chunk(board, rules, boundaries[submitted], boundaries[submitted + 1]);
+                        inFlight.add(CompletableFuture.supplyAsync(() -> chunk.audit(channel), executor));
+                        submitted++;
+                    }
+                    Chunk chunk = inFlight.remove().join();
+                    chunk.report(lines, out);
+                    lines += chunk.lines;
+                    records += chunk.records;
+                    mismatches += chunk.mismatchCount;
+                }
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                throw e;
+            }
+            return new AuditResult(records, mismatches, size, chunks, System.nanoTime() - start);
+        }
+    }
+
+    private static int parallelism(Executor executor) {
+        return executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Split a log near every chunk size, just after a line break.
+     *
+     * @param channel The log
+     * @param size Size of the log
+     * @return Chunk start offsets, followed by the size of the log
+     * @throws IOException if the log cannot be read
+     */
+    private long[] findBoundaries(FileChannel channel, long size) throws IOException {
+        if (size == 0) {
+            return new long[] {0};
+        }
+        long[] boundaries = new long[(int) ((size + chunkSize - 1) / chunkSize) + 1];
+        int count = 1;
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN);
+        long previous = 0;
+        for (long nominal = chunkSize; nominal < size; nominal += chunkSize) {
+            long boundary = Math.max(nextLineStart(channel, nominal, scan), previous);
+            if (boundary >= size) {
+                break;
+            }
+            if (boundary > previous) {
+                if (boundary - previous > Integer.MAX_VALUE) {
+                    throw new IOException("Log line longer than 2 GiB after byte " + previous);
+                }
+                boundaries[count++] = boundary;
+                previous = boundary;
+            }
+        }
+        if (size - previous > Integer.MAX_VALUE) {
+            throw new IOException("Log line longer than 2 GiB after byte " + previous);
+        }
+        boundaries[count++] = size;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    private static long nextLineStart(FileChannel channel, long offset, ByteBuffer scan) throws IOException {
+        long position = offset - 1;
+        while (true) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                return Long.MAX_VALUE;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * One line-aligned part of the log and the mismatches found in it.
+     */
+    private static final class Chunk {
+
+        private final SnakesAndLaddersBoard board;
+        private final CompiledRules rules;
+        private final long start;
+        private final long end;
+
+        private long lines;
+        private long records;
+        private int mismatchCount;
+        private int[] mismatches = new int[0];
+
+        Chunk(SnakesAndLaddersBoard board, CompiledRules rules, long start, long end) {
+            this.board = board;
+            this.rules = rules;
+            this.start = start;
+            this.end = end;
+        }
+
+        Chunk audit(FileChannel channel) {
+            MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map game log", e);
+            }
+
+            // A last line without a line break is ended by a virtual one
+            int limit = buffer.limit();
+            int stop = limit > 0 && buffer.get(limit - 1) != '\n' ? limit + 1 : limit;
+            int tokens = 0;
+            int value = 0;
+            int position = 0;
+            int diceRoll = 0;
+            int claimed = 0;
+            boolean inNumber = false;
+            boolean negative = false;
+            boolean malformed = false;
+            for (int i = 0; i < stop; i++) {
+                byte b = i < limit ? buffer.get(i) : (byte) '\n';
+                if (b >= '0' && b <= '9') {
+                    int digit = b - '0';
+                    if (value >= OVERFLOW_GUARD && (value > OVERFLOW_GUARD || digit > Integer.MAX_VALUE % 10)) {
+                        malformed = true;
+                    }
+                    value = value * 10 + digit;
+                    inNumber = true;
+                } else if (b == ' ' || b == '\t' || b == ',' || b == '\r' || b == '\n') {
+                    if (inNumber) {
+                        int number = negative ? -value : value;
+                        if (tokens == 0) {
+                            position = number;
+                        } else if (tokens == 1) {
+                            diceRoll = number;
+                        } else {
+                            claimed = number;
+                        }
+                        tokens++;
+                        value = 0;
+                        inNumber = false;
+                        negative = false;
+                    } else if (negative) {
+                        malformed = true;
+                        negative = false;
+                    }
+                    if (b == '\n') {
+                        endLine(tokens, malformed, position, diceRoll, claimed);
+                        tokens = 0;
+                        malformed = false;
+                    }
+                } else if (b == '-' && !inNumber && !negative) {
+                    negative = true;
+                } else {
+                    malformed = true;
+                }
+            }
+            return this;
+        }
+
+        private void endLine(int tokens, boolean malformed, int position, int diceRoll, int claimed) {
+            lines++;
+            if (tokens == 0 && !malformed) {
+                return;
+            }
+            records++;
+
+            int kind;
+            if (malformed || tokens != 3) {
+                kind = MALFORMED;
+            } else if (!GameEngine.isValidDiceRoll(diceRoll)) {
+                kind = INVALID_DICE;
+            } else if (!board.isValidPosition(position)) {
+                kind = INVALID_POSITION;
+            } else if (expectedPosition(position, diceRoll) != claimed) {
+                kind = WRONG_POSITION;
+            } else {
+                return;
+            }
+            recordMismatch(kind, position, diceRoll, claimed);
+        }
+
+        private int expectedPosition(int position, int diceRoll) {
+            long move = rules != null ? rules.move(position, diceRoll) : GameEngine.step(board, position, diceRoll);
+            return MoveOutcome.newPosition(move);
+        }
+
+        private void recordMismatch(int kind, int position, int diceRoll, int claimed) {
+            int offset = mismatchCount * MISMATCH_INTS;
+            if (offset == mismatches.length) {
+                mismatches = Arrays.copyOf(mismatches, Math.max(16 * MISMATCH_INTS, mismatches.length * 2));
+            }
+            mismatches[offset] = (int) lines;
+            mismatches[offset + 1] = kind;
+            mismatches[offset + 2] = position;
+            mismatches[offset + 3] = diceRoll;
+            mismatches[offset + 4] = claimed;
+            mismatchCount++;
+        }
+
+        void report(long firstLine, PrintStream out) {
+            for (int i = 0; i < mismatchCount; i++) {
+                int offset = i * MISMATCH_INTS;
+                long line = firstLine + mismatches[offset];
+                int position = mismatches[offset + 2];
+                int diceRoll = mismatches[offset + 3];
+                int claimed = mismatches[offset + 4];
+                switch (mismatches[offset + 1]) {
+                    case MALFORMED:
+                        out.printf("Line %d: malformed record%n", line);
+                        break;
+                    case INVALID_DICE:
+                        out.printf("Line %d: position %d, dice %d, claimed %d, invalid dice roll%n",
+                                line, position, diceRoll, claimed);
+                        break;
+                    case INVALID_POSITION:
+                        out.printf("Line %d: position %d, dice %d, claimed %d, invalid position%n",
+                                line, position, diceRoll, claimed);
+                        break;
+                    default:
+                        out.printf("Line %d: position %d, dice %d, claimed %d, expected %d%n", line, position,
+                                diceRoll, claimed, expectedPosition(position, diceRoll));
+                }
+            }
+        }
+    }
+}
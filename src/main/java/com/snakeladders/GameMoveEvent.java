@@ -0,0 +1,94 @@
+package com.snakeladders;
+
+
+/**
+ * An immutable move of one game, as published by a {@link GameEventHub}.
+ */
+public final class GameMoveEvent {
+
+    private final long game;
+    private final int fromPosition;
+    private final long move;
+
+    /**
+     * Create a move event.
+     *
+     * @param game Id of the game the move was made in
+     * @param fromPosition The position before the move
+     * @param move The packed move, see {@link MoveOutcome}
+     */
+    public GameMoveEvent(long game, int fromPosition, long move) {
+        this.game = game;
+        this.fromPosition = fromPosition;
+        this.move = move;
+    }
+
+    /**
+     * Get the id of the game the move was made in.
+     *
+     * @return The game id
+     */
+    public long getGame() {
+        return game;
+    }
+
+    /**
+     * Get the position before the move.
+     *
+     * @return The previous position
+     */
+    public int getFromPosition() {
+        return fromPosition;
+    }
+
+    /**
+     * Get the move.
+     *
+     * @return The packed move
+     */
+    public long getMove() {
+        return move;
+    }
+
+    /**
+     * Get the position after the move.
+     *
+     * @return The new position
+     */
+    public int getNewPosition() {
+        return MoveOutcome.newPosition(move);
+    }
+
+    /**
+     * Get the outcome of the move.
+     *
+     * @return The outcome code, see {@link MoveOutcome}
+     */
+    public int getOutcome() {
+        return MoveOutcome.outcome(move);
+    }
+
+    /**
+     * Get the dice roll of the move.
+     *
+     * @return The dice roll
+     */
+    public int getDiceRoll() {
+        return MoveOutcome.diceRoll(move);
+    }
+
+    /**
+     * Get the move as the result {@link GameEngine#movePlayer} returns.
+     *
+     * @return The move result, with its message
+     */
+    public GameMoveResult toResult() {
+        return new GameMoveResult(move, fromPosition);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GameMoveEvent{game=%d, from=%d, to=%d, outcome=%s, dice=%d}",
+                game, fromPosition, getNewPosition(), MoveOutcome.name(getOutcome()), getDiceRoll());
+    }
+}
@@ -4,11 +4,19 @@ package com.snakeladders;
 /**
  * Represents the result of a game move.
  * Contains the new position and a descriptive message.
+ * <p>
+ * Results produced by {@link GameEngine} carry the packed move and render their
+ * message only when it is first requested.
  */
 public class GameMoveResult {
 
+    /** Marker for results created with an explicit message. */
+    private static final long NO_MOVE = -1L;
+
     private final int newPosition;
-    private final String message;
+    private final long move;
+    private final int fromPosition;
+    private String message;
 
     /**
      * Create a new game move result.
@@ -19,6 +27,20 @@ public class GameMoveResult {
     public GameMoveResult(int newPosition, String message) {
         this.newPosition = newPosition;
         this.message = message;
+        this.move = NO_MOVE;
+        this.fromPosition = newPosition;
+    }
+
+    /**
+     * Create a game move result from a packed move, rendering the message lazily.
+     *
+     * @param move The packed move, see {@link MoveOutcome}
+     * @param fromPosition The position before the move
+     */
+    GameMoveResult(long move, int fromPosition) {
+        this.newPosition = MoveOutcome.newPosition(move);
+        this.move = move;
+        this.fromPosition = fromPosition;
     }
 
     /**
@@ -36,12 +58,17 @@ public class GameMoveResult {
      * @return The descriptive message
      */
     public String getMessage() {
-        return message;
+        String rendered = message;
+        if (rendered == null && move != NO_MOVE) {
+            rendered = MoveOutcome.message(move, fromPosition);
+            message = rendered;
+        }
+        return rendered;
     }
 
     @Override
     public String toString() {
-        return String.format("GameMoveResult{newPosition=%d, message='%s'}", newPosition, message);
+        return String.format("GameMoveResult{newPosition=%d, message='%s'}", newPosition, getMessage());
     }
 
     @Override
@@ -50,12 +77,15 @@ public class GameMoveResult {
         if (obj == null || getClass() != obj.getClass()) return false;
 
         GameMoveResult that = (GameMoveResult) obj;
+        String message = getMessage();
+        String thatMessage = that.getMessage();
         return newPosition == that.newPosition &&
-                (message != null ? message.equals(that.message) : that.message == null);
+                (message != null ? message.equals(thatMessage) : thatMessage == null);
     }
 
     @Override
     public int hashCode() {
+        String message = getMessage();
         int result = newPosition;
         result = 31 * result + (message != null ? message.hashCode() : 0);
         return result;
@@ -0,0 +1,124 @@
+package com.snakeladders;
+
+
+import java.util.Objects;
+
+/**
+ * A combination of rule variants for a multi-player game.
+ * <p>
+ * The standard rules use one die, leave a player in place when a roll passes the last
+ * cell, and give no extra turns. Variants can bounce players back from the last cell,
+ * give an extra turn on the highest roll, forfeit the turn after three highest rolls in a
+ * row, and roll two dice. Rules are immutable values; {@link CompiledRules} turns a
+ * combination into lookup tables for a board.
+ */
+public final class GameRules {
+
+    /** Number of highest rolls in a row after which the turn is forfeited, if enabled. */
+    public static final int FORFEIT_ROLLS = 3;
+
+    /** The classic rules of {@link GameEngine}. */
+    public static final GameRules STANDARD = new GameRules(false, false, false, 1);
+
+    private final boolean bounceBack;
+    private final boolean extraTurnOnSix;
+    private final boolean forfeitOnThreeSixes;
+    private final int diceCount;
+
+    /**
+     * Create a rule combination.
+     *
+     * @param bounceBack Whether a roll past the last cell bounces back from it instead of staying
+     * @param extraTurnOnSix Whether the highest roll (a six, or a double six with two dice) gives an extra turn
+     * @param forfeitOnThreeSixes Whether three highest rolls in a row forfeit the turn
+     * @param diceCount Number of dice rolled per move, 1 or 2
+     * @throws IllegalArgumentException if the combination is invalid
+     */
+    public GameRules(boolean bounceBack, boolean extraTurnOnSix, boolean forfeitOnThreeSixes, int diceCount) {
+        if (diceCount < 1 || diceCount > 2) {
+            throw new IllegalArgumentException("Number of dice must be 1 or 2: " + diceCount);
+        }
+        if (forfeitOnThreeSixes && !extraTurnOnSix) {
+            throw new IllegalArgumentException("Forfeiting on three sixes requires extra turns on a six");
+        }
+        this.bounceBack = bounceBack;
+        this.extraTurnOnSix = extraTurnOnSix;
+        this.forfeitOnThreeSixes = forfeitOnThreeSixes;
+        this.diceCount = diceCount;
+    }
+
+    /**
+     * Check whether a roll past the last cell bounces back from it.
+     *
+     * @return true for bounce-back, false if the player stays in place
+     */
+    public boolean isBounceBack() {
+        return bounceBack;
+    }
+
+    /**
+     * Check whether the highest roll gives an extra turn.
+     *
+     * @return true if it does, false otherwise
+     */
+    public boolean isExtraTurnOnSix() {
+        return extraTurnOnSix;
+    }
+
+    /**
+     * Check whether three highest rolls in a row forfeit the turn.
+     *
+     * @return true if they do, false otherwise
+     */
+    public boolean isForfeitOnThreeSixes() {
+        return forfeitOnThreeSixes;
+    }
+
+    /**
+     * Get the number of dice rolled per move.
+     *
+     * @return 1 or 2
+     */
+    public int getDiceCount() {
+        return diceCount;
+    }
+
+    /**
+     * Get the smallest possible roll.
+     *
+     * @return The smallest roll
+     */
+    public int getMinRoll() {
+        return diceCount;
+    }
+
+    /**
+     * Get the highest possible roll.
+     *
+     * @return The highest roll
+     */
+    public int getMaxRoll() {
+        return diceCount * 6;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof GameRules)) {
+            return false;
+        }
+        GameRules rules = (GameRules) other;
+        return bounceBack == rules.bounceBack && extraTurnOnSix == rules.extraTurnOnSix
+                && forfeitOnThreeSixes == rules.forfeitOnThreeSixes && diceCount == rules.diceCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bounceBack, extraTurnOnSix, forfeitOnThreeSixes, diceCount);
+    }
+
+    @Override
+    public String toString() {
+        return "GameRules{bounceBack=" + bounceBack + ", extraTurnOnSix=" + extraTurnOnSix
+                + ", forfeitOnThreeSixes=" + forfeitOnThreeSixes + ", diceCount=" + diceCount + "}";
+    }
+}
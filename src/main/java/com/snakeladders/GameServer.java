@@ -0,0 +1,405 @@
+package com.snakeladders;
+
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * TCP game server on the loopback interface hosting many concurrent games.
+ * <p>
+ * Each connection is served by its own (virtual, where available) thread speaking a
+ * line protocol:
+ * <pre>
+ *   CREATE &lt;players&gt;    -&gt; OK &lt;game&gt; &lt;seat&gt;          create a game and take seat 0
+ *   JOIN &lt;game&gt;         -&gt; OK &lt;game&gt; &lt;seat&gt;          take the next free seat
+ *   ROLL [dice]         -&gt; OK &lt;dice&gt; &lt;position&gt; &lt;outcome&gt;  roll for your seat
+ *   STATE [game]        -&gt; STATE &lt;game&gt; &lt;turn&gt; &lt;winner&gt; &lt;positions...&gt;
+ *   QUIT                -&gt; BYE
+ * </pre>
+ * Failures are answered with {@code ERR <message>}, and a connection sending a line longer
+ * than {@link #MAX_LINE_LENGTH} characters is closed. Games live in a shared
+ * {@link GameSessionStore}, so moves follow the {@link GameEngine} rules. Seats of players
+ * who left are skipped, and a game is removed once every player in it has left.
+ * <p>
+ * Creating, joining and leaving games take the store's write lock. Rolls and state queries
+ * share the read lock and serialize per game on one of a fixed set of striped locks, so
+ * checks and replies for different games run in parallel. The store itself is not
+ * thread-safe, so the moves are applied to it one at a time under a separate lock.
+ */
+public class GameServer implements Closeable {
+
+    /** Default port of the server. */
+    public static final int DEFAULT_PORT = 7100;
+
+    /** Longest request line accepted, in characters. */
+    public static final int MAX_LINE_LENGTH = 256;
+
+    private static final int GAME_LOCK_STRIPES = 64;
+
+    private final SnakesAndLaddersBoard board;
+    private final int requestedPort;
+
+    private final ReentrantReadWriteLock sessionsLock = new ReentrantReadWriteLock();
+    private final ReentrantLock[] gameLocks = new ReentrantLock[GAME_LOCK_STRIPES];
+    private final ReentrantLock storeLock = new ReentrantLock();
+    private final GameSessionStore store;
+    private int[] seatsTaken = new int[1024];
+    private int[] seatsConnected = new int[1024];
+    // Bit per seat whose player has left the game
+    private int[] seatsLeft = new int[1024];
+
+    private ServerSocket serverSocket;
+    private ExecutorService connections;
+
+    /**
+     * Create a server for a board.
+     *
+     * @param board The game board
+     * @param port Port to listen on, or 0 for any free port
+     */
+    public GameServer(SnakesAndLaddersBoard board, int port) {
+        this.board = board;
+        this.requestedPort = port;
+        this.store = new GameSessionStore(board, GameSessionStore.MAX_PLAYERS);
+        for (int i = 0; i < gameLocks.length; i++) {
+            gameLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Bind the server socket and start accepting connections.
+     *
+     * @throws IOException if the socket cannot be bound
+     */
+    public void start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 4096);
+        connections = VirtualThreads.newThreadPerTaskExecutor("game-connection");
+
+        new Thread(this::acceptConnections, "game-acceptor").start();
+    }
+
+    /**
+     * Get the port the server listens on.
+     *
+     * @return The bound port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stop accepting connections and close the server socket.
+     *
+     * @throws IOException if the socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        if (connections != null) {
+            connections.shutdownNow();
+        }
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                try {
+                    connections.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    if (!connections.isShutdown()) {
+                        System.err.println("Error: Too many connections, closing a new one");
+                    }
+                    socket.close();
+                }
+            } catch (SocketException e) {
+                // Server socket was closed
+                return;
+            } catch (IOException e) {
+                System.err.println("Error: Could not accept connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Serve one connection until the client quits or disconnects.
+     *
+     * @param socket The client socket
+     */
+    private void serve(Socket socket) {
+        Connection connection = new Connection();
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                     StandardCharsets.US_ASCII));
+             Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                     StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+
+            StringBuilder buffer = new StringBuilder();
+            String line;
+            while ((line = readLine(in, buffer)) != null) {
+                boolean tooLong = line.length() > MAX_LINE_LENGTH;
+                String response = tooLong ? "ERR line too long" : handle(connection, line.trim());
+                out.write(response);
+                out.write('\n');
+                out.flush();
+                if (tooLong || "BYE".equals(response)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // Client went away; fall through to release its seat
+        } finally {
+            leave(connection);
+        }
+    }
+
+    /**
+     * Read a line, stopping after {@link #MAX_LINE_LENGTH} + 1 characters.
+     *
+     * @param in The request stream
+     * @param buffer Reusable line buffer
+     * @return The line without its terminator, longer than the limit if it was cut off,
+     *         or null at the end of the stream
+     * @throws IOException if the stream cannot be read
+     */
+    private static String readLine(Reader in, StringBuilder buffer) throws IOException {
+        buffer.setLength(0);
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                break;
+            }
+            buffer.append((char) c);
+            if (buffer.length() > MAX_LINE_LENGTH) {
+                break;
+            }
+        }
+        if (c == -1 && buffer.length() == 0) {
+            return null;
+        }
+        int length = buffer.length();
+        if (length > 0 && buffer.charAt(length - 1) == '\r') {
+            buffer.setLength(length - 1);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Handle one protocol line.
+     *
+     * @param connection The connection state
+     * @param line The request line
+     * @return The response line
+     */
+    private String handle(Connection connection, String line) {
+        String[] parts = line.split("\\s+");
+        String command = parts[0].toUpperCase();
+        try {
+            switch (command) {
+                case "CREATE":
+                    return create(connection, parts.length > 1 ? Integer.parseInt(parts[1]) : 1);
+                case "JOIN":
+                    if (parts.length < 2) {
+                        return "ERR missing game";
+                    }
+                    return join(connection, Integer.parseInt(parts[1]));
+                case "ROLL":
+                    return roll(connection, parts.length > 1 ? Integer.parseInt(parts[1])
+                            : ThreadLocalRandom.current().nextInt(1, 7));
+                case "STATE":
+                    return state(parts.length > 1 ? Integer.parseInt(parts[1]) : connection.game);
+                case "QUIT":
+                    leave(connection);
+                    return "BYE";
+                default:
+                    return "ERR unknown command";
+            }
+        } catch (NumberFormatException e) {
+            return "ERR invalid number";
+        } catch (IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    private String create(Connection connection, int players) {
+        sessionsLock.writeLock().lock();
+        try {
+            int game = store.createSession(players);
+            leaveLocked(connection);
+            ensureSeatCapacity(game);
+            seatsTaken[game] = 1;
+            seatsConnected[game] = 1;
+            seatsLeft[game] = 0;
+            connection.game = game;
+            connection.seat = 0;
+            return "OK " + game + " 0";
+        } finally {
+            sessionsLock.writeLock().unlock();
+        }
+    }
+
+    private String join(Connection connection, int game) {
+        sessionsLock.writeLock().lock();
+        try {
+            if (!store.isActive(game)) {
+                return "ERR unknown game";
+            }
+            if (connection.game == game) {
+                return "ERR already in game";
+            }
+            if (seatsTaken[game] == store.getPlayerCount(game)) {
+                return "ERR game full";
+            }
+            leaveLocked(connection);
+            connection.game = game;
+            connection.seat = seatsTaken[game]++;
+            seatsConnected[game]++;
+            skipLeftSeats(game);
+            return "OK " + game + " " + connection.seat;
+        } finally {
+            sessionsLock.writeLock().unlock();
+        }
+    }
+
+    private String roll(Connection connection, int diceRoll) {
+        int game = connection.game;
+        if (game < 0) {
+            return "ERR not in a game";
+        }
+        sessionsLock.readLock().lock();
+        ReentrantLock gameLock = gameLock(game);
+        gameLock.lock();
+        try {
+            if (seatsTaken[game] < store.getPlayerCount(game)) {
+                return "ERR waiting for players";
+            }
+            if (!store.isGameWon(game) && store.getCurrentPlayer(game) != connection.seat) {
+                return "ERR not your turn";
+            }
+            long move;
+            storeLock.lock();
+            try {
+                move = store.applyMove(game, diceRoll);
+                skipLeftSeats(game);
+            } finally {
+                storeLock.unlock();
+            }
+            return "OK " + diceRoll + " " + MoveOutcome.newPosition(move) + " "
+                    + MoveOutcome.name(MoveOutcome.outcome(move));
+        } finally {
+            gameLock.unlock();
+            sessionsLock.readLock().unlock();
+        }
+    }
+
+    private String state(int game) {
+        sessionsLock.readLock().lock();
+        try {
+            if (!store.isActive(game)) {
+                return "ERR unknown game";
+            }
+            ReentrantLock gameLock = gameLock(game);
+            gameLock.lock();
+            try {
+                StringBuilder response = new StringBuilder("STATE ").append(game)
+                        .append(' ').append(store.getCurrentPlayer(game))
+                        .append(' ').append(store.getWinner(game));
+                for (int player = 0; player < store.getPlayerCount(game); player++) {
+                    response.append(' ').append(store.getPosition(game, player));
+                }
+                return response.toString();
+            } finally {
+                gameLock.unlock();
+            }
+        } finally {
+            sessionsLock.readLock().unlock();
+        }
+    }
+
+    private void leave(Connection connection) {
+        sessionsLock.writeLock().lock();
+        try {
+            leaveLocked(connection);
+        } finally {
+            sessionsLock.writeLock().unlock();
+        }
+    }
+
+    private void leaveLocked(Connection connection) {
+        int game = connection.game;
+        if (game < 0) {
+            return;
+        }
+        connection.game = -1;
+        if (--seatsConnected[game] == 0) {
+            store.removeSession(game);
+        } else {
+            seatsLeft[game] |= 1 << connection.seat;
+            skipLeftSeats(game);
+        }
+    }
+
+    /**
+     * Pass the turn on while it belongs to a player who left. Needs the game's lock and the
+     * store lock, or the write lock; some seat is always either still connected or not yet taken.
+     *
+     * @param game The game
+     */
+    private void skipLeftSeats(int game) {
+        while (!store.isGameWon(game) && (seatsLeft[game] & (1 << store.getCurrentPlayer(game))) != 0) {
+            store.passTurn(game);
+        }
+    }
+
+    private ReentrantLock gameLock(int game) {
+        return gameLocks[game & (GAME_LOCK_STRIPES - 1)];
+    }
+
+    private void ensureSeatCapacity(int game) {
+        if (game >= seatsTaken.length) {
+            int capacity = Math.max(game + 1, seatsTaken.length * 2);
+            seatsTaken = Arrays.copyOf(seatsTaken, capacity);
+            seatsConnected = Arrays.copyOf(seatsConnected, capacity);
+            seatsLeft = Arrays.copyOf(seatsLeft, capacity);
+        }
+    }
+
+    /**
+     * Get the game board.
+     *
+     * @return The game board instance
+     */
+    public SnakesAndLaddersBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Per-connection state: the game and seat the client currently plays.
+     */
+    private static final class Connection {
+        int game = -1;
+        int seat = -1;
+    }
+}
@@ -0,0 +1,477 @@
+package com.snakeladders;
+
+
+import java.util.Arrays;
+
+/**
+ * Dense store for many concurrent multi-player games on one board.
+ * <p>
+ * Games are kept in structure-of-arrays form instead of one {@link GameEngine} per game.
+ * Player positions live in a {@code byte[]}, {@code short[]} or {@code int[]} column,
+ * whichever is the narrowest that fits the board, and the player count, current turn,
+ * won flag and winner of each game are packed into one {@code int}. A session id is the
+ * index of the game's slot; removed slots are reused by later sessions.
+ * <p>
+ * Moves follow the same rules as {@link GameEngine#movePlayer}, with players taking
+ * turns in order. When a {@link MoveJournal} is attached, every created session, applied
+ * move and removed session is appended to it. The store is not thread-safe, except that
+ * a {@link GameSnapshot} may be written from another thread while games continue.
+ */
+public class GameSessionStore {
+
+    /** Maximum number of players in one game. */
+    public static final int MAX_PLAYERS = 16;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Layout of the packed per-session state
+    private static final int PLAYERS_MASK = 0xF;
+    private static final int TURN_SHIFT = 4;
+    private static final int TURN_MASK = 0xF << TURN_SHIFT;
+    private static final int WINNER_SHIFT = 8;
+    private static final int WINNER_MASK = 0xF << WINNER_SHIFT;
+    private static final int WON_FLAG = 1 << 12;
+    private static final int ACTIVE_FLAG = 1 << 13;
+
+    private final SnakesAndLaddersBoard board;
+    private final int playersPerSession;
+    private final int positionBytes;
+
+    private byte[] bytePositions;
+    private short[] shortPositions;
+    private int[] intPositions;
+    private int[] states;
+
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWaterMark;
+    private int activeSessions;
+
+    private MoveJournal journal;
+    private volatile SnapshotCapture capture;
+
+    /**
+     * Create a store for games of up to the given number of players.
+     *
+     * @param board The game board shared by all sessions
+     * @param playersPerSession Maximum number of players in a session (1-16)
+     */
+    public GameSessionStore(SnakesAndLaddersBoard board, int playersPerSession) {
+        if (playersPerSession < 1 || playersPerSession > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players per session must be between 1 and " + MAX_PLAYERS
+                    + ": " + playersPerSession);
+        }
+        this.board = board;
+        this.playersPerSession = playersPerSession;
+
+        int boardSize = board.getSize();
+        this.positionBytes = boardSize <= 0xFF ? Byte.BYTES : boardSize <= 0xFFFF ? Short.BYTES : Integer.BYTES;
+        this.states = new int[INITIAL_CAPACITY];
+        this.freeSlots = new int[16];
+        allocatePositions(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Create a new session with all players at the start position.
+     *
+     * @param players Number of players in the game
+     * @return The session id
+     */
+    public int createSession(int players) {
+        if (players < 1 || players > playersPerSession) {
+            throw new IllegalArgumentException("Number of players must be between 1 and " + playersPerSession
+                    + ": " + players);
+        }
+
+        int sessionId;
+        if (freeCount > 0) {
+            sessionId = freeSlots[--freeCount];
+        } else {
+            if (highWaterMark == states.length) {
+                grow();
+            }
+            sessionId = highWaterMark++;
+        }
+
+        preserve(sessionId);
+        int base = sessionId * playersPerSession;
+        for (int player = 0; player < playersPerSession; player++) {
+            setPosition(base + player, SnakesAndLaddersBoard.START_POSITION);
+        }
+        states[sessionId] = ACTIVE_FLAG | (players - 1);
+        activeSessions++;
+        if (journal != null) {
+            journal.appendCreate(sessionId, players);
+        }
+        return sessionId;
+    }
+
+    /**
+     * Remove a session, making its slot available for reuse.
+     *
+     * @param sessionId The session id
+     */
+    public void removeSession(int sessionId) {
+        requireActive(sessionId);
+        preserve(sessionId);
+        states[sessionId] = 0;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = sessionId;
+        activeSessions--;
+        if (journal != null) {
+            journal.appendRemove(sessionId);
+        }
+    }
+
+    /**
+     * Move the player whose turn it is and pass the turn to the next player.
+     * Moves are counted in {@link EngineMetrics} like those of {@link GameEngine}.
+     *
+     * @param sessionId The session id
+     * @param diceRoll The dice roll value (1-6)
+     * @return The packed move, see {@link MoveOutcome}
+     * @throws IllegalArgumentException if the session is unknown or the dice roll is invalid
+     */
+    public long applyMove(int sessionId, int diceRoll) {
+        requireActive(sessionId);
+        GameEngine.requireValidDiceRoll(diceRoll);
+
+        int state = states[sessionId];
+        int turn = (state & TURN_MASK) >>> TURN_SHIFT;
+        int index = sessionId * playersPerSession + turn;
+        int position = getPosition(index);
+
+        long start = EngineMetrics.ENABLED ? EngineMetrics.startMove() : EngineMetrics.NOT_SAMPLED;
+        if ((state & WON_FLAG) != 0) {
+            long move = MoveOutcome.pack(position, MoveOutcome.ALREADY_WON, diceRoll);
+            if (EngineMetrics.ENABLED) {
+                EngineMetrics.recordMove(board, position, move, start);
+            }
+            return move;
+        }
+
+        long move = GameEngine.step(board, position, diceRoll);
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.recordMove(board, position, move, start);
+        }
+        preserve(sessionId);
+        setPosition(index, MoveOutcome.newPosition(move));
+
+        if (MoveOutcome.outcome(move) == MoveOutcome.WON) {
+            states[sessionId] = state | WON_FLAG | (turn << WINNER_SHIFT);
+        } else {
+            int nextTurn = turn == (state & PLAYERS_MASK) ? 0 : turn + 1;
+            states[sessionId] = (state & ~TURN_MASK) | (nextTurn << TURN_SHIFT);
+        }
+        if (journal != null) {
+            journal.appendMove(sessionId, turn, move);
+        }
+        return move;
+    }
+
+    /**
+     * Pass the turn to the next player without moving, e.g. when the current player left.
+     * Passed turns are not journaled, so a store with a journal rejects them.
+     *
+     * @param sessionId The session id
+     * @throws IllegalArgumentException if the session is unknown
+     * @throws IllegalStateException if a journal is attached
+     */
+    void passTurn(int sessionId) {
+        requireActive(sessionId);
+        if (journal != null) {
+            throw new IllegalStateException("Passed turns cannot be journaled");
+        }
+        int state = states[sessionId];
+        if ((state & WON_FLAG) != 0) {
+            return;
+        }
+        int turn = (state & TURN_MASK) >>> TURN_SHIFT;
+        int nextTurn = turn == (state & PLAYERS_MASK) ? 0 : turn + 1;
+        preserve(sessionId);
+        states[sessionId] = (state & ~TURN_MASK) | (nextTurn << TURN_SHIFT);
+    }
+
+    /**
+     * Check whether a session id refers to a live session.
+     *
+     * @param sessionId The session id
+     * @return true if the session exists, false otherwise
+     */
+    public boolean isActive(int sessionId) {
+        return sessionId >= 0 && sessionId < highWaterMark && (states[sessionId] & ACTIVE_FLAG) != 0;
+    }
+
+    /**
+     * Get the position of a player.
+     *
+     * @param sessionId The session id
+     * @param player The player index
+     * @return The player's position
+     */
+    public int getPosition(int sessionId, int player) {
+        requireActive(sessionId);
+        if (player < 0 || player >= getPlayerCount(sessionId)) {
+            throw new IllegalArgumentException("Invalid player: " + player);
+        }
+        return getPosition(sessionId * playersPerSession + player);
+    }
+
+    /**
+     * Get the number of players in a session.
+     *
+     * @param sessionId The session id
+     * @return Number of players
+     */
+    public int getPlayerCount(int sessionId) {
+        requireActive(sessionId);
+        return (states[sessionId] & PLAYERS_MASK) + 1;
+    }
+
+    /**
+     * Get the player whose turn it is; after a win this is the winner.
+     *
+     * @param sessionId The session id
+     * @return The current player index
+     */
+    public int getCurrentPlayer(int sessionId) {
+        requireActive(sessionId);
+        return (states[sessionId] & TURN_MASK) >>> TURN_SHIFT;
+    }
+
+    /**
+     * Check if a session's game has been won.
+     *
+     * @param sessionId The session id
+     * @return true if game is won, false otherwise
+     */
+    public boolean isGameWon(int sessionId) {
+        requireActive(sessionId);
+        return (states[sessionId] & WON_FLAG) != 0;
+    }
+
+    /**
+     * Get the winner of a session's game.
+     *
+     * @param sessionId The session id
+     * @return The winning player index, or -1 if the game is not won yet
+     */
+    public int getWinner(int sessionId) {
+        return isGameWon(sessionId) ? (states[sessionId] & WINNER_MASK) >>> WINNER_SHIFT : -1;
+    }
+
+    /**
+     * Get the number of live sessions.
+     *
+     * @return Number of sessions
+     */
+    public int size() {
+        return activeSessions;
+    }
+
+    /**
+     * Get the number of session slots currently allocated.
+     *
+     * @return Allocated capacity
+     */
+    public int capacity() {
+        return states.length;
+    }
+
+    /**
+     * Get the maximum number of players in one session.
+     *
+     * @return Players per session
+     */
+    public int getPlayersPerSession() {
+        return playersPerSession;
+    }
+
+    /**
+     * Get the number of bytes used by each session slot in the position and state columns.
+     *
+     * @return Bytes per session slot
+     */
+    public int getBytesPerSession() {
+        return playersPerSession * positionBytes + Integer.BYTES;
+    }
+
+    /**
+     * Attach a journal receiving every later change to the store. Replay an existing journal
+     * with {@link MoveJournal#replay(java.nio.file.Path, GameSessionStore)} before attaching it.
+     *
+     * @param journal The journal, or null to stop journaling
+     */
+    public void setJournal(MoveJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Get the game board.
+     *
+     * @return The game board instance
+     */
+    public SnakesAndLaddersBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Freeze the current state for a snapshot. Later changes copy the affected page first.
+     *
+     * @return The capture to read the frozen state from
+     * @throws IllegalStateException if another snapshot is still being written
+     */
+    SnapshotCapture beginSnapshot() {
+        if (capture != null) {
+            throw new IllegalStateException("A snapshot is already being written");
+        }
+        Object positions = positionBytes == Byte.BYTES ? bytePositions
+                : positionBytes == Short.BYTES ? shortPositions : intPositions;
+        SnapshotCapture started = new SnapshotCapture(highWaterMark, playersPerSession, positionBytes,
+                states, positions);
+        capture = started;
+        return started;
+    }
+
+    /**
+     * Stop copying pages for the current snapshot. May be called from the snapshot thread.
+     */
+    void endSnapshot() {
+        capture = null;
+    }
+
+    /**
+     * Clear the store and size it for restoring the given number of session slots.
+     *
+     * @param sessions Number of session slots in the snapshot
+     */
+    void prepareRestore(int sessions) {
+        int capacity = Math.max(INITIAL_CAPACITY, sessions);
+        states = new int[capacity];
+        bytePositions = null;
+        shortPositions = null;
+        intPositions = null;
+        allocatePositions(capacity);
+        highWaterMark = sessions;
+        freeCount = 0;
+        activeSessions = 0;
+    }
+
+    /**
+     * Restore the packed state of a session slot.
+     *
+     * @param sessionId The session id
+     * @param state The packed state
+     */
+    void restoreState(int sessionId, int state) {
+        states[sessionId] = state;
+    }
+
+    /**
+     * Restore one position slot.
+     *
+     * @param index Position slot, session id times players per session plus player
+     * @param position The position
+     */
+    void restorePosition(int index, int position) {
+        setPosition(index, position);
+    }
+
+    /**
+     * Rebuild the free list and session count after all slots were restored.
+     */
+    void finishRestore() {
+        for (int sessionId = highWaterMark - 1; sessionId >= 0; sessionId--) {
+            if ((states[sessionId] & ACTIVE_FLAG) != 0) {
+                activeSessions++;
+            } else {
+                if (freeCount == freeSlots.length) {
+                    freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+                }
+                freeSlots[freeCount++] = sessionId;
+            }
+        }
+    }
+
+    /**
+     * Check whether a packed state read from outside is valid for this store.
+     *
+     * @param state The packed state
+     * @return true if the state can be restored, false otherwise
+     */
+    boolean isValidState(int state) {
+        if (state == 0) {
+            return true;
+        }
+        int players = (state & PLAYERS_MASK) + 1;
+        return (state & ~(PLAYERS_MASK | TURN_MASK | WINNER_MASK | WON_FLAG | ACTIVE_FLAG)) == 0
+                && (state & ACTIVE_FLAG) != 0
+                && players <= playersPerSession
+                && (state & TURN_MASK) >>> TURN_SHIFT < players
+                && (state & WINNER_MASK) >>> WINNER_SHIFT < players;
+    }
+
+    private void preserve(int sessionId) {
+        SnapshotCapture pending = capture;
+        if (pending != null) {
+            pending.preserve(sessionId);
+        }
+    }
+
+    private void requireActive(int sessionId) {
+        if (!isActive(sessionId)) {
+            throw new IllegalArgumentException("Unknown session: " + sessionId);
+        }
+    }
+
+    private int getPosition(int index) {
+        switch (positionBytes) {
+            case Byte.BYTES:
+                return bytePositions[index] & 0xFF;
+            case Short.BYTES:
+                return shortPositions[index] & 0xFFFF;
+            default:
+                return intPositions[index];
+        }
+    }
+
+    private void setPosition(int index, int position) {
+        switch (positionBytes) {
+            case Byte.BYTES:
+                bytePositions[index] = (byte) position;
+                break;
+            case Short.BYTES:
+                shortPositions[index] = (short) position;
+                break;
+            default:
+                intPositions[index] = position;
+                break;
+        }
+    }
+
+    private void allocatePositions(int capacity) {
+        int length = capacity * playersPerSession;
+        switch (positionBytes) {
+            case Byte.BYTES:
+                bytePositions = bytePositions == null ? new byte[length] : Arrays.copyOf(bytePositions, length);
+                break;
+            case Short.BYTES:
+                shortPositions = shortPositions == null ? new short[length] : Arrays.copyOf(shortPositions, length);
+                break;
+            default:
+                intPositions = intPositions == null ? new int[length] : Arrays.copyOf(intPositions, length);
+                break;
+        }
+    }
+
+    private void grow() {
+        int capacity = states.length + (states.length >> 1);
+        if (capacity < 0 || (long) capacity * playersPerSession > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Session store is full");
+        }
+        states = Arrays.copyOf(states, capacity);
+        allocatePositions(capacity);
+    }
+}
@@ -0,0 +1,200 @@
+package com.snakeladders;
+
+
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo simulator playing complete single-player games on a board.
+ * <p>
+ * Games are split into a fixed tree of fork/join tasks. Every fork splits the
+ * {@link SplittableRandom} of its parent, so each game sees the same dice no matter
+ * which worker runs it, and results are reproducible for a given seed regardless
+ * of the number of threads. Each worker thread accumulates into its own histograms,
+ * which are merged once all games have finished.
+ */
+public class GameSimulator {
+
+    /** Default number of turns after which a game is abandoned as unfinished. */
+    public static final int DEFAULT_MAX_TURNS = 100_000;
+
+    private static final long GAMES_PER_TASK = 1 << 14;
+
+    private final SnakesAndLaddersBoard board;
+    private final ForkJoinPool pool;
+    private final int maxTurns;
+
+    /**
+     * Create a simulator running on the common fork/join pool.
+     *
+     * @param board The game board
+     */
+    public GameSimulator(SnakesAndLaddersBoard board) {
+        this(board, ForkJoinPool.commonPool(), DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Create a simulator running on the given pool.
+     *
+     * @param board The game board
+     * @param pool The fork/join pool running the games
+     * @param maxTurns Number of turns after which a game is abandoned as unfinished
+     */
+    public GameSimulator(SnakesAndLaddersBoard board, ForkJoinPool pool, int maxTurns) {
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("Max turns must be positive: " + maxTurns);
+        }
+        this.board = board;
+        this.pool = pool;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Play the given number of complete games.
+     *
+     * @param games Number of games to play
+     * @param seed Seed of the dice; the same seed always gives the same result
+     * @return The aggregated simulation result
+     */
+    public SimulationResult simulate(long games, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative: " + games);
+        }
+
+        Queue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+        ThreadLocal<Accumulator> workerAccumulator = ThreadLocal.withInitial(() -> {
+            Accumulator accumulator = new Accumulator(board.getJumpCount());
+            accumulators.add(accumulator);
+            return accumulator;
+        });
+
+        long start = System.nanoTime();
+        pool.invoke(new GameBatch(0, games, new SplittableRandom(seed), workerAccumulator));
+        long elapsedNanos = System.nanoTime() - start;
+
+        Accumulator total = new Accumulator(board.getJumpCount());
+        for (Accumulator accumulator : accumulators) {
+            total.merge(accumulator);
+        }
+        return new SimulationResult(board, games, total.unfinishedGames, total.histogram(),
+                total.jumpHits, elapsedNanos);
+    }
+
+    /**
+     * Play a single game to completion.
+     *
+     * @param random Source of dice rolls
+     * @param jumpHits Per-jump counters incremented when a ladder or snake is taken
+     * @return Number of turns to win, or -1 if the game was abandoned
+     */
+    private int playGame(SplittableRandom random, long[] jumpHits) {
+        int boardSize = board.getSize();
+        int position = SnakesAndLaddersBoard.START_POSITION;
+
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            int diceRoll = random.nextInt(6) + 1;
+            long move = GameEngine.step(board, position, diceRoll);
+
+            // Ask the board rather than the outcome: a ladder to the last cell reports a win
+            byte landed = board.getCellKind(position + diceRoll);
+            if (landed == SnakesAndLaddersBoard.CELL_LADDER || landed == SnakesAndLaddersBoard.CELL_SNAKE) {
+                jumpHits[board.getJumpIndex(position + diceRoll)]++;
+            }
+            position = MoveOutcome.newPosition(move);
+            if (position == boardSize) {
+                return turn;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Fork/join task playing a contiguous range of games.
+     */
+    private final class GameBatch extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long fromGame;
+        private final long toGame;
+        private final SplittableRandom random;
+        private final ThreadLocal<Accumulator> workerAccumulator;
+
+        GameBatch(long fromGame, long toGame, SplittableRandom random, ThreadLocal<Accumulator> workerAccumulator) {
+            this.fromGame = fromGame;
+            this.toGame = toGame;
+            this.random = random;
+            this.workerAccumulator = workerAccumulator;
+        }
+
+        @Override
+        protected void compute() {
+            if (toGame - fromGame <= GAMES_PER_TASK) {
+                Accumulator accumulator = workerAccumulator.get();
+                for (long game = fromGame; game < toGame; game++) {
+                    accumulator.record(playGame(random, accumulator.jumpHits));
+                }
+                return;
+            }
+
+            long middle = fromGame + (toGame - fromGame) / 2;
+            SplittableRandom rightRandom = random.split();
+            invokeAll(new GameBatch(fromGame, middle, random, workerAccumulator),
+                    new GameBatch(middle, toGame, rightRandom, workerAccumulator));
+        }
+    }
+
+    /**
+     * Per-worker histogram of turns-to-win and jump hit counters.
+     */
+    private static final class Accumulator {
+
+        private long[] turnCounts = new long[256];
+        private int maxTurnsSeen;
+        private long unfinishedGames;
+        private final long[] jumpHits;
+
+        Accumulator(int jumps) {
+            this.jumpHits = new long[jumps];
+        }
+
+        void record(int turns) {
+            if (turns < 0) {
+                unfinishedGames++;
+                return;
+            }
+            ensureCapacity(turns);
+            turnCounts[turns]++;
+            maxTurnsSeen = Math.max(maxTurnsSeen, turns);
+        }
+
+        void merge(Accumulator other) {
+            ensureCapacity(other.maxTurnsSeen);
+            for (int turns = 0; turns <= other.maxTurnsSeen; turns++) {
+                turnCounts[turns] += other.turnCounts[turns];
+            }
+            maxTurnsSeen = Math.max(maxTurnsSeen, other.maxTurnsSeen);
+            unfinishedGames += other.unfinishedGames;
+            for (int jump = 0; jump < jumpHits.length; jump++) {
+                jumpHits[jump] += other.jumpHits[jump];
+            }
+        }
+
+        long[] histogram() {
+            long[] histogram = new long[maxTurnsSeen + 1];
+            System.arraycopy(turnCounts, 0, histogram, 0, histogram.length);
+            return histogram;
+        }
+
+        private void ensureCapacity(int turns) {
+            if (turns >= turnCounts.length) {
+                long[] grown = new long[Math.max(turns + 1, turnCounts.length * 2)];
+                System.arraycopy(turnCounts, 0, grown, 0, turnCounts.length);
+                turnCounts = grown;
+            }
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.snakeladders;
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Point-in-time snapshots of every game in a {@link GameSessionStore}.
+ * <p>
+ * A snapshot starts with a header identifying the board, followed by the sessions in
+ * pages of {@value SnapshotCapture#PAGE_SESSIONS}. Each page holds a column of packed
+ * session states (player count, turn, won flag and winner) and a column of player
+ * positions. The header fields are varints and both columns are bit-packed at the
+ * smallest width that fits the board, so a 4-player game on the standard board takes
+ * about 5 bytes. Snapshots are written through a {@link FileChannel} to a temporary file
+ * that replaces the target only when complete, and restored straight from a mapped
+ * buffer.
+ * <p>
+ * Taking a snapshot does not stop the games: the store only copies a page when it is
+ * about to change one the writer has not reached yet.
+ */
+public final class GameSnapshot {
+
+    private static final int MAGIC = 0x534C534E;
+    private static final int VERSION = 1;
+    private static final int STATE_BITS = 14;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * Write a snapshot of a store on the calling thread.
+     *
+     * @param store The store to snapshot
+     * @param file Target file, replaced when the snapshot is complete
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(GameSessionStore store, Path file) throws IOException {
+        write(store, store.beginSnapshot(), file);
+    }
+
+    /**
+     * Freeze the state of a store and write the snapshot in the background. Must be called
+     * on the thread that owns the store, which may keep applying moves right away.
+     *
+     * @param store The store to snapshot
+     * @param file Target file, replaced when the snapshot is complete
+     * @param executor Executor running the writer
+     * @return Future completing when the snapshot is on disk
+     * @throws IllegalStateException if another snapshot of the store is still being written
+     */
+    public static CompletableFuture<Void> writeAsync(GameSessionStore store, Path file, Executor executor) {
+        SnapshotCapture capture = store.beginSnapshot();
+        return CompletableFuture.runAsync(() -> {
+            try {
+                write(store, capture, file);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private static void write(GameSessionStore store, SnapshotCapture capture, Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            SnakesAndLaddersBoard board = store.getBoard();
+            int players = store.getPlayersPerSession();
+            int positionBits = bitsFor(board.getSize());
+
+            BitWriter out = new BitWriter(channel);
+            out.writeInt(MAGIC);
+            out.writeVarint(VERSION);
+            out.writeLong(fingerprint(board));
+            out.writeVarint(board.getSize());
+            out.writeVarint(players);
+            out.writeVarint(capture.getSessions());
+            out.writeVarint(positionBits);
+
+            int[] pageStates = new int[SnapshotCapture.PAGE_SESSIONS];
+            int[] pagePositions = new int[SnapshotCapture.PAGE_SESSIONS * players];
+            for (int page = 0; page < capture.getPages(); page++) {
+                capture.readPage(page, pageStates, pagePositions);
+                int length = capture.getPageLength(page);
+                for (int i = 0; i < length; i++) {
+                    out.writeBits(pageStates[i], STATE_BITS);
+                }
+                for (int i = 0; i < length * players; i++) {
+                    out.writeBits(pagePositions[i], positionBits);
+                }
+            }
+            out.finish();
+            channel.force(false);
+        } finally {
+            store.endSnapshot();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restore a store from a snapshot.
+     *
+     * @param file The snapshot file
+     * @param board The board the snapshot was taken on
+     * @return A new store holding every session of the snapshot
+     * @throws IOException if the snapshot cannot be read
+     * @throws IllegalArgumentException if the snapshot is corrupt or was taken on another board
+     */
+    public static GameSessionStore restore(Path file, SnakesAndLaddersBoard board) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        BitReader in = new BitReader(buffer);
+        if (in.readInt() != MAGIC || in.readVarint() != VERSION) {
+            throw new IllegalArgumentException("Not a game snapshot: " + file);
+        }
+        if (in.readLong() != fingerprint(board) || in.readVarint() != board.getSize()) {
+            throw new IllegalArgumentException("Snapshot was taken on a different board");
+        }
+        int players = in.readVarint();
+        int sessions = in.readVarint();
+        int positionBits = in.readVarint();
+        if (players < 1 || players > GameSessionStore.MAX_PLAYERS || sessions < 0
+                || positionBits != bitsFor(board.getSize())) {
+            throw new IllegalArgumentException("Corrupt snapshot header: " + file);
+        }
+        long payloadBits = (long) sessions * (STATE_BITS + (long) players * positionBits);
+        if (payloadBits > in.getRemainingBits()) {
+            throw new IllegalArgumentException("Truncated snapshot: " + file);
+        }
+
+        GameSessionStore store = new GameSessionStore(board, players);
+        store.prepareRestore(sessions);
+        int boardSize = board.getSize();
+        for (int first = 0; first < sessions; first += SnapshotCapture.PAGE_SESSIONS) {
+            int length = Math.min(SnapshotCapture.PAGE_SESSIONS, sessions - first);
+            for (int sessionId = first; sessionId < first + length; sessionId++) {
+                int state = in.readBits(STATE_BITS);
+                if (!store.isValidState(state)) {
+                    throw new IllegalArgumentException("Corrupt state of session " + sessionId);
+                }
+                store.restoreState(sessionId, state);
+            }
+            int base = first * players;
+            for (int index = base; index < base + length * players; index++) {
+                int position = in.readBits(positionBits);
+                if (position > boardSize) {
+                    throw new IllegalArgumentException("Corrupt position in slot " + index);
+                }
+                store.restorePosition(index, position);
+            }
+        }
+        store.finishRestore();
+        return store;
+    }
+
+    /**
+     * Compute a fingerprint of a board's size and jumps.
+     *
+     * @param board The game board
+     * @return The fingerprint
+     */
+    static long fingerprint(SnakesAndLaddersBoard board) {
+        long hash = (0xCBF29CE484222325L ^ board.getSize()) * 0x100000001B3L;
+        for (int jump = 0; jump < board.getJumpCount(); jump++) {
+            hash = (hash ^ board.getJumpSource(jump)) * 0x100000001B3L;
+            hash = (hash ^ board.getJumpTarget(jump)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static int bitsFor(int value) {
+        return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * Buffered little-endian bit stream written to a channel.
+     */
+    private static final class BitWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long bits;
+        private int bitCount;
+
+        BitWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeBits(int value, int width) throws IOException {
+            bits |= (value & 0xFFFFFFFFL) << bitCount;
+            bitCount += width;
+            if (bitCount >= Long.SIZE) {
+                putLong(bits);
+                bitCount -= Long.SIZE;
+                bits = bitCount == 0 ? 0 : (value & 0xFFFFFFFFL) >>> (width - bitCount);
+            }
+        }
+
+        void writeVarint(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                writeBits((value & 0x7F) | 0x80, Byte.SIZE);
+                value >>>= 7;
+            }
+            writeBits(value, Byte.SIZE);
+        }
+
+        void writeInt(int value) throws IOException {
+            writeBits(value, Integer.SIZE);
+        }
+
+        void writeLong(long value) throws IOException {
+            writeBits((int) value, Integer.SIZE);
+            writeBits((int) (value >>> 32), Integer.SIZE);
+        }
+
+        void finish() throws IOException {
+            if (bitCount > 0) {
+                putLong(bits);
+                bits = 0;
+                bitCount = 0;
+            }
+            flush();
+        }
+
+        private void putLong(long value) throws IOException {
+            if (buffer.remaining() < Long.BYTES) {
+                flush();
+            }
+            buffer.putLong(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Little-endian bit stream read in place from a mapped buffer.
+     */
+    private static final class BitReader {
+
+        private final ByteBuffer buffer;
+        private int offset;
+        private long bits;
+        private int bitCount;
+
+        BitReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readBits(int width) {
+            long mask = (1L << width) - 1;
+            if (bitCount >= width) {
+                int value = (int) (bits & mask);
+                bits >>>= width;
+                bitCount -= width;
+                return value;
+            }
+            long low = bits;
+            int lowCount = bitCount;
+            if (offset + Long.BYTES > buffer.capacity()) {
+                throw new IllegalArgumentException("Truncated snapshot");
+            }
+            bits = buffer.getLong(offset);
+            offset += Long.BYTES;
+            int value = (int) ((low | (bits << lowCount)) & mask);
+            bits >>>= width - lowCount;
+            bitCount = Long.SIZE - (width - lowCount);
+            return value;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int b = readBits(Byte.SIZE);
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Corrupt varint in snapshot");
+        }
+
+        int readInt() {
+            return readBits(Integer.SIZE);
+        }
+
+        long readLong() {
+            long low = readBits(Integer.SIZE) & 0xFFFFFFFFL;
+            return low | ((long) readBits(Integer.SIZE) << 32);
+        }
+
+        long getRemainingBits() {
+            return (long) (buffer.capacity() - offset) * Byte.SIZE + bitCount;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.snakeladders;
+
+
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds.
+ * <p>
+ * Values are grouped by power of two, and each power of two is split into 32 linear
+ * sub-buckets, so percentiles are accurate to about 3% over the whole range of
+ * {@code long}. Recording is a couple of shifts and an array increment. Instances are
+ * not thread-safe; keep one per thread and {@link #merge} them for reporting.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Number of buckets, see {@link #bucketOf}. */
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Record one latency.
+     *
+     * @param nanos Latency in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        totalCount++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    /**
+     * Add all values recorded by another histogram.
+     *
+     * @param other The histogram to merge in
+     */
+    public void merge(LatencyHistogram other) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] += other.counts[bucket];
+        }
+        totalCount += other.totalCount;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    /**
+     * Add values that were counted elsewhere in the bucket layout of this class.
+     *
+     * @param bucketCounts Count of each bucket, as indexed by {@link #bucketOf}
+     * @param sumNanos Sum of the values
+     * @param largestNanos Largest of the values
+     */
+    void merge(long[] bucketCounts, long sumNanos, long largestNanos) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] += bucketCounts[bucket];
+            totalCount += bucketCounts[bucket];
+        }
+        totalNanos += sumNanos;
+        maxNanos = Math.max(maxNanos, largestNanos);
+    }
+
+    /**
+     * Forget all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return Number of values
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Get the mean of the recorded values.
+     *
+     * @return Mean latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        return totalCount == 0 ? 0 : (double) totalNanos / totalCount;
+    }
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return Maximum latency in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Get a percentile of the recorded values.
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Upper bound of the bucket holding the percentile, in nanoseconds
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(maxNanos, upperBoundOf(bucket));
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Get the count of every bucket, for exporting the full distribution.
+     *
+     * @return Copy of the bucket counts
+     */
+    public long[] getBucketCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * Get the largest value that falls into a bucket.
+     *
+     * @param bucket Bucket index
+     * @return Upper bound in nanoseconds
+     */
+    public static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * Get the bucket a value falls into.
+     *
+     * @param value A non-negative value
+     * @return Bucket index
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // Shift the value so that exactly SUB_BUCKET_BITS + 1 significant bits remain
+        int shift = Long.SIZE - SUB_BUCKET_BITS - 1 - Long.numberOfLeadingZeros(value);
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+}
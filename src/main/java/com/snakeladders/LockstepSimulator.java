@@ -0,0 +1,225 @@
+package com.snakeladders;
+
+
+import java.util.Arrays;
+
+/**
+ * Plays many independent single-player games in lockstep, one roll per game per round.
+ * <p>
+ * Positions and turn counts are kept in {@code int[]} lanes. The board is compiled into
+ * a flat table of final positions padded by one entry per overshooting roll, so a move is
+ * an add, a table lookup and a blend that keeps finished and overshooting games in place.
+ * When the runtime provides the {@code jdk.incubator.vector} module (run with
+ * {@code --add-modules jdk.incubator.vector}), each round processes a full vector of games
+ * per step with a gather from the table; otherwise a scalar loop does the same work.
+ * Finished games are compacted away once they make up half the lanes.
+ */
+public class LockstepSimulator {
+
+    /** Default number of turns after which a game is abandoned as unfinished. */
+    public static final int DEFAULT_MAX_TURNS = GameSimulator.DEFAULT_MAX_TURNS;
+
+    private static final int DICE_FACES = 6;
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "com.snakeladders.VectorLockstepKernel";
+
+    private static final Kernel VECTOR = findVectorKernel();
+
+    private final SnakesAndLaddersBoard board;
+    private final int boardSize;
+    private final int[] table;
+    private final Kernel kernel;
+
+    /**
+     * Create a simulator using the Vector API when the runtime provides it.
+     *
+     * @param board The game board
+     */
+    public LockstepSimulator(SnakesAndLaddersBoard board) {
+        this(board, true);
+    }
+
+    /**
+     * Create a simulator.
+     *
+     * @param board The game board
+     * @param vectorized Whether to use the Vector API when the runtime provides it
+     * @throws IllegalArgumentException if the board is too large for a flat table
+     */
+    public LockstepSimulator(SnakesAndLaddersBoard board, boolean vectorized) {
+        this.board = board;
+        this.boardSize = board.getSize();
+        if (boardSize > Integer.MAX_VALUE - 8 - DICE_FACES) {
+            throw new IllegalArgumentException("Board too large for lockstep simulation: " + boardSize);
+        }
+
+        // Final position of every landing cell, and -1 for the cells past the end
+        this.table = new int[boardSize + 1 + DICE_FACES];
+        for (int cell = 0; cell <= boardSize; cell++) {
+            table[cell] = board.getFinalPosition(cell);
+        }
+        Arrays.fill(table, boardSize + 1, table.length, -1);
+        this.kernel = vectorized && VECTOR != null ? VECTOR : new ScalarKernel();
+    }
+
+    private static Kernel findVectorKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (Kernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check whether this simulator runs on the Vector API.
+     *
+     * @return true if moves are vectorized, false if the scalar fallback is used
+     */
+    public boolean isVectorized() {
+        return VECTOR != null && kernel == VECTOR;
+    }
+
+    /**
+     * Apply one roll to each game in a range of lanes. Games on the last cell are left
+     * untouched; the others move by the rules of {@link GameEngine#step} and have their
+     * turn count incremented.
+     *
+     * @param positions Position of each game, updated in place
+     * @param turns Turns played by each game, updated in place
+     * @param rolls Roll of each game, assumed to be between 1 and 6
+     * @param count Number of lanes to advance, starting at lane 0
+     * @return Number of games in the range that have not won yet
+     */
+    public int advance(int[] positions, int[] turns, byte[] rolls, int count) {
+        if (count < 0 || count > positions.length || count > turns.length || count > rolls.length) {
+            throw new IllegalArgumentException("Lane count out of range: " + count);
+        }
+        return kernel.advance(table, boardSize, positions, turns, rolls, count);
+    }
+
+    /**
+     * Play complete games from the start position.
+     *
+     * @param games Number of games to play
+     * @param dice Source of the dice rolls
+     * @param maxTurns Number of turns after which a game is abandoned as unfinished
+     * @return Turns to win of each game, or -1 for abandoned games
+     */
+    public int[] playGames(int games, DiceSource dice, int maxTurns) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative: " + games);
+        }
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("Max turns must be positive: " + maxTurns);
+        }
+
+        int[] result = new int[games];
+        int[] positions = new int[games];
+        int[] turns = new int[games];
+        int[] gameIds = new int[games];
+        byte[] rolls = new byte[games];
+        Arrays.fill(positions, SnakesAndLaddersBoard.START_POSITION);
+        Arrays.setAll(gameIds, lane -> lane);
+
+        int lanes = games;
+        for (int round = 1; round <= maxTurns && lanes > 0; round++) {
+            dice.nextRolls(rolls, 0, lanes);
+            int active = kernel.advance(table, boardSize, positions, turns, rolls, lanes);
+            if (active <= lanes / 2) {
+                lanes = compact(positions, turns, gameIds, result, lanes);
+            }
+        }
+        for (int lane = 0; lane < lanes; lane++) {
+            result[gameIds[lane]] = positions[lane] == boardSize ? turns[lane] : -1;
+        }
+        return result;
+    }
+
+    /**
+     * Record the finished games and move the others to the front of the lanes.
+     *
+     * @return Number of lanes still in play
+     */
+    private int compact(int[] positions, int[] turns, int[] gameIds, int[] result, int lanes) {
+        int kept = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            if (positions[lane] == boardSize) {
+                result[gameIds[lane]] = turns[lane];
+            } else {
+                positions[kept] = positions[lane];
+                turns[kept] = turns[lane];
+                gameIds[kept] = gameIds[lane];
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Get the game board.
+     *
+     * @return The game board instance
+     */
+    public SnakesAndLaddersBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * One round of moves over a range of lanes.
+     */
+    interface Kernel {
+
+        /**
+         * Apply one roll to each game in lanes {@code [0, count)}.
+         *
+         * @param table Final position of each landing cell, -1 past the last cell
+         * @param boardSize Number of the last cell
+         * @param positions Position of each game, updated in place
+         * @param turns Turns played by each game, updated in place
+         * @param rolls Roll of each game
+         * @param count Number of lanes
+         * @return Number of games that have not won yet
+         */
+        int advance(int[] table, int boardSize, int[] positions, int[] turns, byte[] rolls, int count);
+    }
+
+    /**
+     * Plain loop over the lanes, used when the Vector API is not available.
+     */
+    static final class ScalarKernel implements Kernel {
+
+        @Override
+        public int advance(int[] table, int boardSize, int[] positions, int[] turns, byte[] rolls, int count) {
+            return advanceRange(table, boardSize, positions, turns, rolls, 0, count);
+        }
+
+        /**
+         * Apply one roll to each game in lanes {@code [from, to)}.
+         *
+         * @return Number of games in the range that have not won yet
+         */
+        static int advanceRange(int[] table, int boardSize, int[] positions, int[] turns, byte[] rolls,
+                                int from, int to) {
+            int active = 0;
+            for (int lane = from; lane < to; lane++) {
+                int position = positions[lane];
+                if (position == boardSize) {
+                    continue;
+                }
+                int landed = table[position + rolls[lane]];
+                if (landed >= 0) {
+                    position = landed;
+                    positions[lane] = landed;
+                }
+                turns[lane]++;
+                if (position != boardSize) {
+                    active++;
+                }
+            }
+            return active;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.snakeladders;
+
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Exact analysis of a board as an absorbing Markov chain.
+ * <p>
+ * Each resting position has at most six successors, one per dice roll, derived from
+ * {@link GameEngine#step}: a roll past the last cell leaves the player in place and the
+ * last cell is absorbing. The chain is kept as a flat successor table and solved with
+ * Gauss-Seidel sweeps, so the cost per sweep is linear in the number of cells.
+ */
+public class MarkovAnalyzer {
+
+    private static final int DICE_FACES = 6;
+    private static final double TOLERANCE = 1e-12;
+    private static final int MAX_SWEEPS = 1_000_000;
+
+    private final SnakesAndLaddersBoard board;
+    private final int boardSize;
+    private final int[] successors;
+    private final int[] landings;
+    private double[] expectedTurns;
+
+    /**
+     * Build the transition structure of a board.
+     *
+     * @param board The game board
+     */
+    public MarkovAnalyzer(SnakesAndLaddersBoard board) {
+        this.board = board;
+        this.boardSize = board.getSize();
+        this.successors = new int[boardSize * DICE_FACES];
+        this.landings = new int[boardSize * DICE_FACES];
+
+        for (int position = 0; position < boardSize; position++) {
+            for (int diceRoll = 1; diceRoll <= DICE_FACES; diceRoll++) {
+                int index = position * DICE_FACES + diceRoll - 1;
+                successors[index] = MoveOutcome.newPosition(GameEngine.step(board, position, diceRoll));
+                landings[index] = position + diceRoll;
+            }
+        }
+    }
+
+    /**
+     * Get the exact expected number of turns to win from the start position.
+     *
+     * @return Expected turns to win
+     */
+    public double getExpectedTurns() {
+        return getExpectedTurns(SnakesAndLaddersBoard.START_POSITION);
+    }
+
+    /**
+     * Get the exact expected number of turns to win from a position.
+     *
+     * @param position Position to start from
+     * @return Expected turns to win
+     */
+    public double getExpectedTurns(int position) {
+        if (!board.isValidPosition(position)) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+        return expectedTurns()[position];
+    }
+
+    private synchronized double[] expectedTurns() {
+        if (expectedTurns == null) {
+            // E[i] = 1 + 1/6 * sum(E[successor]), with E[boardSize] = 0
+            double[] turns = new double[boardSize + 1];
+            solve(turns, position -> DICE_FACES, -1);
+            expectedTurns = turns;
+        }
+        return expectedTurns;
+    }
+
+    /**
+     * Get the probability of having won by each turn, starting from the start position.
+     *
+     * @param maxTurns Last turn to compute
+     * @return Array where element k is the probability of having won within k turns
+     */
+    public double[] getFinishProbabilities(int maxTurns) {
+        if (maxTurns < 0) {
+            throw new IllegalArgumentException("Number of turns must not be negative: " + maxTurns);
+        }
+
+        double[] finished = new double[maxTurns + 1];
+        double[] current = new double[boardSize + 1];
+        double[] next = new double[boardSize + 1];
+        current[SnakesAndLaddersBoard.START_POSITION] = 1.0;
+
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            Arrays.fill(next, 0, boardSize, 0.0);
+            next[boardSize] = current[boardSize];
+            for (int position = 0; position < boardSize; position++) {
+                double share = current[position] / DICE_FACES;
+                if (share == 0.0) {
+                    continue;
+                }
+                int base = position * DICE_FACES;
+                for (int face = 0; face < DICE_FACES; face++) {
+                    next[successors[base + face]] += share;
+                }
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+            finished[turn] = current[boardSize];
+        }
+        return finished;
+    }
+
+    /**
+     * Get the probability of having won within the given number of turns.
+     *
+     * @param turns Number of turns
+     * @return Probability of winning within that many turns
+     */
+    public double getFinishProbability(int turns) {
+        return getFinishProbabilities(turns)[turns];
+    }
+
+    /**
+     * Get the probability that the player ever stands on a cell during a game,
+     * either by landing on it or by arriving through a ladder or snake.
+     *
+     * @param cell Cell to reach
+     * @return Probability of reaching the cell from the start position
+     */
+    public double getReachProbability(int cell) {
+        if (!board.isValidPosition(cell)) {
+            throw new IllegalArgumentException("Invalid position: " + cell);
+        }
+        if (cell == SnakesAndLaddersBoard.START_POSITION) {
+            return 1.0;
+        }
+
+        // h[i] = 1/6 * sum(reached ? 1 : h[successor]), with h[boardSize] = 0 unless it is the target
+        double[] reach = new double[boardSize + 1];
+        solve(reach, position -> {
+            double hits = 0;
+            int base = position * DICE_FACES;
+            for (int face = 0; face < DICE_FACES; face++) {
+                if (landings[base + face] == cell || successors[base + face] == cell) {
+                    hits++;
+                }
+            }
+            return hits;
+        }, cell);
+        return reach[SnakesAndLaddersBoard.START_POSITION];
+    }
+
+    /**
+     * Get the reach probability of every cell, solved in parallel.
+     *
+     * @return Array of reach probabilities indexed by cell
+     * @see #getReachProbability(int)
+     */
+    public double[] getReachProbabilities() {
+        return IntStream.rangeClosed(0, boardSize).parallel().mapToDouble(this::getReachProbability).toArray();
+    }
+
+    /**
+     * Solve {@code x[i] = (constant(i) + sum(x[successor])) / 6} over all non-absorbed positions
+     * using Gauss-Seidel sweeps. Self-loops are folded into the diagonal.
+     *
+     * @param values Solution vector, updated in place
+     * @param constant Constant term of each row, already scaled by 6
+     * @param absorbing Additional cell whose successors do not contribute, or -1
+     */
+    private void solve(double[] values, IntToDoubleFunction constant, int absorbing) {
+        double[] constants = new double[boardSize];
+        for (int position = 0; position < boardSize; position++) {
+            constants[position] = constant.applyAsDouble(position);
+        }
+
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            double maxChange = 0;
+            // Sweep from the goal backwards, since most moves go forward
+            for (int position = boardSize - 1; position >= 0; position--) {
+                int base = position * DICE_FACES;
+                double sum = constants[position];
+                int selfLoops = 0;
+                for (int face = 0; face < DICE_FACES; face++) {
+                    int successor = successors[base + face];
+                    // An absorbed face is already in the constant, even if a snake leads back here
+                    if (successor == absorbing || landings[base + face] == absorbing) {
+                        continue;
+                    }
+                    if (successor == position) {
+                        selfLoops++;
+                    } else {
+                        sum += values[successor];
+                    }
+                }
+                if (selfLoops == DICE_FACES) {
+                    throw new IllegalStateException("Position " + position + " can never be left");
+                }
+
+                double updated = sum / (DICE_FACES - selfLoops);
+                maxChange = Math.max(maxChange, Math.abs(updated - values[position]) / Math.max(1.0, updated));
+                values[position] = updated;
+            }
+            if (maxChange < TOLERANCE) {
+                return;
+            }
+        }
+        throw new IllegalStateException("Markov chain solver did not converge");
+    }
+}
@@ -0,0 +1,271 @@
+package com.snakeladders;
+
+
+import java.util.Arrays;
+
+/**
+ * Minimum number of rolls needed to win from every cell of a board, and the roll to hope
+ * for at each cell.
+ * <p>
+ * The solver runs a breadth-first search backwards from the last cell. Each level of the
+ * search is a bitset: the cells from which one roll reaches the current level are found
+ * by shifting its words right by one to six bits, plus the cells just before every jump
+ * that ends in it. Only the words holding frontier cells are visited, so the search runs
+ * in time linear in cells plus jumps and answers every later query with an array read.
+ * The solver of a board is kept on the board, so it is collected together with it.
+ */
+public final class MinimumRollsSolver {
+
+    private static final int DICE_FACES = 6;
+
+    private final SnakesAndLaddersBoard board;
+    private final int[] minimumRolls;
+    private final byte[] bestRolls;
+
+    /**
+     * Solve a board; use {@link #forBoard} to share the solver.
+     *
+     * @param board The game board
+     */
+    MinimumRollsSolver(SnakesAndLaddersBoard board) {
+        this.board = board;
+
+        // Jump starts cannot be rested on
+        long[] sources = new long[(board.getSize() >>> 6) + 1];
+        for (int jump = 0; jump < board.getJumpCount(); jump++) {
+            int source = board.getJumpSource(jump);
+            sources[source >>> 6] |= 1L << source;
+        }
+        this.minimumRolls = solve(board, sources);
+        this.bestRolls = chooseBestRolls(board, sources, minimumRolls);
+    }
+
+    /**
+     * Get the solver of a board, solving it on first use.
+     *
+     * @param board The game board
+     * @return The shared solver for the board
+     */
+    public static MinimumRollsSolver forBoard(SnakesAndLaddersBoard board) {
+        return board.minimumRollsSolver();
+    }
+
+    /**
+     * Get the minimum number of rolls needed to win from a position.
+     *
+     * @param position Position to start from
+     * @return Minimum number of rolls, 0 on the last cell, or -1 if the last cell cannot be reached
+     */
+    public int getMinimumRolls(int position) {
+        requireValidPosition(position);
+        return minimumRolls[position];
+    }
+
+    /**
+     * Get the roll that starts a shortest way to win from a position; the smallest such
+     * roll if there are several.
+     *
+     * @param position Position to start from
+     * @return The best roll (1-6), or 0 on the last cell or if the last cell cannot be reached
+     */
+    public int getBestRoll(int position) {
+        requireValidPosition(position);
+        return bestRolls[position];
+    }
+
+    /**
+     * Get the game board.
+     *
+     * @return The game board instance
+     */
+    public SnakesAndLaddersBoard getBoard() {
+        return board;
+    }
+
+    private void requireValidPosition(int position) {
+        if (!board.isValidPosition(position)) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+    }
+
+    /**
+     * Compute the minimum rolls of every cell with a level-by-level bitset search.
+     *
+     * @param board The game board
+     * @param sources Bitset of the jump starts
+     * @return Minimum rolls per cell, -1 where the last cell cannot be reached
+     */
+    private static int[] solve(SnakesAndLaddersBoard board, long[] sources) {
+        LevelSearch search = new LevelSearch(board, sources);
+        for (int level = 1; search.expand(); level++) {
+            search.settle(level);
+        }
+        return search.minimumRolls;
+    }
+
+    /**
+     * State of the backwards search; each level is expanded by its own method call so
+     * that the loop body is compiled like any other hot method.
+     */
+    private static final class LevelSearch {
+
+        private final long[] sources;
+        private final long[] targets;
+        private final long[] jumpsByTarget;
+        private final int[] minimumRolls;
+        private final long[] visited;
+        private long[] frontier;
+        private long[] next;
+        private int[] frontierWords;
+        private int[] nextWords;
+        private int frontierCount;
+        private int nextCount;
+
+        LevelSearch(SnakesAndLaddersBoard board, long[] sources) {
+            int size = board.getSize();
+            int words = (size >>> 6) + 1;
+            int jumps = board.getJumpCount();
+            this.sources = sources;
+
+            // Jump ends lead back to the cells before the jump starts
+            this.targets = new long[words];
+            this.jumpsByTarget = new long[jumps];
+            for (int jump = 0; jump < jumps; jump++) {
+                int source = board.getJumpSource(jump);
+                int target = board.getJumpTarget(jump);
+                targets[target >>> 6] |= 1L << target;
+                jumpsByTarget[jump] = (long) target << 32 | source;
+            }
+            Arrays.sort(jumpsByTarget);
+
+            this.minimumRolls = new int[size + 1];
+            Arrays.fill(minimumRolls, -1);
+            this.visited = new long[words];
+            this.frontier = new long[words];
+            this.next = new long[words];
+            this.frontierWords = new int[words];
+            this.nextWords = new int[words];
+
+            minimumRolls[size] = 0;
+            visited[size >>> 6] = 1L << size;
+            frontier[size >>> 6] = 1L << size;
+            frontierWords[0] = size >>> 6;
+            frontierCount = 1;
+        }
+
+        /**
+         * Collect every unvisited cell one roll away from the frontier.
+         *
+         * @return true if any cell was found, false when the search is complete
+         */
+        boolean expand() {
+            nextCount = 0;
+            for (int i = 0; i < frontierCount; i++) {
+                int word = frontierWords[i];
+                long cells = frontier[word];
+                frontier[word] = 0;
+
+                // Cells one to six below a restable frontier cell
+                long landed = cells & ~sources[word];
+                if (landed != 0) {
+                    add(word, landed >>> 1 | landed >>> 2 | landed >>> 3
+                            | landed >>> 4 | landed >>> 5 | landed >>> 6);
+                    if (word > 0) {
+                        add(word - 1, landed << 63 | landed << 62 | landed << 61
+                                | landed << 60 | landed << 59 | landed << 58);
+                    }
+                }
+
+                // Cells one to six below every jump ending in a frontier cell
+                for (long ends = cells & targets[word]; ends != 0; ends &= ends - 1) {
+                    addJumpsTo(word << 6 | Long.numberOfTrailingZeros(ends));
+                }
+            }
+            return nextCount > 0;
+        }
+
+        /**
+         * Record the collected cells at a level and make them the new frontier.
+         *
+         * @param level Number of rolls from the collected cells
+         */
+        void settle(int level) {
+            for (int i = 0; i < nextCount; i++) {
+                int word = nextWords[i];
+                long cells = next[word];
+                next[word] = 0;
+                visited[word] |= cells;
+                frontier[word] = cells;
+                for (long rest = cells; rest != 0; rest &= rest - 1) {
+                    minimumRolls[word << 6 | Long.numberOfTrailingZeros(rest)] = level;
+                }
+            }
+            int[] swap = frontierWords;
+            frontierWords = nextWords;
+            nextWords = swap;
+            frontierCount = nextCount;
+        }
+
+        private void addJumpsTo(int target) {
+            for (int jump = firstJumpTo(jumpsByTarget, target);
+                 jump < jumpsByTarget.length && (int) (jumpsByTarget[jump] >>> 32) == target; jump++) {
+                int source = (int) jumpsByTarget[jump];
+                for (int diceRoll = 1; diceRoll <= DICE_FACES && source - diceRoll >= 0; diceRoll++) {
+                    int cell = source - diceRoll;
+                    add(cell >>> 6, 1L << cell);
+                }
+            }
+        }
+
+        private void add(int word, long cells) {
+            long added = cells & ~visited[word];
+            if (added == 0) {
+                return;
+            }
+            if (next[word] == 0) {
+                nextWords[nextCount++] = word;
+            }
+            next[word] |= added;
+        }
+    }
+
+    private static int firstJumpTo(long[] jumpsByTarget, int target) {
+        int low = 0;
+        int high = jumpsByTarget.length;
+        long key = (long) target << 32;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (jumpsByTarget[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static byte[] chooseBestRolls(SnakesAndLaddersBoard board, long[] sources, int[] minimumRolls) {
+        int size = board.getSize();
+        byte[] bestRolls = new byte[minimumRolls.length];
+        for (int position = 0; position < size; position++) {
+            int rolls = minimumRolls[position];
+            if (rolls <= 0) {
+                continue;
+            }
+            for (int diceRoll = 1; diceRoll <= DICE_FACES; diceRoll++) {
+                // Only landings on a jump start need the board; overshoots stay in place
+                int reached = position + diceRoll;
+                if (reached > size) {
+                    reached = position;
+                } else if ((sources[reached >>> 6] & (1L << reached)) != 0) {
+                    reached = board.getFinalPosition(reached);
+                }
+                if (minimumRolls[reached] == rolls - 1) {
+                    bestRolls[position] = (byte) diceRoll;
+                    break;
+                }
+            }
+        }
+        return bestRolls;
+    }
+}
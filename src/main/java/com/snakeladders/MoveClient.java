@@ -0,0 +1,92 @@
+package com.snakeladders;
+
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Command line entry point that plays a move on a running {@link MoveDaemon}.
+ * <p>
+ * Takes the same {@code <current_position> <dice_roll>} arguments as
+ * {@link SnakesAndLaddersApplication} and prints exactly the same output, but leaves the
+ * board and the move to the daemon, so the client JVM loads only a handful of classes.
+ * Arguments that are not two integers, and moves for which no daemon answers, are handed
+ * to {@link SnakesAndLaddersApplication} in this process, so the output never changes.
+ */
+public final class MoveClient {
+
+    private static final int BUFFER_SIZE = 512;
+
+    private MoveClient() {
+    }
+
+    /**
+     * Main entry point of the client.
+     *
+     * @param args {@code [--socket <path>] <current_position> <dice_roll>}
+     */
+    public static void main(String[] args) {
+        Path socket = MoveDaemon.defaultSocket();
+        if (args.length >= 2 && "--socket".equals(args[0])) {
+            socket = Path.of(args[1]);
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+
+        if (args.length == 2) {
+            try {
+                int currentPosition = Integer.parseInt(args[0]);
+                int diceRoll = Integer.parseInt(args[1]);
+                if (forward(socket, currentPosition, diceRoll, new FileOutputStream(FileDescriptor.out))) {
+                    return;
+                }
+            } catch (NumberFormatException e) {
+                // Let the application report it
+            } catch (IOException e) {
+                System.err.println("Error: Could not write output: " + e.getMessage());
+                return;
+            }
+        }
+        SnakesAndLaddersApplication.main(args);
+    }
+
+    /**
+     * Play a move on a daemon and copy its output.
+     *
+     * @param socket Path of the daemon socket
+     * @param currentPosition The current position
+     * @param diceRoll The dice roll value
+     * @param out Destination of the output
+     * @return true if the daemon answered, false if no daemon is listening on the socket
+     * @throws IOException if the output cannot be written
+     */
+    public static boolean forward(Path socket, int currentPosition, int diceRoll, OutputStream out)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        int length = 0;
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            channel.write(ByteBuffer.wrap((currentPosition + " " + diceRoll + "\n").getBytes(StandardCharsets.US_ASCII)));
+            channel.shutdownOutput();
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                length += read;
+                if (!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                }
+            }
+        } catch (IOException e) {
+            // No daemon, or it went away before answering
+            return false;
+        }
+        out.write(buffer.array(), 0, length);
+        out.flush();
+        return true;
+    }
+}
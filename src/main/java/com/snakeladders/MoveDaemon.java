@@ -0,0 +1,183 @@
+package com.snakeladders;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Long-lived process answering command line moves over a Unix domain socket.
+ * <p>
+ * Starting a JVM costs far more than a move, so scripts that play one move per command
+ * can keep a daemon running and call it with {@link MoveClient} instead. Every connection
+ * is a batch session as in {@link BatchMoveProcessor}: the client writes lines of
+ * {@code <position> <dice>} and closes its side, and the daemon answers with exactly
+ * what {@link GameInterface#playCommandLineMove} prints for each line. Connections are
+ * served on virtual threads where available, and processors are pooled so their buffers
+ * are reused. The daemon plays a few thousand moves when it starts, so even the first
+ * client finds the move path compiled.
+ */
+public class MoveDaemon implements Closeable {
+
+    private static final int WARM_UP_ROUNDS = 200;
+
+    private final SnakesAndLaddersBoard board;
+    private final Path socket;
+    private final Queue<BatchMoveProcessor> processors = new ConcurrentLinkedQueue<>();
+
+    private ServerSocketChannel serverChannel;
+    private ExecutorService connections;
+
+    /**
+     * Create a daemon for a board.
+     *
+     * @param board The game board
+     * @param socket Path of the socket file
+     */
+    public MoveDaemon(SnakesAndLaddersBoard board, Path socket) {
+        this.board = board;
+        this.socket = socket;
+    }
+
+    /**
+     * Get the socket path used when none is given: {@code snakeladders-<user>.sock} in the
+     * temporary directory.
+     *
+     * @return The default socket path
+     */
+    public static Path defaultSocket() {
+        return Path.of(System.getProperty("java.io.tmpdir"), "snakeladders-" + System.getProperty("user.name") + ".sock");
+    }
+
+    /**
+     * Warm up the move path, bind the socket and start accepting connections. A socket
+     * file left behind by a daemon that is no longer running is replaced.
+     *
+     * @throws IOException if the socket cannot be bound, or another daemon is listening on it
+     */
+    public void start() throws IOException {
+        warmUp();
+
+        if (Files.exists(socket)) {
+            if (isListening(socket)) {
+                throw new IOException("A daemon is already listening on " + socket);
+            }
+            Files.delete(socket);
+        }
+        serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        serverChannel.bind(UnixDomainSocketAddress.of(socket), 4096);
+        connections = VirtualThreads.newThreadPerTaskExecutor("move-daemon-connection");
+
+        new Thread(this::acceptConnections, "move-daemon-acceptor").start();
+    }
+
+    private static boolean isListening(Path socket) {
+        try {
+            SocketChannel probe = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+            probe.close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void warmUp() throws IOException {
+        StringBuilder moves = new StringBuilder();
+        for (int position = 0; position <= board.getSize() && position < 1000; position++) {
+            for (int dice = 1; dice <= 6; dice++) {
+                moves.append(position).append(' ').append(dice).append('\n');
+            }
+        }
+        byte[] input = moves.toString().getBytes(StandardCharsets.US_ASCII);
+        BatchMoveProcessor processor = new BatchMoveProcessor(board);
+        PrintStream err = new PrintStream(OutputStream.nullOutputStream());
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            processor.process(new ByteArrayInputStream(input), OutputStream.nullOutputStream(), err);
+        }
+        processors.add(processor);
+    }
+
+    /**
+     * Get the path of the socket file.
+     *
+     * @return The socket path
+     */
+    public Path getSocket() {
+        return socket;
+    }
+
+    /**
+     * Stop accepting connections and remove the socket file.
+     *
+     * @throws IOException if the socket cannot be closed or removed
+     */
+    @Override
+    public void close() throws IOException {
+        if (serverChannel != null) {
+            serverChannel.close();
+            Files.deleteIfExists(socket);
+        }
+        if (connections != null) {
+            connections.shutdownNow();
+        }
+    }
+
+    private void acceptConnections() {
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                try {
+                    connections.execute(() -> serve(channel));
+                } catch (RejectedExecutionException e) {
+                    if (!connections.isShutdown()) {
+                        System.err.println("Error: Too many connections, closing a new one");
+                    }
+                    channel.close();
+                }
+            } catch (AsynchronousCloseException e) {
+                // Server channel was closed
+                return;
+            } catch (IOException e) {
+                System.err.println("Error: Could not accept connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Answer every move line of a connection, then close it.
+     *
+     * @param channel The client channel
+     */
+    private void serve(SocketChannel channel) {
+        BatchMoveProcessor processor = processors.poll();
+        if (processor == null) {
+            processor = new BatchMoveProcessor(board);
+        }
+        try (SocketChannel client = channel) {
+            InputStream in = Channels.newInputStream(client);
+            OutputStream out = Channels.newOutputStream(client);
+            // Malformed lines are reported in line order, after the moves before them
+            processor.process(in, out, new PrintStream(out, true, StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            // Client went away
+        } finally {
+            processors.add(processor);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.snakeladders;
+
+
+/**
+ * One slot of a {@link MoveEventRing}, describing a move.
+ * <p>
+ * Slots are allocated once with the ring and overwritten by every lap of the producer, so
+ * a handler may only read an event while it is being handled; copy anything needed later.
+ */
+public final class MoveEvent {
+
+    private long game;
+    private int fromPosition;
+    private long move;
+
+    /**
+     * Fill the slot for a new event.
+     *
+     * @param game Id of the game the move was made in
+     * @param fromPosition The position before the move
+     * @param move The packed move
+     */
+    void set(long game, int fromPosition, long move) {
+        this.game = game;
+        this.fromPosition = fromPosition;
+        this.move = move;
+    }
+
+    /**
+     * Get the id of the game the move was made in.
+     *
+     * @return The game id given by the producer
+     */
+    public long getGame() {
+        return game;
+    }
+
+    /**
+     * Get the position before the move.
+     *
+     * @return The previous position
+     */
+    public int getFromPosition() {
+        return fromPosition;
+    }
+
+    /**
+     * Get the move.
+     *
+     * @return The packed move, see {@link MoveOutcome}
+     */
+    public long getMove() {
+        return move;
+    }
+
+    /**
+     * Get the position after the move.
+     *
+     * @return The new position
+     */
+    public int getNewPosition() {
+        return MoveOutcome.newPosition(move);
+    }
+
+    /**
+     * Get the outcome of the move.
+     *
+     * @return The outcome code, see {@link MoveOutcome}
+     */
+    public int getOutcome() {
+        return MoveOutcome.outcome(move);
+    }
+
+    /**
+     * Get the dice roll of the move.
+     *
+     * @return The dice roll
+     */
+    public int getDiceRoll() {
+        return MoveOutcome.diceRoll(move);
+    }
+}
@@ -0,0 +1,19 @@
+package com.snakeladders;
+
+
+/**
+ * Consumes the events of a {@link MoveEventRing} on the consumer's own thread.
+ */
+@FunctionalInterface
+public interface MoveEventHandler {
+
+    /**
+     * Handle one event. Events arrive in publication order, in batches of all events
+     * available when the consumer woke up.
+     *
+     * @param event The event slot, only valid during this call
+     * @param sequence Sequence number of the event, starting at 0
+     * @param endOfBatch true for the last event of a batch, a good time to flush
+     */
+    void onEvent(MoveEvent event, long sequence, boolean endOfBatch);
+}
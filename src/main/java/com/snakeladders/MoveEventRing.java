@@ -0,0 +1,268 @@
+package com.snakeladders;
+
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Preallocated ring buffer broadcasting move events from one producer to many consumers.
+ * <p>
+ * The ring holds a power-of-two number of mutable {@link MoveEvent} slots, created once.
+ * The producer claims the next sequence number, fills the slot in place and publishes it
+ * by moving its cursor, so publishing allocates nothing and takes no lock. Each consumer
+ * runs a {@link MoveEventHandler} on its own thread, tracks its own sequence and takes
+ * every event published since it last looked as one batch. A consumer can be set to run
+ * after others, so it only sees events they have finished with, and the producer waits
+ * rather than overwrite a slot that the slowest consumer has not handled yet. All waits
+ * use the ring's {@link WaitStrategy}.
+ * <p>
+ * Add consumers, then {@link #start()} the ring before publishing. {@link #publish} must
+ * only be called from one thread at a time.
+ */
+public class MoveEventRing implements AutoCloseable {
+
+    /** Default number of slots. */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private final MoveEvent[] slots;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final Sequence cursor = new Sequence();
+
+    private final List<Consumer> consumers = new ArrayList<>();
+    private volatile Sequence[] gates = new Sequence[0];
+    private volatile boolean running;
+    private boolean started;
+
+    // Producer state, only touched by the publishing thread
+    private long claimed = -1;
+    private long cachedGate = -1;
+
+    /**
+     * Create a ring with preallocated slots.
+     *
+     * @param capacity Number of slots, a power of two
+     * @param waitStrategy How producer and consumers wait
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public MoveEventRing(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new MoveEvent[capacity];
+        for (int slot = 0; slot < capacity; slot++) {
+            slots[slot] = new MoveEvent();
+        }
+        this.mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Add a consumer that sees every event after the given consumers have handled it.
+     *
+     * @param handler Handler of the events
+     * @param after Consumers of this ring that must handle each event first
+     * @return The new consumer
+     * @throws IllegalStateException if the ring has already been started
+     * @throws IllegalArgumentException if a consumer to wait for belongs to another ring
+     */
+    public synchronized Consumer addConsumer(MoveEventHandler handler, Consumer... after) {
+        if (started) {
+            throw new IllegalStateException("Consumers must be added before the ring is started");
+        }
+        Sequence[] barrier = new Sequence[after.length + 1];
+        barrier[0] = cursor;
+        for (int i = 0; i < after.length; i++) {
+            if (!consumers.contains(after[i])) {
+                throw new IllegalArgumentException("Consumer belongs to another ring");
+            }
+            barrier[i + 1] = after[i].sequence;
+        }
+
+        Consumer consumer = new Consumer(handler, barrier);
+        consumers.add(consumer);
+        Sequence[] withConsumer = Arrays.copyOf(gates, gates.length + 1);
+        withConsumer[gates.length] = consumer.sequence;
+        gates = withConsumer;
+        return consumer;
+    }
+
+    /**
+     * Start one daemon thread per consumer.
+     *
+     * @throws IllegalStateException if the ring has already been started
+     */
+    public synchronized void start() {
+        if (started) {
+            throw new IllegalStateException("Ring already started");
+        }
+        started = true;
+        running = true;
+        for (int i = 0; i < consumers.size(); i++) {
+            Thread thread = new Thread(consumers.get(i)::consume, "move-event-consumer-" + i);
+            thread.setDaemon(true);
+            consumers.get(i).thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Publish a move, waiting while the ring is full.
+     *
+     * @param game Id of the game the move was made in
+     * @param fromPosition The position before the move
+     * @param move The packed move
+     */
+    public void publish(long game, int fromPosition, long move) {
+        long next = claimed + 1;
+        long wrapPoint = next - slots.length;
+        if (wrapPoint > cachedGate) {
+            int attempt = 0;
+            while (wrapPoint > (cachedGate = minimumGate(next - 1))) {
+                waitStrategy.idle(attempt++);
+            }
+        }
+        slots[(int) next & mask].set(game, fromPosition, move);
+        claimed = next;
+        cursor.setRelease(next);
+    }
+
+    private long minimumGate(long limit) {
+        long minimum = limit;
+        for (Sequence gate : gates) {
+            minimum = Math.min(minimum, gate.getAcquire());
+        }
+        return minimum;
+    }
+
+    /**
+     * Get the sequence number of the last published event.
+     *
+     * @return The cursor, or -1 before the first event
+     */
+    public long getCursor() {
+        return cursor.getAcquire();
+    }
+
+    /**
+     * Get the number of slots.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Let the consumers handle every published event, then stop their threads. If the
+     * caller is interrupted, it stops waiting with its interrupt flag set, and the consumers
+     * still finish in the background.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        try {
+            for (Consumer consumer : consumers) {
+                if (consumer.thread != null) {
+                    consumer.thread.join();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A consumer thread of the ring; pass it to {@link #addConsumer} to run other consumers after it.
+     */
+    public final class Consumer {
+
+        private final MoveEventHandler handler;
+        private final Sequence[] barrier;
+        private final Sequence sequence = new Sequence();
+        private Thread thread;
+
+        private Consumer(MoveEventHandler handler, Sequence[] barrier) {
+            this.handler = handler;
+            this.barrier = barrier;
+        }
+
+        /**
+         * Get the sequence number of the last event this consumer has handled.
+         *
+         * @return The sequence, or -1 before the first event
+         */
+        public long getSequence() {
+            return sequence.getAcquire();
+        }
+
+        /**
+         * Handle events in batches until the ring is closed and every event is handled.
+         */
+        private void consume() {
+            long next = sequence.getAcquire() + 1;
+            int attempt = 0;
+            while (true) {
+                long available = Long.MAX_VALUE;
+                for (Sequence gate : barrier) {
+                    available = Math.min(available, gate.getAcquire());
+                }
+
+                if (available >= next) {
+                    for (long current = next; current <= available; current++) {
+                        try {
+                            handler.onEvent(slots[(int) current & mask], current, current == available);
+                        } catch (RuntimeException e) {
+                            System.err.println("Error: Move event handler failed: " + e.getMessage());
+                        }
+                    }
+                    sequence.setRelease(available);
+                    next = available + 1;
+                    attempt = 0;
+                } else if (!running && next > cursor.getAcquire()) {
+                    return;
+                } else {
+                    waitStrategy.idle(attempt++);
+                }
+            }
+        }
+    }
+
+    /**
+     * A sequence number padded to a cache line of its own on each side, so the producer
+     * and consumers do not slow each other down by writing neighbouring fields.
+     */
+    private static class LeftPadding {
+        long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private static class SequenceValue extends LeftPadding {
+        long value = -1;
+    }
+
+    private static final class Sequence extends SequenceValue {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long p9, p10, p11, p12, p13, p14, p15;
+
+        long getAcquire() {
+            return (long) VALUE.getAcquire(this);
+        }
+
+        void setRelease(long sequence) {
+            VALUE.setRelease(this, sequence);
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.snakeladders;
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of game events in memory-mapped segment files.
+ * <p>
+ * Every event is a fixed-width 16-byte little-endian record:
+ * <pre>
+ *   0  int   session id
+ *   4  int   position after the move
+ *   8  byte  record type (create, move, remove)
+ *   9  byte  player index, or player count for a create record
+ *   10 byte  dice roll
+ *   11 byte  outcome code, see {@link MoveOutcome}
+ *   12 int   checksum of bytes 0-11, never zero
+ * </pre>
+ * Appending only writes to the mapped segment, so the move path makes no system call.
+ * A background task forces dirty pages to disk every commit interval (group commit);
+ * {@link #commit()} forces them immediately. Segments are preallocated and rolled when
+ * full. On open, the tail of the last segment is scanned and anything after the last
+ * intact record, such as a torn write, is truncated.
+ * <p>
+ * If a group commit fails, the failure is kept and every later append or commit throws
+ * it, so no record is acknowledged without a way to make it durable. Appends are not
+ * thread-safe; a journal has a single writer.
+ */
+public class MoveJournal implements Closeable {
+
+    /** Size of one record in bytes. */
+    public static final int RECORD_SIZE = 16;
+    /** Default number of records per segment file (64 MiB). */
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 22;
+    /** Default interval between group commits in milliseconds. */
+    public static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 10;
+
+    /** Record type of a created session. */
+    public static final byte TYPE_CREATE = 1;
+    /** Record type of an applied move. */
+    public static final byte TYPE_MOVE = 2;
+    /** Record type of a removed session. */
+    public static final byte TYPE_REMOVE = 3;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final ScheduledExecutorService committer;
+
+    private volatile MappedByteBuffer segment;
+    private volatile RuntimeException commitFailure;
+    private long segmentIndex;
+    private int writeOffset;
+    private long recordCount;
+
+    /**
+     * Handler of replayed records.
+     */
+    public interface RecordHandler {
+
+        /**
+         * Handle one record.
+         *
+         * @param type The record type
+         * @param session The session id
+         * @param player The player index, or player count for a create record
+         * @param diceRoll The dice roll of a move record
+         * @param position The position after a move record
+         * @param outcome The outcome code of a move record
+         */
+        void onRecord(byte type, int session, int player, int diceRoll, int position, int outcome);
+    }
+
+    private MoveJournal(Path directory, int segmentRecords, long commitIntervalMillis) throws IOException {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        Files.createDirectories(directory);
+
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            openSegment(0);
+        } else {
+            // Earlier segments were rolled when full, whatever segment size they were written with
+            for (Path earlier : segments.subList(0, segments.size() - 1)) {
+                recordCount += Files.size(earlier) / RECORD_SIZE;
+            }
+            Path last = segments.get(segments.size() - 1);
+            long lastRecords = Math.max(segmentRecords, Files.size(last) / RECORD_SIZE);
+            if (lastRecords * RECORD_SIZE > Integer.MAX_VALUE) {
+                throw new IOException("Journal segment too large: " + last);
+            }
+            segmentIndex = segmentIndexOf(last);
+            segment = map(last, (int) lastRecords);
+            writeOffset = recoverTail(segment);
+            recordCount += writeOffset / RECORD_SIZE;
+        }
+
+        committer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "journal-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        committer.scheduleWithFixedDelay(this::groupCommit, commitIntervalMillis, commitIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a journal with the default segment size and commit interval.
+     *
+     * @param directory Directory holding the segment files
+     * @return The journal, positioned after the last intact record
+     * @throws IOException if the segments cannot be opened
+     */
+    public static MoveJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_RECORDS, DEFAULT_COMMIT_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Open a journal.
+     *
+     * @param directory Directory holding the segment files
+     * @param segmentRecords Number of records per segment file
+     * @param commitIntervalMillis Interval between group commits in milliseconds
+     * @return The journal, positioned after the last intact record
+     * @throws IOException if the segments cannot be opened
+     */
+    public static MoveJournal open(Path directory, int segmentRecords, long commitIntervalMillis)
+            throws IOException {
+        if (segmentRecords < 1 || (long) segmentRecords * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid number of records per segment: " + segmentRecords);
+        }
+        return new MoveJournal(directory, segmentRecords, commitIntervalMillis);
+    }
+
+    /**
+     * Append a created session.
+     *
+     * @param session The session id
+     * @param players Number of players
+     */
+    public void appendCreate(int session, int players) {
+        append(TYPE_CREATE, session, players, 0, 0, 0);
+    }
+
+    /**
+     * Append an applied move.
+     *
+     * @param session The session id
+     * @param player The player who moved
+     * @param move The packed move, see {@link MoveOutcome}
+     */
+    public void appendMove(int session, int player, long move) {
+        append(TYPE_MOVE, session, player, MoveOutcome.diceRoll(move), MoveOutcome.newPosition(move),
+                MoveOutcome.outcome(move));
+    }
+
+    /**
+     * Append a removed session.
+     *
+     * @param session The session id
+     */
+    public void appendRemove(int session) {
+        append(TYPE_REMOVE, session, 0, 0, 0, 0);
+    }
+
+    private void append(byte type, int session, int player, int diceRoll, int position, int outcome) {
+        MappedByteBuffer buffer = requireOpen();
+        if (writeOffset == buffer.capacity()) {
+            rollSegment();
+            buffer = segment;
+        }
+        long header = (session & 0xFFFFFFFFL) | ((long) position << 32);
+        int details = (type & 0xFF) | (player & 0xFF) << 8 | (diceRoll & 0xFF) << 16 | (outcome & 0xFF) << 24;
+        buffer.putLong(writeOffset, header);
+        buffer.putInt(writeOffset + 8, details);
+        // The checksum goes last, so a torn record never looks complete
+        buffer.putInt(writeOffset + 12, checksum(header, details));
+        writeOffset += RECORD_SIZE;
+        recordCount++;
+    }
+
+    /**
+     * Force all appended records to disk now.
+     *
+     * @throws IllegalStateException if this or an earlier commit failed
+     */
+    public void commit() {
+        requireNoCommitFailure();
+        MappedByteBuffer buffer = segment;
+        if (buffer != null) {
+            try {
+                buffer.force();
+            } catch (RuntimeException e) {
+                commitFailure = e;
+                throw new IllegalStateException("Journal commit failed", e);
+            }
+        }
+    }
+
+    /**
+     * Run a scheduled group commit. A failure is kept for the writer instead of thrown,
+     * which would silently cancel every later group commit.
+     */
+    private void groupCommit() {
+        if (commitFailure != null) {
+            return;
+        }
+        try {
+            commit();
+        } catch (IllegalStateException e) {
+            // Kept in commitFailure
+        }
+    }
+
+    private void requireNoCommitFailure() {
+        RuntimeException failure = commitFailure;
+        if (failure != null) {
+            throw new IllegalStateException("Journal commit failed", failure);
+        }
+    }
+
+    private MappedByteBuffer requireOpen() {
+        requireNoCommitFailure();
+        MappedByteBuffer buffer = segment;
+        if (buffer == null) {
+            throw new IllegalStateException("Journal closed");
+        }
+        return buffer;
+    }
+
+    /**
+     * Get the number of intact records in the journal, including those from earlier runs.
+     *
+     * @return Number of records
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Stop the group commits and force the remaining records to disk.
+     */
+    @Override
+    public void close() {
+        committer.shutdown();
+        try {
+            committer.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            commit();
+        } finally {
+            segment = null;
+        }
+    }
+
+    private void rollSegment() {
+        commit();
+        try {
+            openSegment(segmentIndex + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll journal segment", e);
+        }
+    }
+
+    private void openSegment(long index) throws IOException {
+        MappedByteBuffer buffer = map(segmentPath(directory, index), segmentRecords);
+        segmentIndex = index;
+        writeOffset = 0;
+        segment = buffer;
+    }
+
+    /**
+     * Replay every intact record of a journal.
+     *
+     * @param directory Directory holding the segment files
+     * @param handler Handler receiving each record in order
+     * @return Number of records replayed
+     * @throws IOException if the segments cannot be read
+     */
+    public static long replay(Path directory, RecordHandler handler) throws IOException {
+        long records = 0;
+        for (Path path : listSegments(directory)) {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            int limit = buffer.capacity() - RECORD_SIZE;
+            for (int offset = 0; offset <= limit; offset += RECORD_SIZE) {
+                long header = buffer.getLong(offset);
+                int details = buffer.getInt(offset + 8);
+                if (buffer.getInt(offset + 12) != checksum(header, details)) {
+                    return records + (offset / RECORD_SIZE);
+                }
+                handler.onRecord((byte) details, (int) header, (details >>> 8) & 0xFF, (details >>> 16) & 0xFF,
+                        (int) (header >>> 32), details >>> 24);
+            }
+            records += (limit + RECORD_SIZE) / RECORD_SIZE;
+        }
+        return records;
+    }
+
+    /**
+     * Rebuild game state by replaying a journal through the move rules of a store.
+     * Each replayed move is checked against the recorded result.
+     *
+     * @param directory Directory holding the segment files
+     * @param store An empty store to rebuild; it must not write to the same journal
+     * @return Number of records replayed
+     * @throws IOException if the segments cannot be read
+     * @throws IllegalStateException if the journal does not match the move rules
+     */
+    public static long replay(Path directory, GameSessionStore store) throws IOException {
+        return replay(directory, (type, session, player, diceRoll, position, outcome) -> {
+            switch (type) {
+                case TYPE_CREATE:
+                    if (store.createSession(player) != session) {
+                        throw new IllegalStateException("Journal out of sync at session " + session);
+                    }
+                    break;
+                case TYPE_MOVE:
+                    long move = store.applyMove(session, diceRoll);
+                    if (MoveOutcome.newPosition(move) != position || MoveOutcome.outcome(move) != outcome) {
+                        throw new IllegalStateException("Journal move of session " + session
+                                + " does not match the move rules");
+                    }
+                    break;
+                case TYPE_REMOVE:
+                    store.removeSession(session);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown journal record type: " + type);
+            }
+        });
+    }
+
+    /**
+     * Find the end of the intact records of a segment and clear everything after it.
+     *
+     * @param buffer The mapped segment
+     * @return Offset just past the last intact record
+     */
+    private static int recoverTail(MappedByteBuffer buffer) {
+        int offset = 0;
+        while (offset <= buffer.capacity() - RECORD_SIZE
+                && buffer.getInt(offset + 12) == checksum(buffer.getLong(offset), buffer.getInt(offset + 8))) {
+            offset += RECORD_SIZE;
+        }
+        for (int clear = offset; clear < buffer.capacity(); clear += Long.BYTES) {
+            if (buffer.getLong(clear) != 0) {
+                buffer.putLong(clear, 0);
+            }
+        }
+        buffer.force();
+        return offset;
+    }
+
+    private static int checksum(long header, int details) {
+        long mixed = (header ^ ((long) details << 17)) * 0x9E3779B97F4A7C15L;
+        int checksum = (int) (mixed >>> 32) ^ (int) mixed ^ details;
+        return checksum == 0 ? 1 : checksum;
+    }
+
+    private static MappedByteBuffer map(Path path, int segmentRecords) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) segmentRecords * RECORD_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>();
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().forEach(segments::add);
+            return segments;
+        }
+    }
+
+    private static Path segmentPath(Path directory, long index) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentIndexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
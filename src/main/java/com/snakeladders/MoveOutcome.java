@@ -0,0 +1,133 @@
+package com.snakeladders;
+
+
+/**
+ * Outcome codes and packing helpers for the allocation-free move path.
+ * <p>
+ * A move is packed into a single {@code long}: the new position in the low 32 bits,
+ * the outcome code in bits 32-39 and the dice roll in bits 40-47. The descriptive
+ * message is only rendered on request via {@link #message(long, int)}.
+ */
+public final class MoveOutcome {
+
+    /** Moved to a plain cell. */
+    public static final int MOVED = 0;
+    /** Landed on a ladder foot and climbed it. */
+    public static final int LADDER = 1;
+    /** Landed on a snake head and slid down. */
+    public static final int SNAKE = 2;
+    /** The roll would pass the last cell, so the player stays. */
+    public static final int OVERSHOOT = 3;
+    /** Landed exactly on the last cell. */
+    public static final int WON = 4;
+    /** The game had already been won before this roll. */
+    public static final int ALREADY_WON = 5;
+    /** The roll passed the last cell and the player bounced back from it. */
+    public static final int BOUNCED = 6;
+    /** Too many sixes in a row: the player goes back to where the turn started. */
+    public static final int FORFEIT = 7;
+
+    private MoveOutcome() {
+    }
+
+    /**
+     * Pack a move into a single value.
+     *
+     * @param newPosition The position after the move
+     * @param outcome The outcome code
+     * @param diceRoll The dice roll value
+     * @return The packed move
+     */
+    public static long pack(int newPosition, int outcome, int diceRoll) {
+        return (newPosition & 0xFFFFFFFFL) | ((long) outcome << 32) | ((long) diceRoll << 40);
+    }
+
+    /**
+     * Get the position after the move.
+     *
+     * @param move The packed move
+     * @return The new position
+     */
+    public static int newPosition(long move) {
+        return (int) move;
+    }
+
+    /**
+     * Get the outcome code of the move.
+     *
+     * @param move The packed move
+     * @return The outcome code
+     */
+    public static int outcome(long move) {
+        return (int) (move >>> 32) & 0xFF;
+    }
+
+    /**
+     * Get the dice roll of the move.
+     *
+     * @param move The packed move
+     * @return The dice roll value
+     */
+    public static int diceRoll(long move) {
+        return (int) (move >>> 40) & 0xFF;
+    }
+
+    /**
+     * Render the descriptive message of a move.
+     *
+     * @param move The packed move
+     * @param fromPosition The position before the move
+     * @return Descriptive message for the move
+     */
+    public static String message(long move, int fromPosition) {
+        int newPosition = newPosition(move);
+        int landing = fromPosition + diceRoll(move);
+        switch (outcome(move)) {
+            case LADDER:
+                return String.format("Climbed ladder from %d to %d!", landing, newPosition);
+            case SNAKE:
+                return String.format("Bitten by snake at %d, moved down to %d!", landing, newPosition);
+            case OVERSHOOT:
+                return String.format("Cannot move to %d. Staying at %d.", landing, newPosition);
+            case WON:
+                return "Yay!! You won!!";
+            case ALREADY_WON:
+                return "Game already won!";
+            case BOUNCED:
+                return String.format("Bounced back from %d to %d.", landing, newPosition);
+            case FORFEIT:
+                return String.format("Too many sixes, turn forfeited. Back to %d.", newPosition);
+            default:
+                return String.format("Moved to position %d.", newPosition);
+        }
+    }
+
+    /**
+     * Get a readable name for an outcome code.
+     *
+     * @param outcome The outcome code
+     * @return The outcome name
+     */
+    public static String name(int outcome) {
+        switch (outcome) {
+            case MOVED:
+                return "moved";
+            case LADDER:
+                return "ladder";
+            case SNAKE:
+                return "snake";
+            case OVERSHOOT:
+                return "overshoot";
+            case WON:
+                return "won";
+            case ALREADY_WON:
+                return "already-won";
+            case BOUNCED:
+                return "bounced";
+            case FORFEIT:
+                return "forfeit";
+            default:
+                return "unknown";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.snakeladders;
+
+
+/**
+ * Flyweight table holding every possible {@link GameMoveResult} of a board.
+ * Built once per board with all messages already rendered, so handing out a
+ * result never allocates or formats anything.
+ */
+final class MoveResultTable {
+
+    private static final int DICE_FACES = 6;
+
+    private final GameMoveResult[] results;
+    private final GameMoveResult[] alreadyWon;
+
+    private MoveResultTable(GameMoveResult[] results, GameMoveResult[] alreadyWon) {
+        this.results = results;
+        this.alreadyWon = alreadyWon;
+    }
+
+    /**
+     * Build the table for every (position, dice roll) pair of the board.
+     *
+     * @param board The game board
+     * @return The populated table
+     */
+    static MoveResultTable build(SnakesAndLaddersBoard board) {
+        int cells = board.getSize() + 1;
+        GameMoveResult[] results = new GameMoveResult[cells * DICE_FACES];
+        GameMoveResult[] alreadyWon = new GameMoveResult[cells];
+
+        for (int position = 0; position < cells; position++) {
+            for (int diceRoll = 1; diceRoll <= DICE_FACES; diceRoll++) {
+                long move = GameEngine.step(board, position, diceRoll);
+                results[position * DICE_FACES + diceRoll - 1] = render(move, position);
+            }
+            alreadyWon[position] = render(MoveOutcome.pack(position, MoveOutcome.ALREADY_WON, 1), position);
+        }
+        return new MoveResultTable(results, alreadyWon);
+    }
+
+    private static GameMoveResult render(long move, int fromPosition) {
+        return new GameMoveResult(MoveOutcome.newPosition(move), MoveOutcome.message(move, fromPosition));
+    }
+
+    /**
+     * Get the shared result for a move.
+     *
+     * @param fromPosition The position before the move
+     * @param move The packed move
+     * @return The shared immutable result
+     */
+    GameMoveResult get(int fromPosition, long move) {
+        if (MoveOutcome.outcome(move) == MoveOutcome.ALREADY_WON) {
+            return alreadyWon[fromPosition];
+        }
+        return results[fromPosition * DICE_FACES + MoveOutcome.diceRoll(move) - 1];
+    }
+}
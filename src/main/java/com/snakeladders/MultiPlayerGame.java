@@ -0,0 +1,209 @@
+package com.snakeladders;
+
+
+import java.util.Arrays;
+
+/**
+ * A game between several players under a chosen {@link GameRules} combination.
+ * <p>
+ * Players take turns in order. Every roll is looked up in the {@link CompiledRules} of the
+ * board, so moves cost the same whatever variants are in play. Turn order is kept in a
+ * few primitive fields: the current player, where their turn started and how many
+ * extra-turn rolls they have had in a row. The game ends when the first player reaches
+ * the last cell.
+ */
+public class MultiPlayerGame {
+
+    private final CompiledRules compiled;
+    private final int boardSize;
+    private final int[] positions;
+    private int currentPlayer;
+    private int turnStart;
+    private int extraTurnRolls;
+    private int winner;
+    private long rolls;
+
+    /**
+     * Create a game with all players on the start position.
+     *
+     * @param board The game board
+     * @param rules The rule combination
+     * @param players Number of players
+     * @throws IllegalArgumentException if there are no players
+     */
+    public MultiPlayerGame(SnakesAndLaddersBoard board, GameRules rules, int players) {
+        if (players < 1) {
+            throw new IllegalArgumentException("A game needs at least one player: " + players);
+        }
+        this.compiled = CompiledRules.forBoard(board, rules);
+        this.boardSize = board.getSize();
+        this.positions = new int[players];
+        resetGame();
+    }
+
+    /**
+     * Apply a roll for the current player and pass the turn on unless it earned an extra turn.
+     *
+     * @param roll Total of the dice, between the smallest and highest roll of the rules
+     * @return The packed move; {@link MoveOutcome#FORFEIT} if the roll forfeited the turn
+     * @throws IllegalArgumentException if the roll is out of range
+     */
+    public long applyRoll(int roll) {
+        if (roll < compiled.getMinRoll() || roll > compiled.getMaxRoll()) {
+            throw new IllegalArgumentException("Invalid roll: " + roll + ". Must be between "
+                    + compiled.getMinRoll() + " and " + compiled.getMaxRoll() + ".");
+        }
+        if (winner >= 0) {
+            return MoveOutcome.pack(positions[winner], MoveOutcome.ALREADY_WON, roll);
+        }
+        return step(roll);
+    }
+
+    /**
+     * Roll the dice for the current player.
+     *
+     * @param dice Source of the dice; one roll is drawn per die
+     * @return The packed move
+     * @see #applyRoll(int)
+     */
+    public long applyRoll(DiceSource dice) {
+        return applyRoll(roll(dice));
+    }
+
+    /**
+     * Play until a player wins or a number of rolls have been made.
+     *
+     * @param dice Source of the dice
+     * @param maxRolls Maximum number of rolls to make
+     * @return The winning player, or -1 if nobody has won yet
+     */
+    public int playToEnd(DiceSource dice, long maxRolls) {
+        for (long made = 0; winner < 0 && made < maxRolls; made++) {
+            step(roll(dice));
+        }
+        return winner;
+    }
+
+    private int roll(DiceSource dice) {
+        int total = 0;
+        for (int die = 0; die < compiled.getMinRoll(); die++) {
+            total += dice.nextRoll();
+        }
+        return total;
+    }
+
+    /**
+     * Apply a valid roll for the current player of an unfinished game.
+     *
+     * @param roll The roll
+     * @return The packed move
+     */
+    private long step(int roll) {
+        rolls++;
+        int player = currentPlayer;
+        long move = compiled.move(positions[player], roll);
+        int position = MoveOutcome.newPosition(move);
+
+        if (roll == compiled.getExtraTurnRoll()) {
+            if (++extraTurnRolls >= compiled.getForfeitRolls()) {
+                int start = turnStart;
+                positions[player] = start;
+                passTurn();
+                return MoveOutcome.pack(start, MoveOutcome.FORFEIT, roll);
+            }
+        } else {
+            extraTurnRolls = 0;
+        }
+
+        positions[player] = position;
+        if (position == boardSize) {
+            winner = player;
+        } else if (extraTurnRolls == 0) {
+            passTurn();
+        }
+        return move;
+    }
+
+    private void passTurn() {
+        int next = currentPlayer + 1;
+        currentPlayer = next == positions.length ? 0 : next;
+        turnStart = positions[currentPlayer];
+        extraTurnRolls = 0;
+    }
+
+    /**
+     * Get the player whose turn it is.
+     *
+     * @return Index of the current player
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Get the position of a player.
+     *
+     * @param player Index of the player
+     * @return The player's position
+     */
+    public int getPosition(int player) {
+        return positions[player];
+    }
+
+    /**
+     * Get the number of players.
+     *
+     * @return Number of players
+     */
+    public int getPlayerCount() {
+        return positions.length;
+    }
+
+    /**
+     * Get the player who won the game.
+     *
+     * @return Index of the winner, or -1 if nobody has won yet
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Check if the game has been won.
+     *
+     * @return true if a player has won, false otherwise
+     */
+    public boolean isGameWon() {
+        return winner >= 0;
+    }
+
+    /**
+     * Get the number of rolls applied since the game started.
+     *
+     * @return Number of rolls
+     */
+    public long getRollCount() {
+        return rolls;
+    }
+
+    /**
+     * Get the rules of the game.
+     *
+     * @return The rule combination
+     */
+    public GameRules getRules() {
+        return compiled.getRules();
+    }
+
+    /**
+     * Reset the game to its initial state, with the first player to move.
+     */
+    public void resetGame() {
+        Arrays.fill(positions, SnakesAndLaddersBoard.START_POSITION);
+        currentPlayer = 0;
+        turnStart = SnakesAndLaddersBoard.START_POSITION;
+        extraTurnRolls = 0;
+        winner = -1;
+        rolls = 0;
+    }
+}
@@ -0,0 +1,164 @@
+package com.snakeladders;
+
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free store for very many games kept outside the Java heap.
+ * <p>
+ * Every game is one {@link PackedGameState} {@code long} in a direct memory slab of
+ * {@value #SLAB_GAMES} games, so hundreds of millions of games cost the garbage
+ * collector a handful of buffer objects. A move reads the state, computes the new one
+ * and swaps it in with a compare-and-set, retrying if another thread moved the same
+ * game in between, so any number of threads can play without locks. Direct memory is
+ * limited by {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size.
+ * Moves are counted in {@link EngineMetrics} like those of {@link GameEngine}.
+ */
+public class OffHeapGameArena {
+
+    /** Number of games per memory slab. */
+    public static final int SLAB_GAMES = 1 << 24;
+
+    private static final int SLAB_SHIFT = 24;
+    private static final VarHandle STATES = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final SnakesAndLaddersBoard board;
+    private final long capacity;
+    private final ByteBuffer[] slabs;
+    private final AtomicLong games = new AtomicLong();
+
+    /**
+     * Create an arena, reserving the memory of all its games.
+     *
+     * @param board The game board shared by all games, at most {@link PackedGameState#MAX_CELLS} cells
+     * @param capacity Maximum number of games
+     * @throws IllegalArgumentException if the board is too large or the capacity is not positive
+     */
+    public OffHeapGameArena(SnakesAndLaddersBoard board, long capacity) {
+        PackedGameState.requireFits(board);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.board = board;
+        this.capacity = capacity;
+        this.slabs = new ByteBuffer[(int) ((capacity + SLAB_GAMES - 1) >>> SLAB_SHIFT)];
+        for (int slab = 0; slab < slabs.length; slab++) {
+            long slabGames = Math.min(SLAB_GAMES, capacity - ((long) slab << SLAB_SHIFT));
+            // Compare-and-set needs every long aligned to 8 bytes
+            slabs[slab] = ByteBuffer.allocateDirect((int) slabGames * Long.BYTES + Long.BYTES - 1)
+                    .alignedSlice(Long.BYTES);
+        }
+    }
+
+    /**
+     * Create a new game with all players on the start position.
+     *
+     * @param players Number of players (1-4)
+     * @return The game id
+     * @throws IllegalArgumentException if the number of players is out of range
+     * @throws IllegalStateException if the arena is full
+     */
+    public long createGame(int players) {
+        long state = PackedGameState.newGame(players);
+        long game = games.getAndUpdate(count -> count < capacity ? count + 1 : count);
+        if (game == capacity) {
+            throw new IllegalStateException("Arena is full: " + capacity + " games");
+        }
+        STATES.setVolatile(slabs[(int) (game >>> SLAB_SHIFT)], offset(game), state);
+        return game;
+    }
+
+    /**
+     * Move the player whose turn it is and pass the turn to the next player.
+     *
+     * @param game The game id
+     * @param diceRoll The dice roll value (1-6)
+     * @return The packed move, see {@link MoveOutcome}
+     * @throws IllegalArgumentException if the game is unknown or the dice roll is invalid
+     */
+    public long applyMove(long game, int diceRoll) {
+        requireGame(game);
+        GameEngine.requireValidDiceRoll(diceRoll);
+
+        long start = EngineMetrics.ENABLED ? EngineMetrics.startMove() : EngineMetrics.NOT_SAMPLED;
+        ByteBuffer slab = slabs[(int) (game >>> SLAB_SHIFT)];
+        int offset = offset(game);
+        while (true) {
+            long state = (long) STATES.getVolatile(slab, offset);
+            long move = PackedGameState.move(state, board, diceRoll);
+            if (MoveOutcome.outcome(move) == MoveOutcome.ALREADY_WON
+                    || STATES.compareAndSet(slab, offset, state, PackedGameState.next(state, move))) {
+                if (EngineMetrics.ENABLED) {
+                    EngineMetrics.recordMove(board, PackedGameState.getPosition(state, PackedGameState.getTurn(state)),
+                            move, start);
+                }
+                return move;
+            }
+        }
+    }
+
+    /**
+     * Start a game over with a new number of players.
+     *
+     * @param game The game id
+     * @param players Number of players (1-4)
+     * @throws IllegalArgumentException if the game is unknown or the number of players is out of range
+     */
+    public void resetGame(long game, int players) {
+        requireGame(game);
+        STATES.setVolatile(slabs[(int) (game >>> SLAB_SHIFT)], offset(game), PackedGameState.newGame(players));
+    }
+
+    /**
+     * Get the state of a game.
+     *
+     * @param game The game id
+     * @return The packed state, decoded with {@link PackedGameState}
+     * @throws IllegalArgumentException if the game is unknown
+     */
+    public long getState(long game) {
+        requireGame(game);
+        return (long) STATES.getVolatile(slabs[(int) (game >>> SLAB_SHIFT)], offset(game));
+    }
+
+    private void requireGame(long game) {
+        if (game < 0 || game >= games.get()) {
+            throw new IllegalArgumentException("Unknown game: " + game);
+        }
+    }
+
+    private static int offset(long game) {
+        return (int) (game & (SLAB_GAMES - 1)) * Long.BYTES;
+    }
+
+    /**
+     * Get the number of games created.
+     *
+     * @return Number of games
+     */
+    public long getGameCount() {
+        return games.get();
+    }
+
+    /**
+     * Get the maximum number of games.
+     *
+     * @return The capacity
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the game board.
+     *
+     * @return The game board instance
+     */
+    public SnakesAndLaddersBoard getBoard() {
+        return board;
+    }
+}
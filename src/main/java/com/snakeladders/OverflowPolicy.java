@@ -0,0 +1,20 @@
+package com.snakeladders;
+
+
+/**
+ * What a {@link GameEventHub} does with a new event when a subscriber's buffer is full.
+ */
+public enum OverflowPolicy {
+
+    /** Discard the oldest buffered event, so the subscriber sees the most recent moves. */
+    DROP_OLDEST,
+
+    /** Discard the new event, so the subscriber sees an unbroken prefix of the moves. */
+    DROP_NEWEST,
+
+    /**
+     * Replace the latest buffered event of the same game with the new one, skipping the
+     * intermediate position; drop the oldest event if no event of that game is buffered.
+     */
+    COALESCE
+}
@@ -0,0 +1,153 @@
+package com.snakeladders;
+
+
+/**
+ * Codec for the whole state of a game of up to four players in one {@code long}.
+ * <p>
+ * Layout, lowest bits first:
+ * <pre>
+ *   bits  0-55   position of players 0-3, 14 bits each
+ *   bits 56-57   player whose turn it is; the winner once the game is won
+ *   bits 58-59   number of players minus one
+ *   bit  60      won flag
+ * </pre>
+ * Boards of up to {@link #MAX_CELLS} cells fit. The move rules are those of
+ * {@link GameSessionStore}: players take turns in order, each move follows
+ * {@link GameEngine#movePlayer}, and after a win every roll is answered with
+ * {@link MoveOutcome#ALREADY_WON}. States are plain values, so they can be kept in any
+ * {@code long} storage and swapped in with a single compare-and-set.
+ */
+public final class PackedGameState {
+
+    /** Maximum number of players. */
+    public static final int MAX_PLAYERS = 4;
+
+    /** Largest board whose positions fit. */
+    public static final int MAX_CELLS = (1 << 14) - 1;
+
+    private static final int POSITION_BITS = 14;
+    private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+    private static final int TURN_SHIFT = 56;
+    private static final int PLAYERS_SHIFT = 58;
+    private static final long WON_FLAG = 1L << 60;
+
+    private PackedGameState() {
+    }
+
+    /**
+     * Get the state of a new game with all players on the start position.
+     *
+     * @param players Number of players (1-4)
+     * @return The packed state
+     * @throws IllegalArgumentException if the number of players is out of range
+     */
+    public static long newGame(int players) {
+        if (players < 1 || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Number of players must be between 1 and " + MAX_PLAYERS
+                    + ": " + players);
+        }
+        return (long) (players - 1) << PLAYERS_SHIFT;
+    }
+
+    /**
+     * Check that a board is small enough for packed states.
+     *
+     * @param board The game board
+     * @throws IllegalArgumentException if the board has more than {@link #MAX_CELLS} cells
+     */
+    static void requireFits(SnakesAndLaddersBoard board) {
+        if (board.getSize() > MAX_CELLS) {
+            throw new IllegalArgumentException("Board too large for packed game states: " + board.getSize());
+        }
+    }
+
+    /**
+     * Get the move a roll makes for the player whose turn it is.
+     *
+     * @param state The packed state
+     * @param board The game board, at most {@link #MAX_CELLS} cells
+     * @param diceRoll The dice roll value, assumed to be valid
+     * @return The packed move, see {@link MoveOutcome}
+     */
+    public static long move(long state, SnakesAndLaddersBoard board, int diceRoll) {
+        int position = getPosition(state, getTurn(state));
+        if (isWon(state)) {
+            return MoveOutcome.pack(position, MoveOutcome.ALREADY_WON, diceRoll);
+        }
+        return GameEngine.step(board, position, diceRoll);
+    }
+
+    /**
+     * Get the state after a move returned by {@link #move}.
+     *
+     * @param state The packed state before the move
+     * @param move The packed move
+     * @return The packed state after the move
+     */
+    public static long next(long state, long move) {
+        int outcome = MoveOutcome.outcome(move);
+        if (outcome == MoveOutcome.ALREADY_WON) {
+            return state;
+        }
+
+        int turn = getTurn(state);
+        int shift = turn * POSITION_BITS;
+        long moved = (state & ~(POSITION_MASK << shift)) | (long) MoveOutcome.newPosition(move) << shift;
+        if (outcome == MoveOutcome.WON) {
+            return moved | WON_FLAG;
+        }
+        int nextTurn = turn == getPlayers(state) - 1 ? 0 : turn + 1;
+        return (moved & ~(3L << TURN_SHIFT)) | (long) nextTurn << TURN_SHIFT;
+    }
+
+    /**
+     * Get the position of a player.
+     *
+     * @param state The packed state
+     * @param player Index of the player
+     * @return The player's position
+     */
+    public static int getPosition(long state, int player) {
+        return (int) (state >>> (player * POSITION_BITS) & POSITION_MASK);
+    }
+
+    /**
+     * Get the player whose turn it is.
+     *
+     * @param state The packed state
+     * @return Index of the current player, or of the winner once the game is won
+     */
+    public static int getTurn(long state) {
+        return (int) (state >>> TURN_SHIFT & 3);
+    }
+
+    /**
+     * Get the number of players.
+     *
+     * @param state The packed state
+     * @return Number of players
+     */
+    public static int getPlayers(long state) {
+        return (int) (state >>> PLAYERS_SHIFT & 3) + 1;
+    }
+
+    /**
+     * Check if the game has been won.
+     *
+     * @param state The packed state
+     * @return true if a player has won, false otherwise
+     */
+    public static boolean isWon(long state) {
+        return (state & WON_FLAG) != 0;
+    }
+
+    /**
+     * Get the player who won the game.
+     *
+     * @param state The packed state
+     * @return Index of the winner, or -1 if nobody has won yet
+     */
+    public static int getWinner(long state) {
+        return isWon(state) ? getTurn(state) : -1;
+    }
+}
@@ -0,0 +1,74 @@
+package com.snakeladders;
+
+
+/**
+ * Replays recorded dice rolls in order, for example to reproduce a game from its log.
+ */
+public class ReplayDiceSource implements DiceSource {
+
+    private final byte[] rolls;
+    private int next;
+
+    /**
+     * Create a replay of recorded rolls.
+     *
+     * @param rolls The recorded rolls, each between 1 and 6
+     * @throws IllegalArgumentException if a roll is invalid
+     */
+    public ReplayDiceSource(int... rolls) {
+        this.rolls = new byte[rolls.length];
+        for (int i = 0; i < rolls.length; i++) {
+            GameEngine.requireValidDiceRoll(rolls[i]);
+            this.rolls[i] = (byte) rolls[i];
+        }
+    }
+
+    /**
+     * Get the next recorded roll.
+     *
+     * @return A roll between 1 and 6
+     * @throws IllegalStateException if every recorded roll has been replayed
+     */
+    @Override
+    public int nextRoll() {
+        requireRemaining(1);
+        return rolls[next++];
+    }
+
+    /**
+     * Copy the next recorded rolls into a buffer.
+     *
+     * @param buffer Buffer to fill
+     * @param offset First index to fill
+     * @param length Number of rolls
+     * @throws IllegalStateException if fewer rolls remain than requested
+     */
+    @Override
+    public void nextRolls(byte[] buffer, int offset, int length) {
+        requireRemaining(length);
+        System.arraycopy(rolls, next, buffer, offset, length);
+        next += length;
+    }
+
+    /**
+     * Get the number of recorded rolls not replayed yet.
+     *
+     * @return Number of remaining rolls
+     */
+    public int getRemaining() {
+        return rolls.length - next;
+    }
+
+    /**
+     * Start the replay again from the first roll.
+     */
+    public void rewind() {
+        next = 0;
+    }
+
+    private void requireRemaining(int count) {
+        if (count > rolls.length - next) {
+            throw new IllegalStateException("Replay has only " + (rolls.length - next) + " rolls left");
+        }
+    }
+}
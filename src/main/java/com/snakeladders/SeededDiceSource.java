@@ -0,0 +1,31 @@
+package com.snakeladders;
+
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic dice: the same seed always gives the same sequence of rolls.
+ */
+public class SeededDiceSource implements DiceSource {
+
+    private final SplittableRandom random;
+
+    /**
+     * Create a source of rolls.
+     *
+     * @param seed Seed of the dice
+     */
+    public SeededDiceSource(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Get the next dice roll.
+     *
+     * @return A roll between 1 and 6
+     */
+    @Override
+    public int nextRoll() {
+        return random.nextInt(6) + 1;
+    }
+}
@@ -0,0 +1,175 @@
+package com.snakeladders;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated outcome of a Monte Carlo simulation.
+ * Holds the distribution of turns-to-win and how often each ladder and snake was taken.
+ */
+public class SimulationResult {
+
+    private final long games;
+    private final long unfinishedGames;
+    private final long[] turnHistogram;
+    private final Map<Integer, Long> ladderHits;
+    private final Map<Integer, Long> snakeHits;
+    private final long elapsedNanos;
+
+    /**
+     * Create a simulation result.
+     *
+     * @param board The simulated board
+     * @param games Number of games played
+     * @param unfinishedGames Number of games abandoned before winning
+     * @param turnHistogram Number of won games indexed by turns-to-win
+     * @param jumpHits Number of times each jump was taken, indexed as in the board
+     * @param elapsedNanos Wall-clock duration of the simulation
+     */
+    SimulationResult(SnakesAndLaddersBoard board, long games, long unfinishedGames, long[] turnHistogram,
+                     long[] jumpHits, long elapsedNanos) {
+        this.games = games;
+        this.unfinishedGames = unfinishedGames;
+        this.turnHistogram = turnHistogram;
+        this.ladderHits = collectHits(board, board.getLadders(), jumpHits);
+        this.snakeHits = collectHits(board, board.getSnakes(), jumpHits);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    private static Map<Integer, Long> collectHits(SnakesAndLaddersBoard board, Map<Integer, Integer> jumps,
+                                                  long[] jumpHits) {
+        Map<Integer, Long> hits = new TreeMap<>();
+        for (Integer source : jumps.keySet()) {
+            hits.put(source, jumpHits[board.getJumpIndex(source)]);
+        }
+        return Collections.unmodifiableMap(hits);
+    }
+
+    /**
+     * Get the number of games played.
+     *
+     * @return Number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Get the number of games that were won within the turn limit.
+     *
+     * @return Number of won games
+     */
+    public long getWonGames() {
+        return games - unfinishedGames;
+    }
+
+    /**
+     * Get the number of games abandoned at the turn limit.
+     *
+     * @return Number of unfinished games
+     */
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    /**
+     * Get the distribution of turns-to-win.
+     *
+     * @return Copy of the histogram, indexed by number of turns
+     */
+    public long[] getTurnHistogram() {
+        return turnHistogram.clone();
+    }
+
+    /**
+     * Get the mean number of turns of the won games.
+     *
+     * @return Mean turns-to-win, or NaN if no game was won
+     */
+    public double getMeanTurns() {
+        long totalTurns = 0;
+        for (int turns = 0; turns < turnHistogram.length; turns++) {
+            totalTurns += turns * turnHistogram[turns];
+        }
+        return (double) totalTurns / getWonGames();
+    }
+
+    /**
+     * Get a percentile of turns-to-win over the won games.
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Smallest number of turns within which the given share of games was won,
+     *         or -1 if no game was won
+     */
+    public int getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long wonGames = getWonGames();
+        if (wonGames == 0) {
+            return -1;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * wonGames));
+        long seen = 0;
+        for (int turns = 0; turns < turnHistogram.length; turns++) {
+            seen += turnHistogram[turns];
+            if (seen >= rank) {
+                return turns;
+            }
+        }
+        return turnHistogram.length - 1;
+    }
+
+    /**
+     * Get how often each ladder was climbed.
+     *
+     * @return Read-only map of ladder foot -> number of climbs
+     */
+    public Map<Integer, Long> getLadderHits() {
+        return ladderHits;
+    }
+
+    /**
+     * Get how often each snake was taken.
+     *
+     * @return Read-only map of snake head -> number of bites
+     */
+    public Map<Integer, Long> getSnakeHits() {
+        return snakeHits;
+    }
+
+    /**
+     * Get the wall-clock duration of the simulation.
+     *
+     * @return Duration in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Describe the result as printable report lines.
+     *
+     * @return Report lines
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Games played: %d (%d unfinished)", games, unfinishedGames));
+        lines.add(String.format("Mean turns to win: %.4f", getMeanTurns()));
+        lines.add(String.format("Percentiles: p50=%d p90=%d p99=%d p99.9=%d max=%d",
+                getPercentile(50), getPercentile(90), getPercentile(99), getPercentile(99.9),
+                getPercentile(100)));
+        lines.add(String.format("Throughput: %.0f games/sec", games / (elapsedNanos / 1e9)));
+
+        lines.add("Ladder climbs:");
+        ladderHits.forEach((cell, hits) -> lines.add(String.format("  %d: %d", cell, hits)));
+        lines.add("Snake bites:");
+        snakeHits.forEach((cell, hits) -> lines.add(String.format("  %d: %d", cell, hits)));
+        return lines;
+    }
+}
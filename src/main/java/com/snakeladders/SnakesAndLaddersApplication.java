@@ -1,22 +1,71 @@
 package com.snakeladders;
 
 
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Main application class for Snakes & Ladders game.
  * Handles program entry point and argument parsing.
  */
 public class SnakesAndLaddersApplication {
 
+    // Shared by every board loaded in this JVM, e.g. by tools that run several modes in one process
+    private static final BoardCache BOARD_CACHE = new BoardCache();
+
     /**
      * Main entry point of the application.
      *
      * @param args Command line arguments
      */
     public static void main(String[] args) {
-        GameInterface gameInterface = new GameInterface();
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        if (args.length > 0 && "--board".equals(args[0])) {
+            // Custom board: --board <file> followed by any other mode
+            if (args.length < 2) {
+                printUsage();
+                return;
+            }
+            try {
+                board = BOARD_CACHE.load(Path.of(args[1]));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Error: Could not load board: " + e.getMessage());
+                return;
+            }
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+
+        GameInterface gameInterface = new GameInterface(board);
 
         try {
-            if (args.length == 2) {
+            if (args.length > 0 && "--batch".equals(args[0])) {
+                // Batch mode: --batch [file]
+                handleBatchMode(args, gameInterface);
+            } else if (args.length > 0 && "--server".equals(args[0])) {
+                // Server mode: --server [port]
+                handleServerMode(args, gameInterface);
+            } else if (args.length > 0 && "--daemon".equals(args[0])) {
+                // Daemon mode: --daemon [socket_file]
+                handleDaemonMode(args, gameInterface);
+            } else if (args.length > 0 && "--simulate".equals(args[0])) {
+                // Simulation mode: --simulate <games> [seed]
+                handleSimulationMode(args, gameInterface);
+            } else if (args.length > 0 && "--tournament".equals(args[0])) {
+                // Tournament mode: --tournament <players> <matches_per_pairing> [seed] [checkpoint_file]
+                handleTournamentMode(args, gameInterface);
+            } else if (args.length > 0 && "--analyze".equals(args[0])) {
+                // Analysis mode: --analyze [max_turns]
+                handleAnalysisMode(args, gameInterface);
+            } else if (args.length > 0 && "--audit".equals(args[0])) {
+                // Audit mode: --audit <log_file>
+                handleAuditMode(args, gameInterface);
+            } else if (args.length == 2) {
                 // Command line mode: current_position dice_roll
                 handleCommandLineMode(args, gameInterface);
             } else if (args.length == 0) {
@@ -53,6 +102,209 @@ public class SnakesAndLaddersApplication {
         }
     }
 
+    /**
+     * Handle batch mode execution, reading games from a file or standard input.
+     *
+     * @param args Command line arguments
+     * @param gameInterface The game interface instance
+     */
+    private static void handleBatchMode(String[] args, GameInterface gameInterface) {
+        if (args.length > 2) {
+            printUsage();
+            return;
+        }
+
+        BatchMoveProcessor processor = new BatchMoveProcessor(gameInterface.getBoard());
+        try (InputStream in = args.length == 2 ? Files.newInputStream(Path.of(args[1])) : System.in) {
+            processor.process(in, new FileOutputStream(FileDescriptor.out), System.err);
+        } catch (IOException e) {
+            System.err.println("Error: Could not process batch input: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Handle server mode execution. The server keeps running after this method returns.
+     *
+     * @param args Command line arguments
+     * @param gameInterface The game interface instance
+     */
+    private static void handleServerMode(String[] args, GameInterface gameInterface) {
+        if (args.length > 2) {
+            printUsage();
+            return;
+        }
+
+        try {
+            int port = args.length == 2 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+            GameServer server = new GameServer(gameInterface.getBoard(), port);
+            server.start();
+            System.out.println("Game server listening on loopback port " + server.getPort());
+
+        } catch (NumberFormatException e) {
+            System.err.println("Error: Invalid number format in arguments.");
+            System.err.println("Port must be an integer.");
+            printUsage();
+        } catch (IOException e) {
+            System.err.println("Error: Could not start server: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Handle daemon mode execution. The daemon keeps running after this method returns.
+     *
+     * @param args Command line arguments
+     * @param gameInterface The game interface instance
+     */
+    private static void handleDaemonMode(String[] args, GameInterface gameInterface) {
+        if (args.length > 2) {
+            printUsage();
+            return;
+        }
+
+        Path socket = args.length == 2 ? Path.of(args[1]) : MoveDaemon.defaultSocket();
+        MoveDaemon daemon = new MoveDaemon(gameInterface.getBoard(), socket);
+        try {
+            daemon.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    daemon.close();
+                } catch (IOException e) {
+                    // Exiting anyway
+                }
+            }));
+            System.out.println("Move daemon listening on " + daemon.getSocket());
+
+        } catch (IOException e) {
+            System.err.println("Error: Could not start daemon: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Handle simulation mode execution.
+     *
+     * @param args Command line arguments
+     * @param gameInterface The game interface instance
+     */
+    private static void handleSimulationMode(String[] args, GameInterface gameInterface) {
+        if (args.length < 2 || args.length > 3) {
+            printUsage();
+            return;
+        }
+
+        try {
+            long games = Long.parseLong(args[1]);
+            long seed = args.length == 3 ? Long.parseLong(args[2]) : System.nanoTime();
+
+            SimulationResult result = new GameSimulator(gameInterface.getBoard()).simulate(games, seed);
+            System.out.println("Seed: " + seed);
+            result.describe().forEach(System.out::println);
+
+        } catch (NumberFormatException e) {
+            System.err.println("Error: Invalid number format in arguments.");
+            System.err.println("Number of games and seed must be integers.");
+            printUsage();
+        }
+    }
+
+    /**
+     * Handle tournament mode execution.
+     *
+     * @param args Command line arguments
+     * @param gameInterface The game interface instance
+     */
+    private static void handleTournamentMode(String[] args, GameInterface gameInterface) {
+        if (args.length < 3 || args.length > 5) {
+            printUsage();
+            return;
+        }
+
+        try {
+            int players = Integer.parseInt(args[1]);
+            long matchesPerPairing = Long.parseLong(args[2]);
+            long seed = args.length >= 4 ? Long.parseLong(args[3]) : System.nanoTime();
+            Path checkpoint = args.length == 5 ? Path.of(args[4]) : null;
+
+            TournamentRunner runner = new TournamentRunner(gameInterface.getBoard(), GameRules.STANDARD, players,
+                    matchesPerPairing, seed);
+            TournamentResult result = runner.run(ForkJoinPool.commonPool(), checkpoint);
+            System.out.println("Seed: " + seed);
+            result.describe().forEach(System.out::println);
+
+        } catch (NumberFormatException e) {
+            System.err.println("Error: Invalid number format in arguments.");
+            System.err.println("Number of players, matches per pairing and seed must be integers.");
+            printUsage();
+        } catch (IOException e) {
+            System.err.println("Error: Could not use checkpoint: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Handle analysis mode execution.
+     *
+     * @param args Command line arguments
+     * @param gameInterface The game interface instance
+     */
+    private static void handleAnalysisMode(String[] args, GameInterface gameInterface) {
+        if (args.length > 2) {
+            printUsage();
+            return;
+        }
+
+        try {
+            int maxTurns = args.length == 2 ? Integer.parseInt(args[1]) : 200;
+            SnakesAndLaddersBoard board = gameInterface.getBoard();
+            MarkovAnalyzer analyzer = new MarkovAnalyzer(board);
+
+            System.out.printf("Expected turns to win: %.6f%n", analyzer.getExpectedTurns());
+
+            double[] finished = analyzer.getFinishProbabilities(maxTurns);
+            System.out.println("\nProbability of winning within k turns:");
+            for (int turns = 10; turns <= maxTurns; turns += 10) {
+                System.out.printf("  %d: %.6f%n", turns, finished[turns]);
+            }
+
+            System.out.println("\nProbability of climbing each ladder:");
+            board.getLadders().keySet().stream().sorted().forEach(cell ->
+                    System.out.printf("  %d: %.6f%n", cell, analyzer.getReachProbability(cell)));
+
+            System.out.println("\nProbability of being bitten by each snake:");
+            board.getSnakes().keySet().stream().sorted().forEach(cell ->
+                    System.out.printf("  %d: %.6f%n", cell, analyzer.getReachProbability(cell)));
+
+        } catch (NumberFormatException e) {
+            System.err.println("Error: Invalid number format in arguments.");
+            System.err.println("Maximum number of turns must be an integer.");
+            printUsage();
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Handle audit mode execution, printing every recorded move that breaks the rules.
+     *
+     * @param args Command line arguments
+     * @param gameInterface The game interface instance
+     */
+    private static void handleAuditMode(String[] args, GameInterface gameInterface) {
+        if (args.length != 2) {
+            printUsage();
+            return;
+        }
+
+        try {
+            GameLogAuditor auditor = new GameLogAuditor(gameInterface.getBoard());
+            AuditResult result = auditor.audit(Path.of(args[1]), ForkJoinPool.commonPool(), System.out);
+            result.describe().forEach(System.out::println);
+
+        } catch (IOException e) {
+            System.err.println("Error: Could not audit game log: " + e.getMessage());
+        }
+    }
+
     /**
      * Print usage instructions.
      */
@@ -60,10 +312,28 @@ public class SnakesAndLaddersApplication {
         System.out.println("Usage:");
         System.out.println("  Interactive mode: java SnakesAndLaddersApplication");
         System.out.println("  Command line mode: java SnakesAndLaddersApplication <current_position> <dice_roll>");
+        System.out.println("  Batch mode: java SnakesAndLaddersApplication --batch [file]");
+        System.out.println("  Server mode: java SnakesAndLaddersApplication --server [port]");
+        System.out.println("  Daemon mode: java SnakesAndLaddersApplication --daemon [socket_file]");
+        System.out.println("  Daemon client: java MoveClient [--socket <socket_file>] <current_position> <dice_roll>");
+        System.out.println("  Simulation mode: java SnakesAndLaddersApplication --simulate <games> [seed]");
+        System.out.println("  Tournament mode: java SnakesAndLaddersApplication --tournament <players> "
+                + "<matches_per_pairing> [seed] [checkpoint_file]");
+        System.out.println("  Analysis mode: java SnakesAndLaddersApplication --analyze [max_turns]");
+        System.out.println("  Audit mode: java SnakesAndLaddersApplication --audit <log_file>");
+        System.out.println("  Custom board: java SnakesAndLaddersApplication --board <file> [mode arguments]");
         System.out.println();
         System.out.println("Examples:");
         System.out.println("  java SnakesAndLaddersApplication 4 5");
         System.out.println("  java SnakesAndLaddersApplication 34 3");
         System.out.println("  java SnakesAndLaddersApplication 99 1");
+        System.out.println("  java SnakesAndLaddersApplication --batch moves.txt");
+        System.out.println("  java SnakesAndLaddersApplication --daemon /tmp/snakeladders.sock");
+        System.out.println("  java MoveClient --socket /tmp/snakeladders.sock 34 3");
+        System.out.println("  java SnakesAndLaddersApplication --simulate 1000000 42");
+        System.out.println("  java SnakesAndLaddersApplication --tournament 100 1000 42 tournament.ckpt");
+        System.out.println("  java SnakesAndLaddersApplication --analyze 100");
+        System.out.println("  java SnakesAndLaddersApplication --audit moves.log");
+        System.out.println("  java SnakesAndLaddersApplication --board tournament.board --simulate 100000");
     }
 }
\ No newline at end of file
@@ -1,36 +1,203 @@
 package com.snakeladders;
 
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Represents the Snakes & Ladders game board with snakes and ladders.
  * Manages board configuration and position transformations.
+ * <p>
+ * The snake and ladder maps are compiled once into primitive lookup tables. Chains of
+ * jumps, where one jump ends on the start of another, are resolved into a single hop
+ * when the board is compiled; the cell keeps the kind of the jump declared on it, even if
+ * a ladder's chain ends below its foot. Boards are immutable; see {@link BoardLoader} for loading
+ * custom boards.
+ * <p>
+ * Boards with a moderate number of cells, or many jumps per cell, use a dense mode with
+ * a flat destination table and a cell-kind table, so every board query is a single
+ * array read. Large boards with few jumps switch to a sparse mode: the jump starts are
+ * kept in a sorted array laid out in Eytzinger (breadth-first) order, and a small bitmap
+ * with one bit per block of cells rejects almost every plain cell before any search.
  */
 public class SnakesAndLaddersBoard {
 
     public static final int BOARD_SIZE = 100;
     public static final int START_POSITION = 0;
+    /** Largest board size; a position plus a dice roll must still fit in an int. */
+    public static final int MAX_SIZE = Integer.MAX_VALUE - 6;
+
+    /** Cell kind of an ordinary cell. */
+    public static final byte CELL_PLAIN = 0;
+    /** Cell kind of a ladder foot. */
+    public static final byte CELL_LADDER = 1;
+    /** Cell kind of a snake head. */
+    public static final byte CELL_SNAKE = 2;
+    /** Cell kind of the winning cell. */
+    public static final byte CELL_GOAL = 3;
+
+    /** Smallest board that may use the sparse mode. */
+    static final int SPARSE_MIN_CELLS = 1 << 16;
+    /** The sparse mode is used when there are at least this many cells per jump. */
+    static final int SPARSE_CELLS_PER_JUMP = 64;
+    /** Largest board whose move results are pre-rendered, see {@link MoveResultTable}. */
+    static final int MOVE_TABLE_MAX_CELLS = 1 << 12;
+
+    private static final int FILTER_BITS_PER_JUMP = 64;
+    private static final int MAX_FILTER_BITS = 1 << 22;
 
     private final Map<Integer, Integer> ladders;
     private final Map<Integer, Integer> snakes;
+    private final int size;
+
+    // Jump starts in ascending order with their resolved destinations and declared kinds, in both modes
+    private final int[] jumpSources;
+    private final int[] jumpTargets;
+    private final byte[] jumpKinds;
+
+    // Dense mode
+    private final int[] destinations;
+    private final byte[] cellKinds;
+
+    // Sparse mode: 1-based Eytzinger layout of the jumps and a block filter
+    private final int[] searchSources;
+    private final int[] searchTargets;
+    private final byte[] searchKinds;
+    private final long[] blockFilter;
+    private final int blockShift;
+
+    private volatile MoveResultTable moveResults;
+    private volatile CellHeatmap heatmap;
+    private volatile MinimumRollsSolver minimumRollsSolver;
 
     /**
      * Initialize the board with predefined snakes and ladders.
      */
     public SnakesAndLaddersBoard() {
-        this.ladders = new HashMap<>();
-        this.snakes = new HashMap<>();
-        initializeLadders();
-        initializeSnakes();
+        this(BOARD_SIZE, standardLadders(), standardSnakes());
+    }
+
+    /**
+     * Initialize a custom board.
+     *
+     * @param size Number of cells, excluding the start position; the last cell wins
+     * @param ladders Map of ladder foot -> ladder top positions
+     * @param snakes Map of snake head -> snake tail positions
+     * @throws IllegalArgumentException if a jump is out of range, points the wrong way,
+     *         shares its start with another jump, or is part of a cycle
+     */
+    public SnakesAndLaddersBoard(int size, Map<Integer, Integer> ladders, Map<Integer, Integer> snakes) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+        for (Map.Entry<Integer, Integer> ladder : ladders.entrySet()) {
+            requireJump("Ladder", size, ladder.getKey(), ladder.getValue());
+            if (ladder.getValue() <= ladder.getKey()) {
+                throw new IllegalArgumentException("Ladder must go up: " + ladder.getKey() + " -> "
+                        + ladder.getValue());
+            }
+        }
+        for (Map.Entry<Integer, Integer> snake : snakes.entrySet()) {
+            requireJump("Snake", size, snake.getKey(), snake.getValue());
+            if (snake.getValue() >= snake.getKey()) {
+                throw new IllegalArgumentException("Snake must go down: " + snake.getKey() + " -> "
+                        + snake.getValue());
+            }
+            if (ladders.containsKey(snake.getKey())) {
+                throw new IllegalArgumentException("Snake and ladder overlap at " + snake.getKey());
+            }
+        }
+
+        this.ladders = Collections.unmodifiableMap(new HashMap<>(ladders));
+        this.snakes = Collections.unmodifiableMap(new HashMap<>(snakes));
+        this.size = size;
+
+        // Sort the jumps by start, then resolve chains into single hops
+        int jumpCount = ladders.size() + snakes.size();
+        long[] sortedJumps = new long[jumpCount];
+        int next = 0;
+        for (Map.Entry<Integer, Integer> ladder : ladders.entrySet()) {
+            sortedJumps[next++] = (long) ladder.getKey() << 32 | ladder.getValue();
+        }
+        for (Map.Entry<Integer, Integer> snake : snakes.entrySet()) {
+            sortedJumps[next++] = (long) snake.getKey() << 32 | snake.getValue();
+        }
+        Arrays.sort(sortedJumps);
+        this.jumpSources = new int[jumpCount];
+        this.jumpKinds = new byte[jumpCount];
+        int[] targets = new int[jumpCount];
+        for (int i = 0; i < jumpCount; i++) {
+            jumpSources[i] = (int) (sortedJumps[i] >>> 32);
+            targets[i] = (int) sortedJumps[i];
+            jumpKinds[i] = targets[i] > jumpSources[i] ? CELL_LADDER : CELL_SNAKE;
+        }
+        this.jumpTargets = resolveChains(jumpSources, targets);
+
+        boolean sparse = size >= SPARSE_MIN_CELLS && (long) jumpCount * SPARSE_CELLS_PER_JUMP <= size;
+        if (sparse) {
+            this.destinations = null;
+            this.cellKinds = null;
+            this.searchSources = new int[jumpCount + 1];
+            this.searchTargets = new int[jumpCount + 1];
+            this.searchKinds = new byte[jumpCount + 1];
+            // Index 0 is where unsuccessful searches end; no position matches it
+            searchSources[0] = -1;
+            layoutEytzinger(0, 1);
+
+            int filterBits = Math.max(Long.SIZE, Math.min(MAX_FILTER_BITS,
+                    Integer.highestOneBit(Math.max(1, jumpCount)) * 2 * FILTER_BITS_PER_JUMP));
+            int positionBits = Integer.SIZE - Integer.numberOfLeadingZeros(size);
+            this.blockShift = Math.max(0, positionBits - Integer.numberOfTrailingZeros(filterBits));
+            this.blockFilter = new long[filterBits / Long.SIZE];
+            for (int source : jumpSources) {
+                int block = source >>> blockShift;
+                blockFilter[block >>> 6] |= 1L << block;
+            }
+        } else {
+            this.searchSources = null;
+            this.searchTargets = null;
+            this.searchKinds = null;
+            this.blockFilter = null;
+            this.blockShift = 0;
+            this.destinations = new int[size + 1];
+            this.cellKinds = new byte[size + 1];
+            for (int position = 0; position <= size; position++) {
+                destinations[position] = position;
+            }
+            for (int i = 0; i < jumpCount; i++) {
+                int source = jumpSources[i];
+                destinations[source] = jumpTargets[i];
+                cellKinds[source] = jumpKinds[i];
+            }
+            cellKinds[size] = CELL_GOAL;
+        }
+    }
+
+    private static void requireJump(String kind, int size, int from, int to) {
+        if (from <= START_POSITION || from >= size || to < START_POSITION || to > size) {
+            throw new IllegalArgumentException(kind + " out of range: " + from + " -> " + to);
+        }
+    }
+
+    private static Map<Integer, Integer> standardLadders() {
+        Map<Integer, Integer> ladderMap = new HashMap<>();
+        initializeLadders(ladderMap);
+        return ladderMap;
+    }
+
+    private static Map<Integer, Integer> standardSnakes() {
+        Map<Integer, Integer> snakeMap = new HashMap<>();
+        initializeSnakes(snakeMap);
+        return snakeMap;
     }
 
     /**
      * Initialize ladder positions on the board.
      * Each ladder is defined as foot position -> top position.
      */
-    private void initializeLadders() {
+    private static void initializeLadders(Map<Integer, Integer> ladders) {
         ladders.put(7, 33);
         ladders.put(37, 85);
         ladders.put(51, 72);
@@ -41,13 +208,78 @@ public class SnakesAndLaddersBoard {
      * Initialize snake positions on the board.
      * Each snake is defined as head position -> tail position.
      */
-    private void initializeSnakes() {
+    private static void initializeSnakes(Map<Integer, Integer> snakes) {
         snakes.put(36, 19);
         snakes.put(65, 35);
         snakes.put(87, 32);
         snakes.put(98, 12);
     }
 
+    /**
+     * Follow every jump to the end of its chain.
+     *
+     * @param sources Jump starts in ascending order
+     * @param targets Direct destination of each jump
+     * @return Final destination of each jump
+     * @throws IllegalArgumentException if the jumps form a cycle
+     */
+    private static int[] resolveChains(int[] sources, int[] targets) {
+        int[] resolved = new int[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            int target = targets[i];
+            int hops = 0;
+            for (int next = Arrays.binarySearch(sources, target); next >= 0;
+                 next = Arrays.binarySearch(sources, target)) {
+                // A chain longer than the number of jumps must revisit a jump
+                if (++hops > sources.length) {
+                    throw new IllegalArgumentException("Jumps form a cycle through " + sources[i]);
+                }
+                target = targets[next];
+            }
+            resolved[i] = target;
+        }
+        return resolved;
+    }
+
+    /**
+     * Place the sorted jumps into the search arrays in Eytzinger order.
+     *
+     * @param sortedIndex Next index in the sorted arrays
+     * @param node Current node of the implicit tree, starting at 1
+     * @return The next index in the sorted arrays after filling the subtree
+     */
+    private int layoutEytzinger(int sortedIndex, int node) {
+        if (node < searchSources.length) {
+            sortedIndex = layoutEytzinger(sortedIndex, 2 * node);
+            searchSources[node] = jumpSources[sortedIndex];
+            searchTargets[node] = jumpTargets[sortedIndex];
+            searchKinds[node] = jumpKinds[sortedIndex];
+            sortedIndex = layoutEytzinger(sortedIndex + 1, 2 * node + 1);
+        }
+        return sortedIndex;
+    }
+
+    /**
+     * Find the jump starting at a position of a sparse board.
+     *
+     * @param position A position on the board
+     * @return Node of the jump in the search arrays, or 0 if the cell is plain
+     */
+    private int findJump(int position) {
+        int block = position >>> blockShift;
+        if ((blockFilter[block >>> 6] & (1L << block)) == 0) {
+            return 0;
+        }
+        int[] keys = searchSources;
+        int node = 1;
+        while (node < keys.length) {
+            node = 2 * node + (keys[node] < position ? 1 : 0);
+        }
+        // Drop the trailing right turns and the last left turn to reach the lower bound
+        node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+        return keys[node] == position ? node : 0;
+    }
+
     /**
      * Get the final position after considering snakes and ladders.
      *
@@ -55,12 +287,53 @@ public class SnakesAndLaddersBoard {
      * @return The final position after snake/ladder effects
      */
     public int getFinalPosition(int position) {
-        if (ladders.containsKey(position)) {
-            return ladders.get(position);
-        } else if (snakes.containsKey(position)) {
-            return snakes.get(position);
+        if (!isValidPosition(position)) {
+            return position;
+        }
+        if (destinations != null) {
+            return destinations[position];
+        }
+        int node = findJump(position);
+        return node == 0 ? position : searchTargets[node];
+    }
+
+    /**
+     * Get the kind of the given cell.
+     *
+     * @param position Position to check
+     * @return One of {@link #CELL_PLAIN}, {@link #CELL_LADDER}, {@link #CELL_SNAKE} or {@link #CELL_GOAL};
+     *         positions outside the board are reported as plain
+     */
+    public byte getCellKind(int position) {
+        if (!isValidPosition(position)) {
+            return CELL_PLAIN;
+        }
+        if (cellKinds != null) {
+            return cellKinds[position];
         }
-        return position;
+        if (position == size) {
+            return CELL_GOAL;
+        }
+        int node = findJump(position);
+        return node == 0 ? CELL_PLAIN : searchKinds[node];
+    }
+
+    /**
+     * Get the number of cells on the board, excluding the start position.
+     *
+     * @return The board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Check whether the board uses the sparse jump index instead of dense tables.
+     *
+     * @return true if the board is sparse, false otherwise
+     */
+    public boolean isSparse() {
+        return destinations == null;
     }
 
     /**
@@ -70,7 +343,7 @@ public class SnakesAndLaddersBoard {
      * @return true if position is valid, false otherwise
      */
     public boolean isValidPosition(int position) {
-        return position >= 0 && position <= BOARD_SIZE;
+        return position >= 0 && position <= size;
     }
 
     /**
@@ -80,7 +353,7 @@ public class SnakesAndLaddersBoard {
      * @return true if there's a ladder, false otherwise
      */
     public boolean hasLadder(int position) {
-        return ladders.containsKey(position);
+        return getCellKind(position) == CELL_LADDER;
     }
 
     /**
@@ -90,24 +363,119 @@ public class SnakesAndLaddersBoard {
      * @return true if there's a snake, false otherwise
      */
     public boolean hasSnake(int position) {
-        return snakes.containsKey(position);
+        return getCellKind(position) == CELL_SNAKE;
     }
 
     /**
      * Get all ladder positions.
      *
-     * @return Map of ladder foot -> ladder top positions
+     * @return Read-only map of ladder foot -> ladder top positions
      */
     public Map<Integer, Integer> getLadders() {
-        return new HashMap<>(ladders);
+        return ladders;
     }
 
     /**
      * Get all snake positions.
      *
-     * @return Map of snake head -> snake tail positions
+     * @return Read-only map of snake head -> snake tail positions
      */
     public Map<Integer, Integer> getSnakes() {
-        return new HashMap<>(snakes);
+        return snakes;
+    }
+
+    /**
+     * Get the number of jumps on the board.
+     *
+     * @return Number of ladders and snakes
+     */
+    int getJumpCount() {
+        return jumpSources.length;
+    }
+
+    /**
+     * Get the start of a jump. Jumps are numbered in ascending order of their start.
+     *
+     * @param jump Jump index
+     * @return The start cell
+     */
+    int getJumpSource(int jump) {
+        return jumpSources[jump];
+    }
+
+    /**
+     * Get the final destination of a jump, after following any chain.
+     *
+     * @param jump Jump index
+     * @return The destination cell
+     */
+    int getJumpTarget(int jump) {
+        return jumpTargets[jump];
+    }
+
+    /**
+     * Get the index of the jump starting at a cell.
+     *
+     * @param position A cell
+     * @return Jump index, or -1 if no jump starts there
+     */
+    int getJumpIndex(int position) {
+        int index = Arrays.binarySearch(jumpSources, position);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Get the flyweight table of every move result on this board, building it on first use.
+     *
+     * @return The move result table, or null if the board is too large to pre-render
+     */
+    MoveResultTable moveResults() {
+        if (size >= MOVE_TABLE_MAX_CELLS) {
+            return null;
+        }
+        MoveResultTable table = moveResults;
+        if (table == null) {
+            table = MoveResultTable.build(this);
+            moveResults = table;
+        }
+        return table;
+    }
+
+    /**
+     * Get the cell heatmap of this board for {@link EngineMetrics}, creating it on first use.
+     *
+     * @return The heatmap of this board
+     */
+    CellHeatmap heatmap() {
+        CellHeatmap cells = heatmap;
+        if (cells == null) {
+            synchronized (this) {
+                cells = heatmap;
+                if (cells == null) {
+                    cells = EngineMetrics.newHeatmap(size);
+                    heatmap = cells;
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Get the minimum-rolls solver of this board, solving it on first use.
+     *
+     * @return The solver of this board
+     */
+    MinimumRollsSolver minimumRollsSolver() {
+        MinimumRollsSolver solver = minimumRollsSolver;
+        if (solver == null) {
+            synchronized (this) {
+                solver = minimumRollsSolver;
+                if (solver == null) {
+                    solver = new MinimumRollsSolver(this);
+                    minimumRollsSolver = solver;
+                }
+            }
+        }
+        return solver;
     }
 }
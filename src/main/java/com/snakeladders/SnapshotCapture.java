@@ -0,0 +1,163 @@
+package com.snakeladders;
+
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Copy-on-write view of a {@link GameSessionStore} frozen at the start of a snapshot.
+ * <p>
+ * Sessions are grouped into pages. The snapshot writer claims each page and copies it
+ * out; if the store is about to change a page the writer has not reached yet, the store
+ * thread copies that page first and the writer uses the preserved copy. Either way every
+ * page is copied exactly once and games keep running while the snapshot is written.
+ */
+final class SnapshotCapture {
+
+    /** Number of sessions per page, as a power of two. */
+    static final int PAGE_SHIFT = 12;
+    /** Number of sessions per page. */
+    static final int PAGE_SESSIONS = 1 << PAGE_SHIFT;
+
+    private static final int PENDING = 0;
+    private static final int COPYING = 1;
+    private static final int COPIED = 2;
+
+    private final int sessions;
+    private final int playersPerSession;
+    private final int positionBytes;
+    private final int[] states;
+    private final Object positions;
+
+    private final AtomicIntegerArray pageStates;
+    private final int[][] preservedStates;
+    private final int[][] preservedPositions;
+
+    /**
+     * Capture the columns of a store. Must be called on the thread that owns the store.
+     *
+     * @param sessions Number of session slots in use
+     * @param playersPerSession Position slots per session
+     * @param positionBytes Width of the position column
+     * @param states The state column
+     * @param positions The position column, a byte[], short[] or int[]
+     */
+    SnapshotCapture(int sessions, int playersPerSession, int positionBytes, int[] states, Object positions) {
+        this.sessions = sessions;
+        this.playersPerSession = playersPerSession;
+        this.positionBytes = positionBytes;
+        this.states = states;
+        this.positions = positions;
+
+        int pages = (sessions + PAGE_SESSIONS - 1) >>> PAGE_SHIFT;
+        this.pageStates = new AtomicIntegerArray(pages);
+        this.preservedStates = new int[pages][];
+        this.preservedPositions = new int[pages][];
+    }
+
+    /**
+     * Get the number of captured session slots.
+     *
+     * @return Number of sessions
+     */
+    int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Get the number of pages.
+     *
+     * @return Number of pages
+     */
+    int getPages() {
+        return pageStates.length();
+    }
+
+    /**
+     * Get the number of sessions in a page.
+     *
+     * @param page The page index
+     * @return Number of sessions, less than a full page only for the last one
+     */
+    int getPageLength(int page) {
+        return Math.min(PAGE_SESSIONS, sessions - (page << PAGE_SHIFT));
+    }
+
+    /**
+     * Preserve the page of a session before the store changes it. Called on the store thread.
+     *
+     * @param sessionId The session about to change
+     */
+    void preserve(int sessionId) {
+        if (sessionId >= sessions) {
+            return;
+        }
+        int page = sessionId >>> PAGE_SHIFT;
+        if (pageStates.get(page) == COPIED) {
+            return;
+        }
+        if (pageStates.compareAndSet(page, PENDING, COPYING)) {
+            int length = getPageLength(page);
+            int[] pageStatesCopy = new int[length];
+            int[] pagePositionsCopy = new int[length * playersPerSession];
+            copyPage(page, pageStatesCopy, pagePositionsCopy);
+            preservedStates[page] = pageStatesCopy;
+            preservedPositions[page] = pagePositionsCopy;
+            pageStates.set(page, COPIED);
+        } else {
+            awaitCopied(page);
+        }
+    }
+
+    /**
+     * Read a page as it was when the snapshot started. Called on the snapshot thread.
+     *
+     * @param page The page index
+     * @param pageStatesOut Receives the session states of the page
+     * @param pagePositionsOut Receives the player positions of the page
+     */
+    void readPage(int page, int[] pageStatesOut, int[] pagePositionsOut) {
+        if (pageStates.compareAndSet(page, PENDING, COPYING)) {
+            copyPage(page, pageStatesOut, pagePositionsOut);
+            pageStates.set(page, COPIED);
+        } else {
+            awaitCopied(page);
+            int length = getPageLength(page);
+            System.arraycopy(preservedStates[page], 0, pageStatesOut, 0, length);
+            System.arraycopy(preservedPositions[page], 0, pagePositionsOut, 0, length * playersPerSession);
+            preservedStates[page] = null;
+            preservedPositions[page] = null;
+        }
+    }
+
+    private void awaitCopied(int page) {
+        while (pageStates.get(page) != COPIED) {
+            Thread.yield();
+        }
+    }
+
+    private void copyPage(int page, int[] pageStatesOut, int[] pagePositionsOut) {
+        int first = page << PAGE_SHIFT;
+        int length = getPageLength(page);
+        System.arraycopy(states, first, pageStatesOut, 0, length);
+
+        int base = first * playersPerSession;
+        int count = length * playersPerSession;
+        switch (positionBytes) {
+            case Byte.BYTES:
+                byte[] bytePositions = (byte[]) positions;
+                for (int i = 0; i < count; i++) {
+                    pagePositionsOut[i] = bytePositions[base + i] & 0xFF;
+                }
+                break;
+            case Short.BYTES:
+                short[] shortPositions = (short[]) positions;
+                for (int i = 0; i < count; i++) {
+                    pagePositionsOut[i] = shortPositions[base + i] & 0xFFFF;
+                }
+                break;
+            default:
+                System.arraycopy((int[]) positions, base, pagePositionsOut, 0, count);
+                break;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.snakeladders;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Standings and match statistics of a round-robin tournament.
+ */
+public class TournamentResult {
+
+    private static final int REPORTED_PLAYERS = 10;
+
+    private final long[] wins;
+    private final long[] rollHistogram;
+    private final long firstMoverWins;
+    private final long draws;
+    private final long totalRolls;
+    private final long matches;
+    private final long resumedMatches;
+    private final long elapsedNanos;
+
+    /**
+     * Create a tournament result.
+     *
+     * @param wins Number of wins of each player
+     * @param rollHistogram Number of matches indexed by rolls played, the last bucket holding all longer matches
+     * @param firstMoverWins Number of matches won by the player who moved first
+     * @param draws Number of matches abandoned at the roll limit
+     * @param totalRolls Number of rolls over all matches
+     * @param matches Number of matches played, including those before a resume
+     * @param resumedMatches Number of matches already played when the run resumed from a checkpoint
+     * @param elapsedNanos Wall-clock duration of this run
+     */
+    TournamentResult(long[] wins, long[] rollHistogram, long firstMoverWins, long draws, long totalRolls,
+                     long matches, long resumedMatches, long elapsedNanos) {
+        this.wins = wins;
+        this.rollHistogram = rollHistogram;
+        this.firstMoverWins = firstMoverWins;
+        this.draws = draws;
+        this.totalRolls = totalRolls;
+        this.matches = matches;
+        this.resumedMatches = resumedMatches;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get the number of wins of a player.
+     *
+     * @param player Index of the player
+     * @return Number of wins
+     */
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    /**
+     * Get the number of players.
+     *
+     * @return Number of players
+     */
+    public int getPlayers() {
+        return wins.length;
+    }
+
+    /**
+     * Get the players ordered by number of wins, most wins first.
+     *
+     * @return Player indexes in standings order
+     */
+    public int[] getStandings() {
+        return IntStream.range(0, wins.length).boxed()
+                .sorted(Comparator.comparingLong((Integer player) -> -wins[player]).thenComparing(player -> player))
+                .mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Get the distribution of rolls per match.
+     *
+     * @return Copy of the histogram, indexed by number of rolls
+     */
+    public long[] getRollHistogram() {
+        return rollHistogram.clone();
+    }
+
+    /**
+     * Get the number of matches won by the player who moved first.
+     *
+     * @return Number of first-mover wins
+     */
+    public long getFirstMoverWins() {
+        return firstMoverWins;
+    }
+
+    /**
+     * Get the number of matches abandoned at the roll limit.
+     *
+     * @return Number of draws
+     */
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * Get the mean number of rolls per match.
+     *
+     * @return Mean rolls, or NaN if no match was played
+     */
+    public double getMeanRolls() {
+        return (double) totalRolls / matches;
+    }
+
+    /**
+     * Get the number of matches played, including those before a resume.
+     *
+     * @return Number of matches
+     */
+    public long getMatches() {
+        return matches;
+    }
+
+    /**
+     * Get the number of matches that had already been played when the run resumed.
+     *
+     * @return Number of matches taken from the checkpoint
+     */
+    public long getResumedMatches() {
+        return resumedMatches;
+    }
+
+    /**
+     * Get the number of matches played per second by this run.
+     *
+     * @return Matches per second
+     */
+    public double getMatchesPerSecond() {
+        return (matches - resumedMatches) / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Describe the result as printable report lines.
+     *
+     * @return Report lines
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Matches played: %d (%d resumed from checkpoint, %d drawn)",
+                matches, resumedMatches, draws));
+        lines.add(String.format("Mean rolls per match: %.4f", getMeanRolls()));
+        lines.add(String.format("First mover won: %.4f%%", 100.0 * firstMoverWins / Math.max(1, matches - draws)));
+        lines.add(String.format("Throughput: %.0f matches/sec", getMatchesPerSecond()));
+
+        int[] standings = getStandings();
+        lines.add("Standings:");
+        for (int rank = 0; rank < Math.min(REPORTED_PLAYERS, standings.length); rank++) {
+            lines.add(String.format("  %d. player %d: %d wins", rank + 1, standings[rank], wins[standings[rank]]));
+        }
+        if (standings.length > REPORTED_PLAYERS) {
+            int last = standings[standings.length - 1];
+            lines.add("  ...");
+            lines.add(String.format("  %d. player %d: %d wins", standings.length, last, wins[last]));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,464 @@
+package com.snakeladders;
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Round-robin tournaments of two-player matches between many players.
+ * <p>
+ * Every pair of players meets a fixed number of times, taking turns to move first. The
+ * matches are numbered and cut into chunks of {@value #MATCHES_PER_CHUNK}; a fork/join
+ * task tree spreads the chunks over a work-stealing pool. Each chunk draws its dice from
+ * a {@link FastDiceSource} seeded by the tournament seed and the chunk number, so the
+ * result does not depend on scheduling. Each worker thread reuses one
+ * {@link MultiPlayerGame}, and standings and roll counts go into {@link LongAdder}s.
+ * <p>
+ * With a checkpoint file, the finished chunks and the counters are written to disk at a
+ * fixed interval and at the end. A chunk holds a shared lock while it plays, and the
+ * checkpoint copies the counters while holding it exclusively, so a checkpoint never
+ * contains half a chunk; the file is written after the lock is released. Running the same
+ * tournament again with the same file resumes after the last checkpoint, and a run can be
+ * limited to a number of chunks to split a tournament over several runs.
+ */
+public class TournamentRunner {
+
+    /** Matches per unit of scheduling and checkpointing. */
+    public static final int MATCHES_PER_CHUNK = 1 << 12;
+
+    /** Default number of rolls after which a match is abandoned as a draw. */
+    public static final long DEFAULT_MAX_ROLLS = 100_000;
+
+    /** Default time between checkpoints. */
+    public static final long DEFAULT_CHECKPOINT_INTERVAL_MILLIS = 30_000;
+
+    /** Rolls per match above which matches share the last histogram bucket. */
+    public static final int HISTOGRAM_ROLLS = 1024;
+
+    private static final int MAGIC = 0x534C544E;
+    private static final int VERSION = 1;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final SnakesAndLaddersBoard board;
+    private final GameRules rules;
+    private final int players;
+    private final long matchesPerPairing;
+    private final long seed;
+    private final long matches;
+    private final long chunks;
+    private long maxRolls = DEFAULT_MAX_ROLLS;
+    private long checkpointIntervalMillis = DEFAULT_CHECKPOINT_INTERVAL_MILLIS;
+    private long maxChunksPerRun = Long.MAX_VALUE;
+
+    /**
+     * Create a tournament.
+     *
+     * @param board The game board
+     * @param rules The rules of every match
+     * @param players Number of players
+     * @param matchesPerPairing Number of matches between each pair of players
+     * @param seed Seed of the dice; the same seed always gives the same standings
+     * @throws IllegalArgumentException if there are fewer than two players or no matches
+     */
+    public TournamentRunner(SnakesAndLaddersBoard board, GameRules rules, int players, long matchesPerPairing,
+                            long seed) {
+        if (players < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two players: " + players);
+        }
+        if (matchesPerPairing < 1) {
+            throw new IllegalArgumentException("Matches per pairing must be positive: " + matchesPerPairing);
+        }
+        long pairings = (long) players * (players - 1) / 2;
+        if (pairings > Long.MAX_VALUE / matchesPerPairing) {
+            throw new IllegalArgumentException("Too many matches");
+        }
+        this.board = board;
+        this.rules = rules;
+        this.players = players;
+        this.matchesPerPairing = matchesPerPairing;
+        this.seed = seed;
+        this.matches = pairings * matchesPerPairing;
+        this.chunks = (matches + MATCHES_PER_CHUNK - 1) / MATCHES_PER_CHUNK;
+        if (chunks > (long) Integer.MAX_VALUE * Long.SIZE) {
+            throw new IllegalArgumentException("Too many matches");
+        }
+    }
+
+    /**
+     * Set the number of rolls after which a match is abandoned as a draw.
+     *
+     * @param maxRolls Maximum rolls per match
+     */
+    public void setMaxRolls(long maxRolls) {
+        if (maxRolls < 1) {
+            throw new IllegalArgumentException("Max rolls must be positive: " + maxRolls);
+        }
+        this.maxRolls = maxRolls;
+    }
+
+    /**
+     * Set the time between checkpoints.
+     *
+     * @param checkpointIntervalMillis Interval in milliseconds
+     */
+    public void setCheckpointIntervalMillis(long checkpointIntervalMillis) {
+        if (checkpointIntervalMillis < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + checkpointIntervalMillis);
+        }
+        this.checkpointIntervalMillis = checkpointIntervalMillis;
+    }
+
+    /**
+     * Set the number of chunks one run plays at most; the rest are left for a later run
+     * resuming from the checkpoint.
+     *
+     * @param maxChunksPerRun Maximum chunks per run
+     */
+    public void setMaxChunksPerRun(long maxChunksPerRun) {
+        if (maxChunksPerRun < 1) {
+            throw new IllegalArgumentException("Max chunks per run must be positive: " + maxChunksPerRun);
+        }
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    /**
+     * Get the total number of matches of the tournament.
+     *
+     * @return Number of matches
+     */
+    public long getMatches() {
+        return matches;
+    }
+
+    /**
+     * Play the whole tournament on the common pool without checkpoints.
+     *
+     * @return The standings
+     */
+    public TournamentResult run() {
+        try {
+            return run(ForkJoinPool.commonPool(), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Play the tournament, resuming from a checkpoint if the file holds one.
+     *
+     * @param pool The fork/join pool running the matches
+     * @param checkpoint Checkpoint file, or null to run without checkpoints
+     * @return The standings
+     * @throws IOException if the checkpoint cannot be read or written
+     * @throws IllegalArgumentException if the checkpoint belongs to a different tournament
+     */
+    public TournamentResult run(ForkJoinPool pool, Path checkpoint) throws IOException {
+        Progress progress = new Progress();
+        if (checkpoint != null && Files.exists(checkpoint)) {
+            progress.load(checkpoint);
+        }
+        long resumedMatches = progress.completedMatches();
+
+        ScheduledExecutorService checkpointer = null;
+        if (checkpoint != null) {
+            checkpointer = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "tournament-checkpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+            checkpointer.scheduleWithFixedDelay(() -> {
+                try {
+                    progress.saveIfAdvanced(checkpoint);
+                } catch (IOException e) {
+                    System.err.println("Error: Could not write tournament checkpoint: " + e.getMessage());
+                }
+            }, checkpointIntervalMillis, checkpointIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        long start = System.nanoTime();
+        ThreadLocal<MultiPlayerGame> workerGame = ThreadLocal.withInitial(() -> new MultiPlayerGame(board, rules, 2));
+        try {
+            pool.invoke(new ChunkRange(0, chunks, progress, workerGame));
+        } finally {
+            if (checkpointer != null) {
+                // Let a running checkpoint finish before the final one is written
+                checkpointer.shutdown();
+                awaitTermination(checkpointer);
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        if (checkpoint != null) {
+            progress.save(checkpoint);
+        }
+        return progress.result(resumedMatches, elapsedNanos);
+    }
+
+    private static void awaitTermination(ScheduledExecutorService executor) {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Play every match of a chunk.
+     */
+    private void playChunk(long chunk, Progress progress, MultiPlayerGame game) {
+        FastDiceSource dice = new FastDiceSource(seed + (chunk + 1) * GOLDEN_GAMMA);
+        long firstMatch = chunk * MATCHES_PER_CHUNK;
+        long lastMatch = Math.min(matches, firstMatch + MATCHES_PER_CHUNK);
+
+        long pairing = -1;
+        int first = 0;
+        int second = 0;
+        for (long match = firstMatch; match < lastMatch; match++) {
+            if (match / matchesPerPairing != pairing) {
+                pairing = match / matchesPerPairing;
+                first = pairingFirst(pairing);
+                second = (int) (first + 1 + pairing - pairingOffset(first));
+            }
+
+            // Alternate who moves first within a pairing
+            boolean swapped = (match % matchesPerPairing & 1) == 1;
+            game.resetGame();
+            int winner = game.playToEnd(dice, maxRolls);
+            progress.record(winner < 0 ? -1 : (winner == 0) != swapped ? first : second, winner == 0,
+                    game.getRollCount());
+        }
+    }
+
+    /**
+     * Number of pairings whose first player is below a player.
+     */
+    private long pairingOffset(int player) {
+        return (long) player * (2L * players - player - 1) / 2;
+    }
+
+    /**
+     * Find the first player of a pairing, with pairings ordered (0,1), (0,2), ..., (1,2), ...
+     */
+    private int pairingFirst(long pairing) {
+        double b = 2.0 * players - 1;
+        int player = (int) Math.max(0, Math.floor((b - Math.sqrt(b * b - 8.0 * pairing)) / 2));
+        while (player > 0 && pairingOffset(player) > pairing) {
+            player--;
+        }
+        while (pairingOffset(player + 1) <= pairing) {
+            player++;
+        }
+        return player;
+    }
+
+    /**
+     * Fork/join task playing a range of chunks.
+     */
+    private final class ChunkRange extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long fromChunk;
+        private final long toChunk;
+        private final Progress progress;
+        private final ThreadLocal<MultiPlayerGame> workerGame;
+
+        ChunkRange(long fromChunk, long toChunk, Progress progress, ThreadLocal<MultiPlayerGame> workerGame) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.progress = progress;
+            this.workerGame = workerGame;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                long middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new ChunkRange(fromChunk, middle, progress, workerGame),
+                        new ChunkRange(middle, toChunk, progress, workerGame));
+                return;
+            }
+            if (progress.isDone(fromChunk) || progress.chunkBudget.getAndDecrement() <= 0) {
+                return;
+            }
+            progress.lock.readLock().lock();
+            try {
+                playChunk(fromChunk, progress, workerGame.get());
+                progress.markDone(fromChunk);
+            } finally {
+                progress.lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Standings, roll counts and finished chunks, shared by all workers.
+     */
+    private final class Progress {
+
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        final AtomicLong chunkBudget = new AtomicLong(maxChunksPerRun);
+        private final AtomicLongArray doneChunks = new AtomicLongArray((int) ((chunks + Long.SIZE - 1) / Long.SIZE));
+        private final LongAdder[] wins = adders(players);
+        private final LongAdder[] rollHistogram = adders(HISTOGRAM_ROLLS + 1);
+        private final LongAdder firstMoverWins = new LongAdder();
+        private final LongAdder draws = new LongAdder();
+        private final LongAdder totalRolls = new LongAdder();
+        private final LongAdder playedMatches = new LongAdder();
+        private long savedMatches;
+
+        void record(int winner, boolean firstMoverWon, long rolls) {
+            if (winner < 0) {
+                draws.increment();
+            } else {
+                wins[winner].increment();
+                if (firstMoverWon) {
+                    firstMoverWins.increment();
+                }
+            }
+            totalRolls.add(rolls);
+            rollHistogram[(int) Math.min(rolls, HISTOGRAM_ROLLS)].increment();
+            playedMatches.increment();
+        }
+
+        boolean isDone(long chunk) {
+            return (doneChunks.get((int) (chunk >>> 6)) & 1L << chunk) != 0;
+        }
+
+        void markDone(long chunk) {
+            doneChunks.accumulateAndGet((int) (chunk >>> 6), 1L << chunk, (bits, bit) -> bits | bit);
+        }
+
+        long completedMatches() {
+            return playedMatches.sum();
+        }
+
+        /**
+         * Write the progress unless no match has finished since it was last saved or loaded,
+         * so that a checkpoint on disk always records some progress.
+         */
+        void saveIfAdvanced(Path checkpoint) throws IOException {
+            if (completedMatches() != savedMatches) {
+                save(checkpoint);
+            }
+        }
+
+        /**
+         * Copy the progress between chunks, then write it to a temporary file and move it
+         * over the checkpoint while the workers carry on.
+         */
+        void save(Path checkpoint) throws IOException {
+            long[] snapshot = new long[doneChunks.length() + wins.length + rollHistogram.length + 4];
+            int next = 0;
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < doneChunks.length(); i++) {
+                    snapshot[next++] = doneChunks.get(i);
+                }
+                next = copySums(wins, snapshot, next);
+                next = copySums(rollHistogram, snapshot, next);
+                snapshot[next++] = firstMoverWins.sum();
+                snapshot[next++] = draws.sum();
+                snapshot[next++] = totalRolls.sum();
+                snapshot[next] = playedMatches.sum();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint());
+                for (long value : snapshot) {
+                    out.writeLong(value);
+                }
+            }
+            Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedMatches = snapshot[next];
+        }
+
+        void load(Path checkpoint) throws IOException {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpoint)))) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new IllegalArgumentException("Not a tournament checkpoint: " + checkpoint);
+                }
+                if (in.readLong() != fingerprint()) {
+                    throw new IllegalArgumentException("Checkpoint belongs to a different tournament: " + checkpoint);
+                }
+                for (int i = 0; i < doneChunks.length(); i++) {
+                    doneChunks.set(i, in.readLong());
+                }
+                readAdders(in, wins);
+                readAdders(in, rollHistogram);
+                firstMoverWins.add(in.readLong());
+                draws.add(in.readLong());
+                totalRolls.add(in.readLong());
+                playedMatches.add(in.readLong());
+                savedMatches = playedMatches.sum();
+            }
+        }
+
+        TournamentResult result(long resumedMatches, long elapsedNanos) {
+            return new TournamentResult(sums(wins), sums(rollHistogram), firstMoverWins.sum(), draws.sum(),
+                    totalRolls.sum(), playedMatches.sum(), resumedMatches, elapsedNanos);
+        }
+    }
+
+    /**
+     * Fingerprint of everything that decides the outcome of the matches.
+     */
+    private long fingerprint() {
+        long hash = GameSnapshot.fingerprint(board);
+        for (long value : new long[]{rules.hashCode(), players, matchesPerPairing, seed, maxRolls}) {
+            hash = (hash ^ value) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+
+    private static int copySums(LongAdder[] adders, long[] target, int offset) {
+        for (LongAdder adder : adders) {
+            target[offset++] = adder.sum();
+        }
+        return offset;
+    }
+
+    private static void readAdders(DataInputStream in, LongAdder[] adders) throws IOException {
+        for (LongAdder adder : adders) {
+            adder.add(in.readLong());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.snakeladders;
+
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Lockstep moves on the Vector API, one vector of games per step.
+ * <p>
+ * Only loaded by {@link LockstepSimulator} when the {@code jdk.incubator.vector} module
+ * is present. The rolls are widened from bytes, added to the positions, and the final
+ * positions are gathered from the board table; lanes that have won or overshot keep their
+ * position through a blend mask.
+ */
+final class VectorLockstepKernel implements LockstepSimulator.Kernel {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(INTS.length() * Byte.SIZE));
+
+    private final ThreadLocal<int[]> indexes = ThreadLocal.withInitial(() -> new int[INTS.length()]);
+
+    @Override
+    public int advance(int[] table, int boardSize, int[] positions, int[] turns, byte[] rolls, int count) {
+        int[] landings = indexes.get();
+        int vectorEnd = INTS.loopBound(count);
+        int active = 0;
+        for (int lane = 0; lane < vectorEnd; lane += INTS.length()) {
+            IntVector position = IntVector.fromArray(INTS, positions, lane);
+            VectorMask<Integer> playing = position.compare(VectorOperators.NE, boardSize);
+            if (!playing.anyTrue()) {
+                continue;
+            }
+
+            // The table is padded past the last cell, so every lane can be gathered
+            IntVector roll = (IntVector) ByteVector.fromArray(BYTES, rolls, lane).convertShape(VectorOperators.B2I, INTS, 0);
+            position.add(roll).intoArray(landings, 0);
+            IntVector landed = IntVector.fromArray(INTS, table, 0, landings, 0);
+
+            VectorMask<Integer> moved = playing.and(landed.compare(VectorOperators.GE, 0));
+            IntVector updated = position.blend(landed, moved);
+            updated.intoArray(positions, lane);
+            IntVector.fromArray(INTS, turns, lane).add(1, playing).intoArray(turns, lane);
+            active += updated.compare(VectorOperators.NE, boardSize).trueCount();
+        }
+        return active + LockstepSimulator.ScalarKernel.advanceRange(table, boardSize, positions, turns, rolls,
+                vectorEnd, count);
+    }
+}
@@ -0,0 +1,79 @@
+package com.snakeladders;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates thread-per-task executors backed by virtual threads when the runtime has them.
+ * <p>
+ * The project targets Java 17, so virtual threads are looked up reflectively. On older
+ * runtimes the executor falls back to daemon platform threads with a small stack, which
+ * keeps many mostly idle connections affordable. The fallback runs at most
+ * {@link #FALLBACK_MAX_THREADS} tasks at once and rejects further tasks until one ends.
+ */
+final class VirtualThreads {
+
+    /** Maximum number of concurrent tasks of a platform thread executor. */
+    static final int FALLBACK_MAX_THREADS = 4096;
+
+    private static final long FALLBACK_STACK_SIZE = 256 * 1024;
+    private static final long FALLBACK_KEEP_ALIVE_SECONDS = 60;
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private VirtualThreads() {
+    }
+
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check whether tasks run on virtual threads.
+     *
+     * @return true if the runtime supports virtual threads, false otherwise
+     */
+    static boolean isAvailable() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Create an executor starting a new thread for each task.
+     *
+     * @param namePrefix Name prefix of the fallback platform threads
+     * @return The executor; on platform threads it throws
+     *         {@link java.util.concurrent.RejectedExecutionException} when full
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Could not create virtual thread executor", e);
+            }
+        }
+
+        AtomicLong counter = new AtomicLong();
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(null, task, namePrefix + "-" + counter.incrementAndGet(), FALLBACK_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(0, FALLBACK_MAX_THREADS, FALLBACK_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), factory);
+    }
+}
@@ -0,0 +1,60 @@
+package com.snakeladders;
+
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a {@link MoveEventRing} thread waits for events, or for room to publish.
+ * <p>
+ * The strategies trade CPU for latency: spinning reacts within nanoseconds but keeps a
+ * core busy, yielding lets other threads run on the core, and parking sleeps for a short
+ * while and costs nothing when idle.
+ */
+public enum WaitStrategy {
+
+    /** Spin on the sequence; lowest latency, one busy core per waiting thread. */
+    BUSY_SPIN {
+        @Override
+        void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+
+    /** Spin briefly, then yield the core to other threads. */
+    YIELD {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    /** Spin briefly, then park for {@value #PARK_MICROS} microseconds at a time. */
+    PARK {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(PARK_MICROS));
+            }
+        }
+    };
+
+    /** Number of spins before yielding or parking. */
+    static final int SPIN_TRIES = 100;
+
+    /** Time slept per park. */
+    static final int PARK_MICROS = 100;
+
+    /**
+     * Wait once before checking the sequence again.
+     *
+     * @param attempt Number of times the caller has already waited for the same sequence
+     */
+    abstract void idle(int attempt);
+}
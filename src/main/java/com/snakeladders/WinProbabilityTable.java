@@ -0,0 +1,188 @@
+package com.snakeladders;
+
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Table of the probability of winning within k turns from every position of a board.
+ * <p>
+ * Row k holds one {@code float} per cell and is computed from row k - 1 by dynamic
+ * programming, using the rules of {@link GameEngine#step}: a roll past the last cell
+ * leaves the player in place and the last cell is absorbing. Rows are built on demand,
+ * only as far out as queries have asked for, up to a fixed horizon. A built row is never
+ * changed again, so queries for it read the table without locking.
+ * <p>
+ * A jump start holds the value of its target, since landing on it is the same as
+ * landing on the target; this keeps the inner loop free of board lookups. Rows of large
+ * boards are built in parallel.
+ */
+public final class WinProbabilityTable {
+
+    /** Horizon of the tables returned by {@link #forBoard(SnakesAndLaddersBoard)}. */
+    public static final int DEFAULT_MAX_TURNS = 1_000;
+
+    /** Maximum number of tables kept by {@link #forBoard(SnakesAndLaddersBoard)}. */
+    public static final int MAX_CACHED_TABLES = 16;
+
+    private static final int DICE_FACES = 6;
+    private static final int PARALLEL_MIN_CELLS = 1 << 16;
+    private static final int PARALLEL_CHUNK_CELLS = 1 << 14;
+
+    private static final Map<SnakesAndLaddersBoard, WinProbabilityTable> CACHE =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<SnakesAndLaddersBoard, WinProbabilityTable> eldest) {
+                    return size() > MAX_CACHED_TABLES;
+                }
+            };
+
+    private final SnakesAndLaddersBoard board;
+    private final int boardSize;
+    private final int maxTurns;
+    private final float[][] rows;
+    private volatile int builtRows;
+
+    /**
+     * Create an empty table; rows are computed when first queried.
+     *
+     * @param board The game board
+     * @param maxTurns Largest number of turns that can be queried
+     */
+    public WinProbabilityTable(SnakesAndLaddersBoard board, int maxTurns) {
+        if (maxTurns < 0) {
+            throw new IllegalArgumentException("Number of turns must not be negative: " + maxTurns);
+        }
+        this.board = board;
+        this.boardSize = board.getSize();
+        this.maxTurns = maxTurns;
+        this.rows = new float[maxTurns + 1][];
+    }
+
+    /**
+     * Get the shared table of a board with a horizon of {@link #DEFAULT_MAX_TURNS}.
+     * The least recently used table is dropped once {@link #MAX_CACHED_TABLES} boards are cached.
+     *
+     * @param board The game board
+     * @return The shared table for the board
+     */
+    public static WinProbabilityTable forBoard(SnakesAndLaddersBoard board) {
+        synchronized (CACHE) {
+            return CACHE.computeIfAbsent(board, key -> new WinProbabilityTable(key, DEFAULT_MAX_TURNS));
+        }
+    }
+
+    /**
+     * Get the probability of winning within a number of turns from a position.
+     *
+     * @param position Position to start from
+     * @param turns Number of turns, at most the horizon of the table
+     * @return Probability of winning within that many turns
+     * @throws IllegalArgumentException if the position or number of turns is out of range
+     */
+    public float getWinProbability(int position, int turns) {
+        if (!board.isValidPosition(position)) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+        if (turns < 0 || turns > maxTurns) {
+            throw new IllegalArgumentException("Number of turns must be between 0 and " + maxTurns + ": " + turns);
+        }
+        if (turns >= builtRows) {
+            buildRows(turns);
+        }
+        return rows[turns][position];
+    }
+
+    /**
+     * Get the number of turns the table has been built out to so far.
+     *
+     * @return Largest number of turns already computed, or -1 if no row is built yet
+     */
+    public int getBuiltTurns() {
+        return builtRows - 1;
+    }
+
+    /**
+     * Get the largest number of turns that can be queried.
+     *
+     * @return The horizon of the table
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Get the game board.
+     *
+     * @return The game board instance
+     */
+    public SnakesAndLaddersBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Compute every missing row up to a number of turns and publish them together.
+     *
+     * @param turns Last row to compute
+     */
+    private synchronized void buildRows(int turns) {
+        int built = builtRows;
+        if (built == 0) {
+            float[] first = new float[boardSize + 1];
+            first[boardSize] = 1.0f;
+            copyJumpTargets(first);
+            rows[0] = first;
+            built = 1;
+        }
+        for (; built <= turns; built++) {
+            float[] previous = rows[built - 1];
+            float[] next = new float[boardSize + 1];
+            if (boardSize >= PARALLEL_MIN_CELLS) {
+                int chunks = (boardSize + PARALLEL_CHUNK_CELLS - 1) / PARALLEL_CHUNK_CELLS;
+                IntStream.range(0, chunks).parallel().forEach(chunk -> computeCells(previous, next,
+                        chunk * PARALLEL_CHUNK_CELLS, Math.min(boardSize, (chunk + 1) * PARALLEL_CHUNK_CELLS)));
+            } else {
+                computeCells(previous, next, 0, boardSize);
+            }
+            next[boardSize] = 1.0f;
+            copyJumpTargets(next);
+            rows[built] = next;
+        }
+        builtRows = built;
+    }
+
+    /**
+     * Average the previous row over the six rolls from each position of a range.
+     *
+     * @param previous Row for one turn less
+     * @param next Row being computed
+     * @param from First position, inclusive
+     * @param to Last position, exclusive
+     */
+    private void computeCells(float[] previous, float[] next, int from, int to) {
+        // Away from the end every roll lands on the board
+        int safeEnd = Math.min(to, boardSize - DICE_FACES + 1);
+        int position = from;
+        for (; position < safeEnd; position++) {
+            double sum = (double) previous[position + 1] + previous[position + 2] + previous[position + 3]
+                    + previous[position + 4] + previous[position + 5] + previous[position + 6];
+            next[position] = (float) (sum / DICE_FACES);
+        }
+        // A roll past the last cell leaves the player in place
+        for (; position < to; position++) {
+            double sum = 0;
+            for (int diceRoll = 1; diceRoll <= DICE_FACES; diceRoll++) {
+                int landing = position + diceRoll;
+                sum += previous[landing <= boardSize ? landing : position];
+            }
+            next[position] = (float) (sum / DICE_FACES);
+        }
+    }
+
+    private void copyJumpTargets(float[] row) {
+        for (int jump = 0; jump < board.getJumpCount(); jump++) {
+            row[board.getJumpSource(jump)] = row[board.getJumpTarget(jump)];
+        }
+    }
+}
@@ -0,0 +1,92 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.BatchMoveProcessor;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for BatchMoveProcessor class.
+ */
+@DisplayName("Batch Move Processor Tests")
+class BatchMoveProcessorTest {
+
+    private BatchMoveProcessor processor;
+    private ByteArrayOutputStream errors;
+
+    @BeforeEach
+    void setUp() {
+        processor = new BatchMoveProcessor(new SnakesAndLaddersBoard());
+        errors = new ByteArrayOutputStream();
+    }
+
+    private String process(String input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        processor.process(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), out,
+                new PrintStream(errors, true, StandardCharsets.US_ASCII));
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    @DisplayName("Every pair should print exactly what the command line prints")
+    void testMatchesCommandLine() throws IOException {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int position = -2; position <= 102; position++) {
+            for (int dice = 0; dice <= 7; dice++) {
+                input.append(position).append(' ').append(dice).append('\n');
+                expected.append(CommandLineOutput.playCommandLineMove(position, dice));
+            }
+        }
+
+        assertEquals(expected.toString(), process(input.toString()));
+        assertEquals("", errors.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("A roll sequence should continue the same game")
+    void testRollSequence() throws IOException {
+        String output = process("97 1 3 2\n");
+
+        assertEquals("Input - Current position: 97, Dice outcome: 1\n"
+                + "Output - New position: 12\n"
+                + "Input - Current position: 12, Dice outcome: 3\n"
+                + "Output - New position: 15\n"
+                + "Input - Current position: 15, Dice outcome: 2\n"
+                + "Output - New position: 17\n", output);
+    }
+
+    @Test
+    @DisplayName("Rolls after a win should report the game as already won")
+    void testRollsAfterWin() throws IOException {
+        String output = process("99 1 4\r\n");
+
+        assertEquals("Input - Current position: 99, Dice outcome: 1\n"
+                + "Output - New position: 100\n"
+                + "Yay!! You won!!\n"
+                + "Input - Current position: 100, Dice outcome: 4\n"
+                + "Output - New position: 100\n"
+                + "Game already won!\n", output);
+    }
+
+    @Test
+    @DisplayName("Malformed lines should be reported and skipped")
+    void testMalformedLines() throws IOException {
+        String output = process("4 x\n\n12\n99999999999 1\n10,2");
+
+        assertEquals("Input - Current position: 10, Dice outcome: 2\n"
+                + "Output - New position: 12\n", output);
+        assertEquals("Error: Invalid number format on line 1.\n"
+                + "Error: Missing dice roll on line 3.\n"
+                + "Error: Invalid number format on line 4.\n",
+                errors.toString(StandardCharsets.US_ASCII).replace(System.lineSeparator(), "\n"));
+    }
+}
@@ -0,0 +1,50 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.BoardCache;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for BoardCache class.
+ */
+@DisplayName("Board Cache Tests")
+class BoardCacheTest {
+
+    private static byte[] board(int size) {
+        return ("size " + size + "\nladder 2 5\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Loading the same content should return the same board")
+    void testSharedInstance() {
+        BoardCache cache = new BoardCache();
+
+        SnakesAndLaddersBoard first = cache.get(board(10));
+        SnakesAndLaddersBoard second = cache.get(board(10));
+
+        assertSame(first, second);
+        assertNotSame(first, cache.get(board(12)));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("The least recently used board should be evicted")
+    void testLruEviction() {
+        BoardCache cache = new BoardCache(2);
+        SnakesAndLaddersBoard ten = cache.get(board(10));
+        cache.get(board(11));
+        cache.get(board(10));
+        cache.get(board(12));
+
+        assertEquals(2, cache.size());
+        assertSame(ten, cache.get(board(10)));
+        assertEquals(3, cache.getMisses());
+        cache.get(board(11));
+        assertEquals(4, cache.getMisses());
+    }
+}
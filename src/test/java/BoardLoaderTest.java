@@ -0,0 +1,93 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.BoardLoader;
+import com.snakeladders.GameEngine;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+/**
+ * Unit tests for BoardLoader class.
+ */
+@DisplayName("Board Loader Tests")
+class BoardLoaderTest {
+
+    @Test
+    @DisplayName("Text boards should load with their size and jumps")
+    void testParseText() {
+        SnakesAndLaddersBoard board = BoardLoader.parseText(String.join("\n",
+                "# tournament board",
+                "size 30",
+                "",
+                "ladder 3 22",
+                "snake 27 1"));
+
+        assertEquals(30, board.getSize());
+        assertEquals(22, board.getFinalPosition(3));
+        assertEquals(1, board.getFinalPosition(27));
+        assertTrue(board.isValidPosition(30));
+        assertFalse(board.isValidPosition(31));
+        assertEquals(MoveOutcome.WON, MoveOutcome.outcome(GameEngine.step(board, 28, 2)));
+        assertEquals(MoveOutcome.OVERSHOOT, MoveOutcome.outcome(GameEngine.step(board, 28, 3)));
+    }
+
+    @Test
+    @DisplayName("Binary and text encodings should round trip")
+    void testRoundTrip() {
+        SnakesAndLaddersBoard standard = new SnakesAndLaddersBoard();
+
+        SnakesAndLaddersBoard fromBinary = BoardLoader.parse(BoardLoader.toBinary(standard));
+        SnakesAndLaddersBoard fromText = BoardLoader.parseText(BoardLoader.toText(standard));
+
+        for (int position = 0; position <= standard.getSize(); position++) {
+            assertEquals(standard.getFinalPosition(position), fromBinary.getFinalPosition(position));
+            assertEquals(standard.getCellKind(position), fromText.getCellKind(position));
+        }
+        assertEquals(standard.getLadders(), fromBinary.getLadders());
+        assertEquals(standard.getSnakes(), fromText.getSnakes());
+    }
+
+    @Test
+    @DisplayName("Chains of jumps should be resolved into single hops")
+    void testChainsResolved() {
+        SnakesAndLaddersBoard board = BoardLoader.parseText("size 50\nladder 4 20\nsnake 20 10\nladder 10 40");
+
+        assertEquals(40, board.getFinalPosition(4));
+        assertTrue(board.hasLadder(4));
+        assertEquals(40, board.getFinalPosition(20));
+        assertTrue(board.hasSnake(20));
+        assertEquals(20, board.getLadders().get(4));
+    }
+
+    @Test
+    @DisplayName("Chained cells should keep the kind of the jump declared on them")
+    void testChainKeepsDeclaredKind() {
+        for (int size : new int[] {50, 1 << 16}) {
+            SnakesAndLaddersBoard board = BoardLoader.parseText("size " + size + "\nladder 4 20\nsnake 20 2");
+
+            assertEquals(size >= 1 << 16, board.isSparse());
+            assertEquals(2, board.getFinalPosition(4));
+            assertTrue(board.hasLadder(4));
+            assertFalse(board.hasSnake(4));
+            assertEquals(SnakesAndLaddersBoard.CELL_LADDER, board.getCellKind(4));
+            assertEquals(MoveOutcome.LADDER, MoveOutcome.outcome(GameEngine.step(board, 1, 3)));
+            assertEquals(2, MoveOutcome.newPosition(GameEngine.step(board, 1, 3)));
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid boards should be rejected")
+    void testInvalidBoards() {
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parseText("ladder 3 8"));
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parseText("size 20\nladder 3 21"));
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parseText("size 20\nladder 0 5"));
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parseText("size 20\nladder 8 3"));
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parseText("size 20\nladder 3 8\nsnake 3 1"));
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parseText("size 20\nladder 3 8\nsnake 8 3"));
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parseText("size 20\nbridge 3 8"));
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parseText("size twenty"));
+        assertThrows(IllegalArgumentException.class, () -> BoardLoader.parse(new byte[] {'S', 'L', 'B', '1', 0}));
+    }
+}
@@ -0,0 +1,31 @@
+import com.snakeladders.GameInterface;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Captures what the command line prints, for tests that must reproduce it byte for byte.
+ */
+final class CommandLineOutput {
+
+    private CommandLineOutput() {
+    }
+
+    /**
+     * Play one command-line move with System.out captured, restoring it even if the move fails.
+     *
+     * @return The printed output with {@code \n} line endings
+     */
+    static String playCommandLineMove(int position, int diceRoll) {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true, StandardCharsets.US_ASCII));
+        try {
+            new GameInterface().playCommandLineMove(position, diceRoll);
+        } finally {
+            System.setOut(originalOut);
+        }
+        return captured.toString(StandardCharsets.US_ASCII).replace(System.lineSeparator(), "\n");
+    }
+}
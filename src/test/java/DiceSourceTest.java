@@ -0,0 +1,86 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.DiceSource;
+import com.snakeladders.FastDiceSource;
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameMoveResult;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.ReplayDiceSource;
+import com.snakeladders.SeededDiceSource;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.Arrays;
+
+/**
+ * Unit tests for DiceSource implementations.
+ */
+@DisplayName("Dice Source Tests")
+class DiceSourceTest {
+
+    @Test
+    @DisplayName("Seeded and fast sources should repeat their rolls for the same seed")
+    void testDeterministicSources() {
+        assertArrayEquals(rolls(new SeededDiceSource(5), 1_000), rolls(new SeededDiceSource(5), 1_000));
+        assertArrayEquals(rolls(new FastDiceSource(5), 1_000), rolls(new FastDiceSource(5), 1_000));
+
+        // Single rolls and bulk rolls give the same sequence
+        byte[] bulk = new byte[1_000];
+        new FastDiceSource(5).nextRolls(bulk, 0, bulk.length);
+        assertArrayEquals(rolls(new FastDiceSource(5), 1_000), bulk);
+        FastDiceSource mixed = new FastDiceSource(5);
+        byte[] rest = new byte[999];
+        assertEquals(bulk[0], mixed.nextRoll());
+        mixed.nextRolls(rest, 0, rest.length);
+        assertArrayEquals(Arrays.copyOfRange(bulk, 1, 1_000), rest);
+    }
+
+    @Test
+    @DisplayName("Fast rolls should be evenly spread over the six faces")
+    void testFastSourceIsUnbiased() {
+        byte[] rolls = new byte[6_000_000];
+        FastDiceSource.current().nextRolls(rolls, 0, rolls.length);
+
+        long[] counts = new long[7];
+        for (byte roll : rolls) {
+            counts[roll]++;
+        }
+        assertEquals(0, counts[0]);
+        double chiSquare = 0;
+        for (int face = 1; face <= 6; face++) {
+            double difference = counts[face] - 1_000_000.0;
+            chiSquare += difference * difference / 1_000_000.0;
+        }
+        // 99.99th percentile of the chi-square distribution with 5 degrees of freedom
+        assertTrue(chiSquare < 25.7, "chi-square " + chiSquare);
+        assertSame(FastDiceSource.current(), FastDiceSource.current());
+    }
+
+    @Test
+    @DisplayName("Replay source should drive the engine through the recorded rolls")
+    void testReplayDrivesEngine() {
+        GameEngine engine = new GameEngine(new SnakesAndLaddersBoard());
+        ReplayDiceSource replay = new ReplayDiceSource(4, 3, 1);
+
+        assertEquals(new GameMoveResult(4, "Moved to position 4."), engine.movePlayer(replay));
+        assertEquals(new GameMoveResult(33, "Climbed ladder from 7 to 33!"), engine.movePlayer(replay));
+        assertEquals(34, MoveOutcome.newPosition(engine.applyMove(replay)));
+        assertEquals(0, replay.getRemaining());
+        assertThrows(IllegalStateException.class, replay::nextRoll);
+
+        replay.rewind();
+        assertEquals(4, replay.nextRoll());
+        assertThrows(IllegalArgumentException.class, () -> new ReplayDiceSource(1, 7));
+    }
+
+    private static byte[] rolls(DiceSource dice, int count) {
+        byte[] rolls = new byte[count];
+        for (int i = 0; i < count; i++) {
+            rolls[i] = (byte) dice.nextRoll();
+            assertTrue(rolls[i] >= 1 && rolls[i] <= 6);
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,136 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.snakeladders.EngineMetrics;
+import com.snakeladders.GameEngine;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SeededDiceSource;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Unit tests for EngineMetrics class.
+ */
+@DisplayName("Engine Metrics Tests")
+class EngineMetricsTest {
+
+    @Test
+    @DisplayName("Should record nothing and register no MBean when disabled")
+    void testDisabled() throws Exception {
+        assumeFalse(EngineMetrics.isEnabled());
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        GameEngine engine = new GameEngine(board);
+        engine.applyMove(6);
+        engine.movePlayer(1);
+
+        assertEquals(0, EngineMetrics.getMoves());
+        for (long landings : EngineMetrics.getHeatmap(board)) {
+            assertEquals(0, landings);
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(EngineMetrics.OBJECT_NAME)));
+    }
+
+    @Test
+    @DisplayName("Should count moves by outcome and the cells they land on")
+    void testCountsOutcomesAndCells() {
+        assumeTrue(EngineMetrics.isEnabled());
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        GameEngine engine = new GameEngine(board);
+        long[] before = new long[MoveOutcome.ALREADY_WON + 1];
+        for (int outcome = 0; outcome < before.length; outcome++) {
+            before[outcome] = EngineMetrics.getMoves(outcome);
+        }
+
+        engine.applyMove(6);   // 6, plain
+        engine.movePlayer(1);  // 7, ladder to 33
+        engine.applyMove(3);   // 36, snake to 19
+        engine.setCurrentPosition(97);
+        engine.applyMove(4);   // overshoot
+        engine.applyMove(3);   // 100, won
+        engine.applyMove(2);   // already won
+
+        for (int outcome = 0; outcome < before.length; outcome++) {
+            assertTrue(EngineMetrics.getMoves(outcome) > before[outcome], MoveOutcome.name(outcome));
+        }
+        long[] heatmap = EngineMetrics.getHeatmap(board);
+        assertEquals(board.getSize() + 1, heatmap.length);
+        for (int cell = 0; cell < heatmap.length; cell++) {
+            long expected = cell == 6 || cell == 7 || cell == 36 || cell == 100 ? 1 : 0;
+            assertEquals(expected, heatmap[cell], "cell " + cell);
+        }
+    }
+
+    @Test
+    @DisplayName("Should group the cells of large boards and sample latencies")
+    void testLargeBoardAndLatencies() {
+        assumeTrue(EngineMetrics.isEnabled());
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard(1 << 12, Collections.emptyMap(), Collections.emptyMap());
+        GameEngine engine = new GameEngine(board);
+        long sampledBefore = EngineMetrics.getLatencies().getCount();
+
+        SeededDiceSource dice = new SeededDiceSource(3);
+        int moves = 0;
+        for (int game = 0; game < 20; game++) {
+            engine.resetGame();
+            while (!engine.isGameWon()) {
+                engine.applyMove(dice);
+                moves++;
+            }
+        }
+
+        long[] heatmap = EngineMetrics.getHeatmap(board);
+        assertTrue(heatmap.length <= 1024 + 1);
+        long landings = 0;
+        for (long count : heatmap) {
+            landings += count;
+        }
+        // Every move lands on the board except overshoots near the end
+        assertTrue(landings > moves * 0.9 && landings <= moves);
+        assertTrue(EngineMetrics.getLatencies().getCount() > sampledBefore);
+    }
+
+    @Test
+    @DisplayName("Should expose the metrics through JMX and a text dump")
+    void testMBeanAndDump() throws Exception {
+        assumeTrue(EngineMetrics.isEnabled());
+        new GameEngine(new SnakesAndLaddersBoard()).applyMove(5);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(EngineMetrics.OBJECT_NAME);
+        assertTrue((Long) server.getAttribute(name, "Moves") > 0);
+        TabularData byOutcome = (TabularData) server.getAttribute(name, "MovesByOutcome");
+        assertEquals(MoveOutcome.ALREADY_WON + 1, byOutcome.size());
+        assertTrue((Integer) server.getAttribute(name, "TrackedBoards") > 0);
+
+        List<String> report = EngineMetrics.describe();
+        assertTrue(report.get(0).startsWith("Moves: "));
+        assertTrue(report.get(1).startsWith("Latency "));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        ScheduledFuture<?> dump = EngineMetrics.startDump(out, 10);
+        try {
+            for (int wait = 0; wait < 500 && !bytes.toString(StandardCharsets.UTF_8).contains("Moves: "); wait++) {
+                Thread.sleep(10);
+            }
+        } finally {
+            dump.cancel(false);
+        }
+        assertTrue(bytes.toString(StandardCharsets.UTF_8).contains("Engine metrics at "));
+        assertThrows(IllegalArgumentException.class, () -> EngineMetrics.startDump(out, 0));
+    }
+}
@@ -0,0 +1,149 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameMoveResult;
+import com.snakeladders.MinimumRollsSolver;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.Map;
+
+/**
+ * Unit tests for GameEngine class.
+ */
+@DisplayName("Game Engine Tests")
+class GameEngineTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(new SnakesAndLaddersBoard());
+    }
+
+    @Test
+    @DisplayName("Should move to a plain cell")
+    void testPlainMove() {
+        GameMoveResult result = engine.movePlayer(4);
+
+        assertEquals(new GameMoveResult(4, "Moved to position 4."), result);
+        assertEquals(4, engine.getCurrentPosition());
+    }
+
+    @Test
+    @DisplayName("Should climb ladders and slide down snakes")
+    void testLadderAndSnake() {
+        engine.setCurrentPosition(4);
+        assertEquals(new GameMoveResult(33, "Climbed ladder from 7 to 33!"), engine.movePlayer(3));
+
+        engine.setCurrentPosition(31);
+        assertEquals(new GameMoveResult(19, "Bitten by snake at 36, moved down to 19!"), engine.movePlayer(5));
+    }
+
+    @Test
+    @DisplayName("Should stay in place when the roll overshoots the board")
+    void testOvershoot() {
+        engine.setCurrentPosition(95);
+
+        assertEquals(new GameMoveResult(95, "Cannot move to 101. Staying at 95."), engine.movePlayer(6));
+        assertFalse(engine.isGameWon());
+    }
+
+    @Test
+    @DisplayName("Should win on an exact landing and then refuse further moves")
+    void testWinAndAlreadyWon() {
+        engine.setCurrentPosition(99);
+
+        assertEquals(new GameMoveResult(100, "Yay!! You won!!"), engine.movePlayer(1));
+        assertTrue(engine.isGameWon());
+        assertEquals(new GameMoveResult(100, "Game already won!"), engine.movePlayer(3));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid dice rolls")
+    void testInvalidDiceRoll() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> engine.movePlayer(7));
+        assertEquals("Invalid dice roll: 7. Must be between 1 and 6.", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> engine.applyMove(0));
+    }
+
+    @Test
+    @DisplayName("Packed moves should carry position, outcome and dice roll")
+    void testApplyMove() {
+        engine.setCurrentPosition(34);
+        long move = engine.applyMove(3);
+
+        assertEquals(85, MoveOutcome.newPosition(move));
+        assertEquals(MoveOutcome.LADDER, MoveOutcome.outcome(move));
+        assertEquals(3, MoveOutcome.diceRoll(move));
+        assertEquals("Climbed ladder from 37 to 85!", MoveOutcome.message(move, 34));
+        assertEquals(85, engine.getCurrentPosition());
+    }
+
+    @Test
+    @DisplayName("Packed moves and move results should agree for every position and roll")
+    void testMovePlayerMatchesApplyMove() {
+        SnakesAndLaddersBoard board = engine.getBoard();
+        GameEngine other = new GameEngine(board);
+
+        for (int position = 0; position <= SnakesAndLaddersBoard.BOARD_SIZE; position++) {
+            for (int dice = 1; dice <= 6; dice++) {
+                engine.resetGame();
+                other.resetGame();
+                engine.setCurrentPosition(position);
+                other.setCurrentPosition(position);
+
+                GameMoveResult result = engine.movePlayer(dice);
+                long move = other.applyMove(dice);
+
+                assertEquals(result.getNewPosition(), MoveOutcome.newPosition(move));
+                assertEquals(result.getMessage(), MoveOutcome.message(move, position));
+                assertEquals(engine.isGameWon(), other.isGameWon());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand back shared result instances for the same move")
+    void testSharedResults() {
+        engine.setCurrentPosition(10);
+        GameMoveResult first = engine.movePlayer(2);
+        engine.setCurrentPosition(10);
+        GameMoveResult second = engine.movePlayer(2);
+
+        assertSame(first, second);
+        assertEquals(new GameMoveResult(12, "Moved to position 12."), first);
+        assertEquals(new GameMoveResult(12, "Moved to position 12.").hashCode(), first.hashCode());
+    }
+
+    @Test
+    @DisplayName("Each board should build its own result table")
+    void testResultTablePerBoard() {
+        GameEngine other = new GameEngine(new SnakesAndLaddersBoard());
+
+        GameMoveResult first = engine.movePlayer(2);
+        GameMoveResult second = other.movePlayer(2);
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("A ladder ending on the last cell should win the game")
+    void testLadderToGoalWins() {
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard(10, Map.of(5, 10), Map.of());
+        GameEngine goalEngine = new GameEngine(board);
+        goalEngine.setCurrentPosition(3);
+
+        long move = goalEngine.applyMove(2);
+        assertEquals(10, MoveOutcome.newPosition(move));
+        assertEquals(MoveOutcome.WON, MoveOutcome.outcome(move));
+        assertTrue(goalEngine.isGameWon());
+        assertEquals(MoveOutcome.ALREADY_WON, MoveOutcome.outcome(goalEngine.applyMove(1)));
+        assertEquals(1, MinimumRollsSolver.forBoard(board).getMinimumRolls(3));
+    }
+}
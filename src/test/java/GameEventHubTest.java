@@ -0,0 +1,212 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameEventHub;
+import com.snakeladders.GameMoveEvent;
+import com.snakeladders.MoveEventRing;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.OverflowPolicy;
+import com.snakeladders.SnakesAndLaddersBoard;
+import com.snakeladders.WaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for GameEventHub class.
+ */
+@DisplayName("Game Event Hub Tests")
+class GameEventHubTest {
+
+    /** Records what it receives and requests only when told to. */
+    private static final class RecordingSubscriber implements Flow.Subscriber<GameMoveEvent> {
+
+        final List<String> received = new ArrayList<>();
+        Flow.Subscription subscription;
+        boolean completed;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(GameMoveEvent event) {
+            received.add(event.getGame() + ":" + event.getFromPosition() + "->" + event.getNewPosition());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static void publish(GameEventHub hub, long game, int from, int to) {
+        hub.publish(game, from, MoveOutcome.pack(to, MoveOutcome.MOVED, to - from));
+    }
+
+    @Test
+    @DisplayName("Subscribers should only receive what they requested, for their own game")
+    void testDemandAndRouting() {
+        GameEventHub hub = new GameEventHub(Runnable::run, 16, OverflowPolicy.DROP_NEWEST);
+        RecordingSubscriber gameOne = new RecordingSubscriber();
+        RecordingSubscriber board = new RecordingSubscriber();
+        hub.forGame(1).subscribe(gameOne);
+        hub.forBoard().subscribe(board);
+        assertEquals(2, hub.getSubscriberCount());
+
+        publish(hub, 1, 0, 3);
+        publish(hub, 2, 0, 5);
+        publish(hub, 1, 3, 7);
+        assertTrue(gameOne.received.isEmpty());
+        assertEquals(5, hub.getBufferedEvents());
+
+        gameOne.subscription.request(1);
+        board.subscription.request(Long.MAX_VALUE);
+        assertEquals(List.of("1:0->3"), gameOne.received);
+        assertEquals(List.of("1:0->3", "2:0->5", "1:3->7"), board.received);
+
+        gameOne.subscription.request(5);
+        publish(hub, 1, 7, 9);
+        assertEquals(List.of("1:0->3", "1:3->7", "1:7->9"), gameOne.received);
+        assertEquals(4, board.received.size());
+        assertEquals(0, hub.getBufferedEvents());
+        assertEquals(0, hub.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("A slow subscriber's buffer should stay bounded under each overflow policy")
+    void testOverflowPolicies() {
+        List<List<String>> seen = new ArrayList<>();
+        for (OverflowPolicy policy : OverflowPolicy.values()) {
+            GameEventHub hub = new GameEventHub(Runnable::run, 3, policy);
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            hub.forBoard().subscribe(subscriber);
+            publish(hub, 1, 0, 1);
+            publish(hub, 2, 0, 1);
+            publish(hub, 1, 1, 2);
+            publish(hub, 1, 2, 3);
+            publish(hub, 3, 0, 1);
+            assertEquals(3, hub.getBufferedEvents(), policy.name());
+            assertEquals(2, hub.getDroppedEvents(), policy.name());
+            subscriber.subscription.request(10);
+            seen.add(subscriber.received);
+        }
+
+        assertEquals(List.of("1:1->2", "1:2->3", "3:0->1"), seen.get(OverflowPolicy.DROP_OLDEST.ordinal()));
+        assertEquals(List.of("1:0->1", "2:0->1", "1:1->2"), seen.get(OverflowPolicy.DROP_NEWEST.ordinal()));
+        assertEquals(List.of("2:0->1", "1:2->3", "3:0->1"), seen.get(OverflowPolicy.COALESCE.ordinal()));
+    }
+
+    @Test
+    @DisplayName("Cancel, invalid demand and close should end subscriptions per the Flow rules")
+    void testCancelErrorAndComplete() {
+        GameEventHub hub = new GameEventHub(Runnable::run, 8, OverflowPolicy.COALESCE);
+        RecordingSubscriber cancelled = new RecordingSubscriber();
+        RecordingSubscriber invalid = new RecordingSubscriber();
+        RecordingSubscriber lagging = new RecordingSubscriber();
+        hub.forGame(4).subscribe(cancelled);
+        hub.forGame(4).subscribe(invalid);
+        hub.forGame(4).subscribe(lagging);
+
+        publish(hub, 4, 0, 2);
+        cancelled.subscription.cancel();
+        invalid.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, invalid.error);
+        assertEquals(1, hub.getSubscriberCount());
+        assertEquals(1, hub.getBufferedEvents());
+
+        hub.close();
+        assertFalse(lagging.completed);
+        lagging.subscription.request(1);
+        assertEquals(List.of("4:0->2"), lagging.received);
+        assertTrue(lagging.completed);
+        assertTrue(cancelled.received.isEmpty());
+        assertFalse(cancelled.completed);
+
+        RecordingSubscriber late = new RecordingSubscriber();
+        hub.forBoard().subscribe(late);
+        assertTrue(late.completed);
+        assertEquals(0, hub.getSubscriberCount());
+        assertThrows(IllegalArgumentException.class, () -> new GameEventHub(Runnable::run, 0, OverflowPolicy.DROP_OLDEST));
+    }
+
+    @Test
+    @DisplayName("Games should be resubscribable after their last subscriber cancelled")
+    void testResubscribeAfterCancel() {
+        GameEventHub hub = new GameEventHub(Runnable::run, 8, OverflowPolicy.DROP_OLDEST);
+        RecordingSubscriber first = new RecordingSubscriber();
+        hub.forGame(9).subscribe(first);
+        first.subscription.cancel();
+        assertEquals(0, hub.getSubscriberCount());
+
+        hub.forGame(9).subscribe(new Flow.Subscriber<GameMoveEvent>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.cancel();
+            }
+
+            @Override
+            public void onNext(GameMoveEvent event) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertEquals(0, hub.getSubscriberCount());
+
+        RecordingSubscriber second = new RecordingSubscriber();
+        hub.forGame(9).subscribe(second);
+        second.subscription.request(1);
+        publish(hub, 9, 3, 5);
+        assertEquals(List.of("9:3->5"), second.received);
+        assertTrue(first.received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A hub consuming a move event ring should stream the moves of game engines")
+    void testMoveEventRingSource() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        GameEventHub hub = new GameEventHub(executor, GameEventHub.DEFAULT_BUFFER_CAPACITY, OverflowPolicy.DROP_NEWEST);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        hub.forGame(2).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        MoveEventRing ring = new MoveEventRing(64, WaitStrategy.PARK);
+        ring.addConsumer(hub);
+        ring.start();
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        GameEngine first = new GameEngine(board);
+        GameEngine second = new GameEngine(board);
+        first.setMoveEvents(ring, 1);
+        second.setMoveEvents(ring, 2);
+        first.applyMove(3);
+        second.applyMove(1);
+        second.applyMove(5);
+        ring.close();
+        hub.close();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("2:0->1", "2:1->6"), subscriber.received);
+        assertTrue(subscriber.completed);
+    }
+}
@@ -0,0 +1,120 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.AuditResult;
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameLogAuditor;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Unit tests for GameLogAuditor class.
+ */
+@DisplayName("Game Log Auditor Tests")
+class GameLogAuditorTest {
+
+    @TempDir
+    Path directory;
+
+    private final SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+
+    private List<String> audit(GameLogAuditor auditor, Path log, AuditResult[] result) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            result[0] = auditor.audit(log, executor, new PrintStream(out, true, StandardCharsets.UTF_8));
+        } finally {
+            executor.shutdown();
+        }
+        String text = out.toString(StandardCharsets.UTF_8);
+        return text.isEmpty() ? List.of() : List.of(text.split(System.lineSeparator()));
+    }
+
+    @Test
+    @DisplayName("Every kind of bad record should be reported with its line number")
+    void testMismatches() throws IOException {
+        Path log = directory.resolve("moves.log");
+        Files.writeString(log, "4 5 " + board.getFinalPosition(9) + "\n"
+                + "34 3 37\n"
+                + "\n"
+                + "1 1 38\r\n"
+                + "99 1 100\n"
+                + "98 6 98\n"
+                + "12, 7, 19\n"
+                + "-3 2 -1\n"
+                + "5 x 6\n"
+                + "5 1\n"
+                + "16\t1\t" + board.getFinalPosition(17));
+        AuditResult[] result = new AuditResult[1];
+        List<String> mismatches = audit(new GameLogAuditor(board), log, result);
+
+        assertEquals(List.of(
+                "Line 2: position 34, dice 3, claimed 37, expected " + board.getFinalPosition(37),
+                "Line 4: position 1, dice 1, claimed 38, expected " + board.getFinalPosition(2),
+                "Line 7: position 12, dice 7, claimed 19, invalid dice roll",
+                "Line 8: position -3, dice 2, claimed -1, invalid position",
+                "Line 9: malformed record",
+                "Line 10: malformed record"), mismatches);
+        assertEquals(10, result[0].getRecords());
+        assertEquals(6, result[0].getMismatches());
+        assertEquals(Files.size(log), result[0].getBytes());
+    }
+
+    @Test
+    @DisplayName("Splitting a log into chunks should not change what is reported")
+    void testChunking() throws IOException {
+        Path log = directory.resolve("games.log");
+        StringBuilder text = new StringBuilder();
+        SplittableRandom random = new SplittableRandom(7);
+        int records = 20_000;
+        for (int i = 0; i < records; i++) {
+            int position = random.nextInt(board.getSize());
+            int diceRoll = random.nextInt(1, 7);
+            int claimed = MoveOutcome.newPosition(GameEngine.step(board, position, diceRoll));
+            if (i % 997 == 0) {
+                claimed++;
+            }
+            text.append(position).append(' ').append(diceRoll).append(' ').append(claimed).append('\n');
+        }
+        Files.writeString(log, text);
+
+        AuditResult[] whole = new AuditResult[1];
+        AuditResult[] split = new AuditResult[1];
+        List<String> expected = audit(new GameLogAuditor(board), log, whole);
+        List<String> actual = audit(new GameLogAuditor(board, 101), log, split);
+
+        assertEquals(1, whole[0].getChunks());
+        assertTrue(split[0].getChunks() > 1_000);
+        assertEquals(records / 997 + 1, expected.size());
+        assertEquals(expected, actual);
+        assertEquals(records, split[0].getRecords());
+        assertTrue(expected.get(1).startsWith("Line 998: "));
+    }
+
+    @Test
+    @DisplayName("Empty logs should audit cleanly and a bad chunk size should be rejected")
+    void testEmptyLogAndValidation() throws IOException {
+        Path log = Files.createFile(directory.resolve("empty.log"));
+        AuditResult[] result = new AuditResult[1];
+        assertTrue(audit(new GameLogAuditor(board), log, result).isEmpty());
+        assertEquals(0, result[0].getRecords());
+        assertEquals(0, result[0].getChunks());
+        assertThrows(IllegalArgumentException.class, () -> new GameLogAuditor(board, 0));
+        assertThrows(IOException.class, () -> audit(new GameLogAuditor(board), directory.resolve("missing.log"),
+                result));
+    }
+}
@@ -0,0 +1,134 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameServer;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for GameServer class.
+ */
+@DisplayName("Game Server Tests")
+class GameServerTest {
+
+    private GameServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(new SnakesAndLaddersBoard(), 0);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Minimal blocking client speaking the line protocol.
+     */
+    private final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        Client() throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+        }
+
+        String send(String request) throws IOException {
+            out.print(request + "\n");
+            out.flush();
+            return in.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    @Test
+    @DisplayName("A single player should be able to play through the protocol")
+    void testSinglePlayerGame() throws IOException {
+        try (Client client = new Client()) {
+            String created = client.send("CREATE 1");
+            assertTrue(created.startsWith("OK "));
+            String game = created.split(" ")[1];
+
+            assertEquals("OK 4 4 moved", client.send("ROLL 4"));
+            assertEquals("OK 3 33 ladder", client.send("ROLL 3"));
+            assertEquals("STATE " + game + " 0 -1 33", client.send("STATE"));
+            assertEquals("ERR Invalid dice roll: 9. Must be between 1 and 6.", client.send("ROLL 9"));
+            assertEquals("BYE", client.send("QUIT"));
+        }
+    }
+
+    @Test
+    @DisplayName("Players should join games and take turns")
+    void testTwoPlayerGame() throws IOException {
+        try (Client first = new Client(); Client second = new Client(); Client third = new Client()) {
+            String game = first.send("CREATE 2").split(" ")[1];
+
+            assertEquals("ERR waiting for players", first.send("ROLL 2"));
+            assertEquals("OK " + game + " 1", second.send("JOIN " + game));
+            assertEquals("ERR game full", third.send("JOIN " + game));
+
+            assertEquals("ERR not your turn", second.send("ROLL 2"));
+            assertEquals("OK 2 2 moved", first.send("ROLL 2"));
+            assertEquals("OK 5 5 moved", second.send("ROLL 5"));
+            assertEquals("STATE " + game + " 0 -1 2 5", second.send("STATE " + game));
+        }
+    }
+
+    @Test
+    @DisplayName("Turns should skip players who left the game")
+    void testLeavingPlayerLosesTurn() throws IOException {
+        try (Client first = new Client(); Client second = new Client(); Client third = new Client()) {
+            String game = first.send("CREATE 3").split(" ")[1];
+            second.send("JOIN " + game);
+            third.send("JOIN " + game);
+
+            assertEquals("OK 2 2 moved", first.send("ROLL 2"));
+            assertEquals("BYE", second.send("QUIT"));
+            assertEquals("OK 5 5 moved", third.send("ROLL 5"));
+            assertEquals("OK 1 3 moved", first.send("ROLL 1"));
+            assertEquals("ERR not your turn", first.send("ROLL 1"));
+            assertEquals("STATE " + game + " 2 -1 3 0 5", third.send("STATE"));
+        }
+    }
+
+    @Test
+    @DisplayName("Overlong request lines should close the connection")
+    void testLineTooLong() throws IOException {
+        try (Client client = new Client()) {
+            assertEquals("ERR line too long", client.send("STATE " + "0".repeat(GameServer.MAX_LINE_LENGTH)));
+            assertNull(client.in.readLine());
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed requests should be answered with errors")
+    void testErrors() throws IOException {
+        try (Client client = new Client()) {
+            assertEquals("ERR not in a game", client.send("ROLL"));
+            assertEquals("ERR unknown command", client.send("JUMP"));
+            assertEquals("ERR invalid number", client.send("CREATE two"));
+            assertEquals("ERR unknown game", client.send("JOIN 12345"));
+            assertTrue(client.send("CREATE 17").startsWith("ERR Number of players"));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameSessionStore;
+
+import java.util.SplittableRandom;
+
+/**
+ * Shared helpers for tests that compare two GameSessionStore instances.
+ */
+final class GameSessionStoreAssertions {
+
+    private GameSessionStoreAssertions() {
+    }
+
+    /**
+     * Fill the store up to the given number of sessions and play random moves in them.
+     * Won games are removed, and half of the time replaced by a new session.
+     */
+    static void playRandomGames(GameSessionStore store, SplittableRandom random, int sessions, int moves) {
+        while (store.size() < sessions) {
+            store.createSession(1 + random.nextInt(4));
+        }
+        for (int i = 0; i < moves; i++) {
+            int session = random.nextInt(sessions);
+            if (!store.isActive(session)) {
+                continue;
+            }
+            if (store.isGameWon(session)) {
+                store.removeSession(session);
+                if (random.nextBoolean()) {
+                    store.createSession(1 + random.nextInt(4));
+                }
+            } else {
+                store.applyMove(session, 1 + random.nextInt(6));
+            }
+        }
+    }
+
+    /**
+     * Assert that both stores hold the same sessions in the same slots.
+     */
+    static void assertSameState(GameSessionStore expected, GameSessionStore actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int session = 0; session < expected.capacity(); session++) {
+            assertEquals(expected.isActive(session), actual.isActive(session));
+            if (!expected.isActive(session)) {
+                continue;
+            }
+            assertEquals(expected.getPlayerCount(session), actual.getPlayerCount(session));
+            assertEquals(expected.getCurrentPlayer(session), actual.getCurrentPlayer(session));
+            assertEquals(expected.getWinner(session), actual.getWinner(session));
+            for (int player = 0; player < expected.getPlayerCount(session); player++) {
+                assertEquals(expected.getPosition(session, player), actual.getPosition(session, player));
+            }
+        }
+    }
+}
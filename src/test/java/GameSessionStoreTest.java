@@ -0,0 +1,131 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameSessionStore;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for GameSessionStore class.
+ */
+@DisplayName("Game Session Store Tests")
+class GameSessionStoreTest {
+
+    private SnakesAndLaddersBoard board;
+    private GameSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        board = new SnakesAndLaddersBoard();
+        store = new GameSessionStore(board, 4);
+    }
+
+    @Test
+    @DisplayName("New sessions should start with every player at the start position")
+    void testCreateSession() {
+        int sessionId = store.createSession(3);
+
+        assertTrue(store.isActive(sessionId));
+        assertEquals(3, store.getPlayerCount(sessionId));
+        assertEquals(0, store.getCurrentPlayer(sessionId));
+        for (int player = 0; player < 3; player++) {
+            assertEquals(SnakesAndLaddersBoard.START_POSITION, store.getPosition(sessionId, player));
+        }
+        assertFalse(store.isGameWon(sessionId));
+        assertEquals(-1, store.getWinner(sessionId));
+    }
+
+    @Test
+    @DisplayName("Removed slots should be reused by new sessions")
+    void testRemoveAndReuse() {
+        int first = store.createSession(2);
+        int second = store.createSession(2);
+        store.applyMove(first, 4);
+        store.removeSession(first);
+
+        assertFalse(store.isActive(first));
+        assertEquals(1, store.size());
+        assertThrows(IllegalArgumentException.class, () -> store.applyMove(first, 1));
+
+        int reused = store.createSession(2);
+        assertEquals(first, reused);
+        assertEquals(SnakesAndLaddersBoard.START_POSITION, store.getPosition(reused, 0));
+        assertTrue(store.isActive(second));
+    }
+
+    @Test
+    @DisplayName("Players should take turns in order")
+    void testTurnOrder() {
+        int sessionId = store.createSession(2);
+
+        assertEquals(1, MoveOutcome.newPosition(store.applyMove(sessionId, 1)));
+        assertEquals(1, store.getCurrentPlayer(sessionId));
+        assertEquals(2, MoveOutcome.newPosition(store.applyMove(sessionId, 2)));
+        assertEquals(0, store.getCurrentPlayer(sessionId));
+        assertEquals(1, store.getPosition(sessionId, 0));
+        assertEquals(2, store.getPosition(sessionId, 1));
+    }
+
+    @Test
+    @DisplayName("The first player to land on the last cell should win")
+    void testWin() {
+        int sessionId = store.createSession(1);
+        int[] rolls = {6, 1, 6, 6, 6, 6, 6, 6, 5, 6, 5};
+        long move = 0;
+        for (int roll : rolls) {
+            move = store.applyMove(sessionId, roll);
+        }
+
+        assertEquals(MoveOutcome.WON, MoveOutcome.outcome(move));
+        assertTrue(store.isGameWon(sessionId));
+        assertEquals(0, store.getWinner(sessionId));
+        assertEquals(MoveOutcome.ALREADY_WON, MoveOutcome.outcome(store.applyMove(sessionId, 2)));
+    }
+
+    @Test
+    @DisplayName("Moves should follow the same rules as GameEngine")
+    void testMatchesGameEngine() {
+        int players = 4;
+        int sessionId = store.createSession(players);
+        GameEngine[] engines = new GameEngine[players];
+        for (int player = 0; player < players; player++) {
+            engines[player] = new GameEngine(board);
+        }
+
+        SplittableRandom random = new SplittableRandom(17);
+        for (int turn = 0; !store.isGameWon(sessionId); turn = (turn + 1) % players) {
+            int roll = random.nextInt(6) + 1;
+            assertEquals(engines[turn].applyMove(roll), store.applyMove(sessionId, roll));
+            assertEquals(engines[turn].getCurrentPosition(), store.getPosition(sessionId, turn));
+        }
+        assertTrue(engines[store.getWinner(sessionId)].isGameWon());
+    }
+
+    @Test
+    @DisplayName("The store should grow to hold many sessions")
+    void testGrowth() {
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, store.createSession(4));
+        }
+
+        assertEquals(100_000, store.size());
+        assertTrue(store.capacity() >= 100_000);
+        assertEquals(4 + 4, store.getBytesPerSession());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid players and dice rolls")
+    void testInvalidArguments() {
+        int sessionId = store.createSession(2);
+
+        assertThrows(IllegalArgumentException.class, () -> store.createSession(5));
+        assertThrows(IllegalArgumentException.class, () -> store.applyMove(sessionId, 7));
+        assertThrows(IllegalArgumentException.class, () -> store.getPosition(sessionId, 2));
+    }
+}
@@ -0,0 +1,92 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameSimulator;
+import com.snakeladders.SimulationResult;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for GameSimulator class.
+ */
+@DisplayName("Game Simulator Tests")
+class GameSimulatorTest {
+
+    private static final long GAMES = 200_000;
+
+    private SnakesAndLaddersBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new SnakesAndLaddersBoard();
+    }
+
+    @Test
+    @DisplayName("Results should not depend on the number of threads")
+    void testReproducibleAcrossThreadCounts() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            SimulationResult first = new GameSimulator(board, single, GameSimulator.DEFAULT_MAX_TURNS)
+                    .simulate(GAMES, 7L);
+            SimulationResult second = new GameSimulator(board, several, GameSimulator.DEFAULT_MAX_TURNS)
+                    .simulate(GAMES, 7L);
+
+            assertArrayEquals(first.getTurnHistogram(), second.getTurnHistogram());
+            assertEquals(first.getLadderHits(), second.getLadderHits());
+            assertEquals(first.getSnakeHits(), second.getSnakeHits());
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Every game should be accounted for in the histogram")
+    void testHistogramTotals() {
+        SimulationResult result = new GameSimulator(board).simulate(GAMES, 11L);
+
+        assertEquals(GAMES, result.getGames());
+        assertEquals(0, result.getUnfinishedGames());
+        assertEquals(GAMES, Arrays.stream(result.getTurnHistogram()).sum());
+        assertEquals(board.getLadders().keySet(), result.getLadderHits().keySet());
+        assertEquals(board.getSnakes().keySet(), result.getSnakeHits().keySet());
+    }
+
+    @Test
+    @DisplayName("Percentiles should be ordered and bounded by the histogram")
+    void testPercentiles() {
+        SimulationResult result = new GameSimulator(board).simulate(GAMES, 3L);
+
+        int median = result.getPercentile(50);
+        assertTrue(median <= result.getPercentile(90));
+        assertTrue(result.getPercentile(90) <= result.getPercentile(100));
+        assertEquals(result.getTurnHistogram().length - 1, result.getPercentile(100));
+        assertTrue(result.getMeanTurns() > 0);
+    }
+
+    @Test
+    @DisplayName("Games exceeding the turn limit should be reported as unfinished")
+    void testTurnLimit() {
+        SimulationResult result = new GameSimulator(board, ForkJoinPool.commonPool(), 1).simulate(1_000, 5L);
+
+        assertEquals(1_000, result.getUnfinishedGames());
+        assertEquals(-1, result.getPercentile(50));
+    }
+
+    @Test
+    @DisplayName("A ladder to the last cell should count as a ladder hit")
+    void testLadderToGoalCounted() {
+        SnakesAndLaddersBoard ladderToGoal = new SnakesAndLaddersBoard(10, Map.of(5, 10), Map.of());
+        SimulationResult result = new GameSimulator(ladderToGoal).simulate(10_000, 1L);
+
+        assertTrue(result.getLadderHits().get(5) > 0);
+        assertTrue(result.getLadderHits().get(5) <= result.getGames());
+    }
+}
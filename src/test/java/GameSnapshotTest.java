@@ -0,0 +1,83 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameSessionStore;
+import com.snakeladders.GameSnapshot;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Unit tests for GameSnapshot class.
+ */
+@DisplayName("Game Snapshot Tests")
+class GameSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private final SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+
+    @Test
+    @DisplayName("Restoring a snapshot should bring back every session")
+    void testRoundTrip() throws IOException {
+        GameSessionStore store = new GameSessionStore(board, 4);
+        GameSessionStoreAssertions.playRandomGames(store, new SplittableRandom(7), 10_000, 100_000);
+        Path file = directory.resolve("games.snap");
+
+        GameSnapshot.write(store, file);
+        GameSessionStore restored = GameSnapshot.restore(file, board);
+
+        GameSessionStoreAssertions.assertSameState(store, restored);
+        assertTrue(Files.size(file) < 10_000L * 6, "snapshot should be bit-packed");
+
+        // The restored store reuses the free slots of the original
+        int created = restored.createSession(2);
+        assertFalse(store.isActive(created));
+    }
+
+    @Test
+    @DisplayName("Games should keep running while a snapshot is written")
+    void testSnapshotIsPointInTime() throws Exception {
+        GameSessionStore store = new GameSessionStore(board, 4);
+        GameSessionStore frozen = new GameSessionStore(board, 4);
+        GameSessionStoreAssertions.playRandomGames(store, new SplittableRandom(11), 20_000, 200_000);
+        GameSessionStoreAssertions.playRandomGames(frozen, new SplittableRandom(11), 20_000, 200_000);
+        Path file = directory.resolve("games.snap");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Void> snapshot = GameSnapshot.writeAsync(store, file, executor);
+            GameSessionStoreAssertions.playRandomGames(store, new SplittableRandom(13), 20_000, 200_000);
+            snapshot.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        GameSessionStoreAssertions.assertSameState(frozen, GameSnapshot.restore(file, board));
+    }
+
+    @Test
+    @DisplayName("A file that is not a snapshot should be rejected")
+    void testInvalidFileRejected() throws IOException {
+        GameSessionStore store = new GameSessionStore(board, 2);
+        store.createSession(2);
+        Path file = directory.resolve("games.snap");
+        GameSnapshot.write(store, file);
+
+        Path other = directory.resolve("other.snap");
+        Files.write(other, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.restore(other, board));
+        assertEquals(1, GameSnapshot.restore(file, board).size());
+    }
+}
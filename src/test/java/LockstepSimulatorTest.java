@@ -0,0 +1,91 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.FastDiceSource;
+import com.snakeladders.GameEngine;
+import com.snakeladders.LockstepSimulator;
+import com.snakeladders.MarkovAnalyzer;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for LockstepSimulator class.
+ */
+@DisplayName("Lockstep Simulator Tests")
+class LockstepSimulatorTest {
+
+    @Test
+    @DisplayName("Vector and scalar lanes should match GameEngine move for move")
+    void testMatchesGameEngine() {
+        SplittableRandom random = new SplittableRandom(17);
+        SnakesAndLaddersBoard[] boards = {new SnakesAndLaddersBoard(),
+                TestBoards.randomBoard(random, 40, 5), TestBoards.randomBoard(random, 500, 62)};
+        for (SnakesAndLaddersBoard board : boards) {
+            LockstepSimulator vector = new LockstepSimulator(board);
+            LockstepSimulator scalar = new LockstepSimulator(board, false);
+            assertTrue(vector.isVectorized());
+            assertFalse(scalar.isVectorized());
+
+            // An odd lane count exercises the scalar tail of the vector loop
+            int lanes = 1_003;
+            GameEngine[] engines = new GameEngine[lanes];
+            for (int lane = 0; lane < lanes; lane++) {
+                engines[lane] = new GameEngine(board);
+            }
+            int[] vectorPositions = new int[lanes];
+            int[] vectorTurns = new int[lanes];
+            int[] scalarPositions = new int[lanes];
+            int[] scalarTurns = new int[lanes];
+            byte[] rolls = new byte[lanes];
+            int[] expectedTurns = new int[lanes];
+
+            for (int round = 0; round < 400; round++) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    rolls[lane] = (byte) (random.nextInt(6) + 1);
+                }
+                int vectorActive = vector.advance(vectorPositions, vectorTurns, rolls, lanes);
+                int scalarActive = scalar.advance(scalarPositions, scalarTurns, rolls, lanes);
+
+                int active = 0;
+                for (int lane = 0; lane < lanes; lane++) {
+                    if (!engines[lane].isGameWon()) {
+                        expectedTurns[lane]++;
+                    }
+                    engines[lane].movePlayer(rolls[lane]);
+                    active += engines[lane].isGameWon() ? 0 : 1;
+                    assertEquals(engines[lane].getCurrentPosition(), vectorPositions[lane], "lane " + lane);
+                    assertEquals(engines[lane].getCurrentPosition(), scalarPositions[lane], "lane " + lane);
+                    assertEquals(expectedTurns[lane], vectorTurns[lane]);
+                    assertEquals(expectedTurns[lane], scalarTurns[lane]);
+                }
+                assertEquals(active, vectorActive);
+                assertEquals(active, scalarActive);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Complete games should agree between kernels and with the expected length")
+    void testPlayGames() {
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        int[] vectorTurns = new LockstepSimulator(board).playGames(200_000, new FastDiceSource(3), 10_000);
+        int[] scalarTurns = new LockstepSimulator(board, false).playGames(200_000, new FastDiceSource(3), 10_000);
+
+        assertArrayEquals(scalarTurns, vectorTurns);
+        double total = 0;
+        for (int turns : vectorTurns) {
+            assertTrue(turns > 0);
+            total += turns;
+        }
+        assertEquals(new MarkovAnalyzer(board).getExpectedTurns(), total / vectorTurns.length, 0.5);
+
+        // Games still running at the limit are reported as abandoned
+        int[] capped = new LockstepSimulator(board).playGames(1_000, new FastDiceSource(3), 5);
+        for (int turns : capped) {
+            assertEquals(-1, turns);
+        }
+    }
+}
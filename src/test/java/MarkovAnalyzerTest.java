@@ -0,0 +1,109 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameSimulator;
+import com.snakeladders.MarkovAnalyzer;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SimulationResult;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for MarkovAnalyzer class.
+ */
+@DisplayName("Markov Analyzer Tests")
+class MarkovAnalyzerTest {
+
+    private SnakesAndLaddersBoard board;
+    private MarkovAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        board = new SnakesAndLaddersBoard();
+        analyzer = new MarkovAnalyzer(board);
+    }
+
+    @Test
+    @DisplayName("Expected turns should satisfy the one-step equations")
+    void testExpectedTurnsNearGoal() {
+        assertEquals(0.0, analyzer.getExpectedTurns(100), 1e-12);
+        // From 99 only a roll of 1 wins
+        assertEquals(6.0, analyzer.getExpectedTurns(99), 1e-9);
+        // From 97: a 3 wins, a 1 is bitten at 98, a 2 moves to 99, everything else stays
+        double expected = (6 + analyzer.getExpectedTurns(12) + analyzer.getExpectedTurns(99)) / 3;
+        assertEquals(expected, analyzer.getExpectedTurns(97), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Expected turns should agree with a simulation")
+    void testExpectedTurnsMatchesSimulation() {
+        SimulationResult result = new GameSimulator(board).simulate(2_000_000, 1L);
+
+        assertEquals(result.getMeanTurns(), analyzer.getExpectedTurns(), 0.1);
+    }
+
+    @Test
+    @DisplayName("Finish probabilities should be a non-decreasing distribution")
+    void testFinishProbabilities() {
+        double[] finished = analyzer.getFinishProbabilities(2_000);
+
+        assertEquals(0.0, finished[0]);
+        for (int turn = 1; turn < finished.length; turn++) {
+            assertTrue(finished[turn] >= finished[turn - 1]);
+        }
+        assertEquals(1.0, finished[2_000], 1e-9);
+        assertEquals(finished[50], analyzer.getFinishProbability(50), 1e-15);
+    }
+
+    @Test
+    @DisplayName("Reach probabilities should be consistent with the board")
+    void testReachProbabilities() {
+        double[] reach = analyzer.getReachProbabilities();
+
+        assertEquals(1.0, reach[0]);
+        assertEquals(1.0, reach[100], 1e-9);
+        // Cell 1 can only be reached by rolling a 1 on the first turn
+        assertEquals(1.0 / 6, reach[1], 1e-9);
+        for (double probability : reach) {
+            assertTrue(probability >= 0.0 && probability <= 1.0 + 1e-9);
+        }
+        assertEquals(reach[36], analyzer.getReachProbability(36), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Reaching a snake head should not count its tail as a re-roll")
+    void testReachSnakeBackOntoRoller() {
+        SnakesAndLaddersBoard shortSnake = new SnakesAndLaddersBoard(20, Map.of(), Map.of(14, 10));
+        MarkovAnalyzer shortSnakeAnalyzer = new MarkovAnalyzer(shortSnake);
+
+        Random random = new Random(42L);
+        int games = 200_000;
+        int reached = 0;
+        for (int game = 0; game < games; game++) {
+            int position = SnakesAndLaddersBoard.START_POSITION;
+            while (position != 20) {
+                int diceRoll = random.nextInt(6) + 1;
+                if (position + diceRoll == 14) {
+                    reached++;
+                    break;
+                }
+                position = MoveOutcome.newPosition(GameEngine.step(shortSnake, position, diceRoll));
+            }
+        }
+
+        assertEquals((double) reached / games, shortSnakeAnalyzer.getReachProbability(14), 0.005);
+    }
+
+    @Test
+    @DisplayName("Should reject positions outside the board")
+    void testInvalidPosition() {
+        assertThrows(IllegalArgumentException.class, () -> analyzer.getExpectedTurns(101));
+        assertThrows(IllegalArgumentException.class, () -> analyzer.getReachProbability(-1));
+    }
+}
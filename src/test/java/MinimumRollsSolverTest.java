@@ -0,0 +1,105 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.MinimumRollsSolver;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for MinimumRollsSolver class.
+ */
+@DisplayName("Minimum Rolls Solver Tests")
+class MinimumRollsSolverTest {
+
+    @Test
+    @DisplayName("Standard board should need at least six rolls from the start")
+    void testStandardBoard() {
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        MinimumRollsSolver solver = MinimumRollsSolver.forBoard(board);
+
+        assertEquals(6, solver.getMinimumRolls(0));
+        assertEquals(0, solver.getMinimumRolls(100));
+        assertEquals(0, solver.getBestRoll(100));
+        assertEquals(1, solver.getMinimumRolls(95));
+        assertEquals(5, solver.getBestRoll(95));
+        assertEquals(4, solver.getBestRoll(33));
+        assertSame(solver, MinimumRollsSolver.forBoard(board));
+        assertThrows(IllegalArgumentException.class, () -> solver.getMinimumRolls(101));
+    }
+
+    @Test
+    @DisplayName("Solver should match a plain breadth-first search on random boards")
+    void testMatchesBreadthFirstSearch() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int round = 0; round < 20; round++) {
+            int size = 50 + random.nextInt(round < 15 ? 500 : 200_000);
+            SnakesAndLaddersBoard board = TestBoards.randomBoard(random, size, 1 + random.nextInt(Math.min(60, size / 4)));
+            MinimumRollsSolver solver = MinimumRollsSolver.forBoard(board);
+            int[] expected = breadthFirstSearch(board);
+
+            for (int position = 0; position <= size; position++) {
+                assertEquals(expected[position], solver.getMinimumRolls(position), "cell " + position);
+                int bestRoll = solver.getBestRoll(position);
+                if (expected[position] > 0) {
+                    int reached = MoveOutcome.newPosition(GameEngine.step(board, position, bestRoll));
+                    assertEquals(expected[position] - 1, expected[reached]);
+                } else {
+                    assertEquals(0, bestRoll);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cells cut off by snakes should be reported as unreachable")
+    void testUnreachableCells() {
+        Map<Integer, Integer> snakes = new HashMap<>();
+        for (int cell = 11; cell <= 16; cell++) {
+            snakes.put(cell, 1);
+        }
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard(30, Map.of(), snakes);
+        MinimumRollsSolver solver = MinimumRollsSolver.forBoard(board);
+
+        assertEquals(-1, solver.getMinimumRolls(0));
+        assertEquals(0, solver.getBestRoll(0));
+        assertEquals(3, solver.getMinimumRolls(17));
+    }
+
+    private static int[] breadthFirstSearch(SnakesAndLaddersBoard board) {
+        int size = board.getSize();
+        Map<Integer, List<Integer>> predecessors = new HashMap<>();
+        for (int position = 0; position < size; position++) {
+            for (int diceRoll = 1; diceRoll <= 6; diceRoll++) {
+                int reached = MoveOutcome.newPosition(GameEngine.step(board, position, diceRoll));
+                predecessors.computeIfAbsent(reached, key -> new ArrayList<>()).add(position);
+            }
+        }
+
+        int[] rolls = new int[size + 1];
+        Arrays.fill(rolls, -1);
+        rolls[size] = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(size);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            for (int predecessor : predecessors.getOrDefault(cell, List.of())) {
+                if (rolls[predecessor] < 0) {
+                    rolls[predecessor] = rolls[cell] + 1;
+                    queue.add(predecessor);
+                }
+            }
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,122 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.MoveClient;
+import com.snakeladders.MoveDaemon;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for MoveDaemon class.
+ */
+@DisplayName("Move Daemon Tests")
+class MoveDaemonTest {
+
+    @TempDir
+    Path directory;
+
+    private Path socket;
+    private MoveDaemon daemon;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        socket = directory.resolve("moves.sock");
+        daemon = new MoveDaemon(new SnakesAndLaddersBoard(), socket);
+        daemon.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        daemon.close();
+    }
+
+    private String forward(int position, int diceRoll) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(MoveClient.forward(socket, position, diceRoll, out));
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    @DisplayName("Every move should print exactly what the command line prints")
+    void testMatchesCommandLine() throws IOException {
+        for (int position = -2; position <= 102; position++) {
+            for (int dice = 0; dice <= 7; dice++) {
+                assertEquals(CommandLineOutput.playCommandLineMove(position, dice), forward(position, dice),
+                        "position " + position + ", dice " + dice);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent clients should each get their own answer")
+    void testConcurrentClients() throws Exception {
+        String expectedLadder = CommandLineOutput.playCommandLineMove(4, 3);
+        String expectedWin = CommandLineOutput.playCommandLineMove(97, 3);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int client = 0; client < 8; client++) {
+                boolean ladder = client % 2 == 0;
+                results.add(clients.submit(() -> {
+                    for (int move = 0; move < 100; move++) {
+                        assertEquals(ladder ? expectedLadder : expectedWin, ladder ? forward(4, 3) : forward(97, 3));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Errors should follow the moves of the lines before them")
+    void testErrorsInLineOrder() throws IOException {
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        try (SocketChannel client = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            client.write(ByteBuffer.wrap("4 3\nx\n97 3\n".getBytes(StandardCharsets.US_ASCII)));
+            client.shutdownOutput();
+            Channels.newInputStream(client).transferTo(response);
+        }
+        assertEquals(CommandLineOutput.playCommandLineMove(4, 3) + "Error: Invalid number format on line 2.\n"
+                + CommandLineOutput.playCommandLineMove(97, 3), response.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Should refuse a second daemon, replace stale sockets and report a missing daemon")
+    void testSocketLifecycle() throws IOException {
+        MoveDaemon second = new MoveDaemon(new SnakesAndLaddersBoard(), socket);
+        assertThrows(IOException.class, second::start);
+
+        daemon.close();
+        assertFalse(Files.exists(socket));
+        assertFalse(MoveClient.forward(socket, 4, 3, new ByteArrayOutputStream()));
+
+        Files.createFile(socket);
+        daemon = new MoveDaemon(new SnakesAndLaddersBoard(), socket);
+        daemon.start();
+        assertEquals(CommandLineOutput.playCommandLineMove(4, 3), forward(4, 3));
+    }
+}
@@ -0,0 +1,109 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.MoveEventRing;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+import com.snakeladders.WaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Unit tests for MoveEventRing class.
+ */
+@DisplayName("Move Event Ring Tests")
+class MoveEventRingTest {
+
+    @Test
+    @DisplayName("Every consumer should see every event in order, with every wait strategy")
+    void testBroadcastInOrder() {
+        for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+            // Spinning consumers share few cores with the producer, so give them room to run ahead
+            boolean spinning = waitStrategy == WaitStrategy.BUSY_SPIN;
+            MoveEventRing ring = new MoveEventRing(spinning ? 1024 : 8, waitStrategy);
+            int events = spinning ? 2_000 : 20_000;
+            long[][] seen = new long[3][events];
+            int[] counts = new int[3];
+            boolean[] batchEnded = new boolean[3];
+            for (int consumer = 0; consumer < 3; consumer++) {
+                int index = consumer;
+                ring.addConsumer((event, sequence, endOfBatch) -> {
+                    assertEquals(counts[index], sequence);
+                    seen[index][counts[index]++] = event.getGame() * 1000 + event.getFromPosition();
+                    batchEnded[index] |= endOfBatch;
+                });
+            }
+            ring.start();
+            for (int event = 0; event < events; event++) {
+                ring.publish(event, event % 100, MoveOutcome.pack(event % 100, MoveOutcome.MOVED, 1));
+            }
+            ring.close();
+
+            assertEquals(events - 1, ring.getCursor());
+            for (int consumer = 0; consumer < 3; consumer++) {
+                assertEquals(events, counts[consumer], waitStrategy.name());
+                assertTrue(batchEnded[consumer]);
+                for (int event = 0; event < events; event++) {
+                    assertEquals(event * 1000L + event % 100, seen[consumer][event]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A consumer should only see events its dependencies have handled")
+    void testDependentConsumer() {
+        MoveEventRing ring = new MoveEventRing(16, WaitStrategy.YIELD);
+        MoveEventRing.Consumer[] first = new MoveEventRing.Consumer[1];
+        AtomicBoolean overtaken = new AtomicBoolean();
+        List<Long> order = new ArrayList<>();
+        first[0] = ring.addConsumer((event, sequence, endOfBatch) -> Thread.yield());
+        ring.addConsumer((event, sequence, endOfBatch) -> {
+            if (first[0].getSequence() < sequence) {
+                overtaken.set(true);
+            }
+            order.add(sequence);
+        }, first[0]);
+        assertThrows(IllegalArgumentException.class, () -> ring.addConsumer((event, sequence, endOfBatch) -> { },
+                new MoveEventRing(4, WaitStrategy.PARK).addConsumer((event, sequence, endOfBatch) -> { })));
+        ring.start();
+        assertThrows(IllegalStateException.class, () -> ring.addConsumer((event, sequence, endOfBatch) -> { }));
+
+        for (int event = 0; event < 5_000; event++) {
+            ring.publish(0, 0, 0);
+        }
+        ring.close();
+        assertFalse(overtaken.get());
+        assertEquals(5_000, order.size());
+        assertEquals(4_999L, order.get(4_999));
+    }
+
+    @Test
+    @DisplayName("A game engine should publish its moves, but not rolls after the win")
+    void testGameEngineHook() {
+        MoveEventRing ring = new MoveEventRing(MoveEventRing.DEFAULT_CAPACITY, WaitStrategy.PARK);
+        List<String> events = new ArrayList<>();
+        ring.addConsumer((event, sequence, endOfBatch) -> events.add(event.getGame() + ":" + event.getFromPosition()
+                + "->" + event.getNewPosition() + ":" + MoveOutcome.name(event.getOutcome()) + ":" + event.getDiceRoll()));
+        ring.start();
+
+        GameEngine engine = new GameEngine(new SnakesAndLaddersBoard());
+        engine.setMoveEvents(ring, 7);
+        engine.movePlayer(1);
+        engine.setCurrentPosition(97);
+        engine.applyMove(3);
+        engine.applyMove(2);
+        engine.setMoveEvents(null, 0);
+        engine.resetGame();
+        engine.applyMove(4);
+        ring.close();
+
+        assertEquals(List.of("7:0->1:moved:1", "7:97->100:won:3"), events);
+        assertThrows(IllegalArgumentException.class, () -> new MoveEventRing(12, WaitStrategy.BUSY_SPIN));
+    }
+}
@@ -0,0 +1,146 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameSessionStore;
+import com.snakeladders.MoveJournal;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for MoveJournal class.
+ */
+@DisplayName("Move Journal Tests")
+class MoveJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+
+    @Test
+    @DisplayName("Replaying the journal should rebuild every session")
+    void testReplayRebuildsState() throws IOException {
+        GameSessionStore store = new GameSessionStore(board, 4);
+        try (MoveJournal journal = MoveJournal.open(directory, 64, 5)) {
+            store.setJournal(journal);
+            GameSessionStoreAssertions.playRandomGames(store, new SplittableRandom(42), 200, 3000);
+        }
+
+        GameSessionStore restored = new GameSessionStore(board, 4);
+        long records = MoveJournal.replay(directory, restored);
+
+        assertTrue(records > 3000);
+        assertTrue(segmentCount() > 1, "journal should have rolled over several segments");
+        GameSessionStoreAssertions.assertSameState(store, restored);
+    }
+
+    @Test
+    @DisplayName("Reopening should continue after the last record")
+    void testReopenAppends() throws IOException {
+        GameSessionStore store = new GameSessionStore(board, 4);
+        try (MoveJournal journal = MoveJournal.open(directory, 16, 5)) {
+            store.setJournal(journal);
+            GameSessionStoreAssertions.playRandomGames(store, new SplittableRandom(42), 5, 20);
+        }
+
+        GameSessionStore reopened = new GameSessionStore(board, 4);
+        MoveJournal.replay(directory, reopened);
+        try (MoveJournal journal = MoveJournal.open(directory, 16, 5)) {
+            reopened.setJournal(journal);
+            GameSessionStoreAssertions.playRandomGames(reopened, new SplittableRandom(42), 5, 20);
+        }
+
+        GameSessionStore restored = new GameSessionStore(board, 4);
+        MoveJournal.replay(directory, restored);
+        GameSessionStoreAssertions.assertSameState(reopened, restored);
+    }
+
+    @Test
+    @DisplayName("The record count should survive a new segment size, and a closed journal should reject appends")
+    void testRecordCountAndClose() throws IOException {
+        try (MoveJournal journal = MoveJournal.open(directory, 16, 5)) {
+            for (int i = 0; i < 40; i++) {
+                journal.appendCreate(i, 1);
+            }
+            assertEquals(40, journal.getRecordCount());
+        }
+
+        MoveJournal journal = MoveJournal.open(directory, 64, 5);
+        assertEquals(40, journal.getRecordCount());
+        journal.appendRemove(0);
+        assertEquals(41, journal.getRecordCount());
+        journal.close();
+
+        IllegalStateException closed = assertThrows(IllegalStateException.class, () -> journal.appendRemove(1));
+        assertEquals("Journal closed", closed.getMessage());
+        assertEquals(41, MoveJournal.replay(directory, (type, session, player, diceRoll, position, outcome) -> { }));
+    }
+
+    @Test
+    @DisplayName("A torn tail record should be truncated on open")
+    void testTornTailIsTruncated() throws IOException {
+        GameSessionStore store = new GameSessionStore(board, 2);
+        int session;
+        try (MoveJournal journal = MoveJournal.open(directory, 1024, 5)) {
+            store.setJournal(journal);
+            session = store.createSession(2);
+            store.applyMove(session, 3);
+            store.applyMove(session, 5);
+        }
+
+        // Tear the last move: only its first half reached the disk
+        Path segment = lastSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8), 2 * MoveJournal.RECORD_SIZE + 8);
+        }
+
+        try (MoveJournal journal = MoveJournal.open(directory, 1024, 5)) {
+            assertEquals(2, journal.getRecordCount());
+        }
+
+        GameSessionStore restored = new GameSessionStore(board, 2);
+        assertEquals(2, MoveJournal.replay(directory, restored));
+        assertEquals(3, restored.getPosition(session, 0));
+        assertEquals(0, restored.getPosition(session, 1));
+        assertEquals(1, restored.getCurrentPlayer(session));
+    }
+
+    @Test
+    @DisplayName("Replay should reject a journal that does not match the store")
+    void testReplayDetectsMismatch() throws IOException {
+        GameSessionStore store = new GameSessionStore(board, 1);
+        try (MoveJournal journal = MoveJournal.open(directory, 1024, 5)) {
+            store.setJournal(journal);
+            int session = store.createSession(1);
+            store.applyMove(session, 1);
+            store.applyMove(session, 3);
+        }
+
+        GameSessionStore wrong = new GameSessionStore(board, 1);
+        wrong.createSession(1);
+        assertThrows(IllegalStateException.class, () -> MoveJournal.replay(directory, wrong));
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+    }
+}
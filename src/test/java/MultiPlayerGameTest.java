@@ -0,0 +1,112 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.CompiledRules;
+import com.snakeladders.GameEngine;
+import com.snakeladders.GameRules;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.MultiPlayerGame;
+import com.snakeladders.ReplayDiceSource;
+import com.snakeladders.SeededDiceSource;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+/**
+ * Unit tests for MultiPlayerGame class.
+ */
+@DisplayName("Multi-Player Game Tests")
+class MultiPlayerGameTest {
+
+    private SnakesAndLaddersBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new SnakesAndLaddersBoard();
+    }
+
+    @Test
+    @DisplayName("Standard rules should compile to the single-player move rules")
+    void testStandardRulesMatchGameEngine() {
+        CompiledRules compiled = CompiledRules.forBoard(board, GameRules.STANDARD);
+
+        assertSame(compiled, CompiledRules.forBoard(board, new GameRules(false, false, false, 1)));
+        for (int position = 0; position < 100; position++) {
+            for (int roll = 1; roll <= 6; roll++) {
+                assertEquals(GameEngine.step(board, position, roll), compiled.move(position, roll));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Players should take turns and the first to finish should win")
+    void testTurnOrder() {
+        MultiPlayerGame game = new MultiPlayerGame(board, GameRules.STANDARD, 3);
+
+        assertEquals(4, MoveOutcome.newPosition(game.applyRoll(4)));
+        assertEquals(1, game.getCurrentPlayer());
+        assertEquals(MoveOutcome.MOVED, MoveOutcome.outcome(game.applyRoll(new ReplayDiceSource(1))));
+        assertEquals(1, game.getPosition(1));
+        // Player 2 rolls a 6: no extra turn under the standard rules
+        game.applyRoll(6);
+        assertEquals(0, game.getCurrentPlayer());
+        assertThrows(IllegalArgumentException.class, () -> game.applyRoll(7));
+
+        int winner = game.playToEnd(new SeededDiceSource(1), 1_000_000);
+        assertTrue(winner >= 0 && winner < 3);
+        assertEquals(100, game.getPosition(winner));
+        assertEquals(MoveOutcome.ALREADY_WON, MoveOutcome.outcome(game.applyRoll(3)));
+    }
+
+    @Test
+    @DisplayName("Bounce-back should reflect overshooting rolls off the last cell")
+    void testBounceBack() {
+        CompiledRules compiled = CompiledRules.forBoard(board, new GameRules(true, false, false, 1));
+
+        // 96 + 6 bounces back to 98, where the snake leads to 12
+        long move = compiled.move(96, 6);
+        assertEquals(MoveOutcome.BOUNCED, MoveOutcome.outcome(move));
+        assertEquals(12, MoveOutcome.newPosition(move));
+        assertEquals(MoveOutcome.pack(97, MoveOutcome.BOUNCED, 5), compiled.move(98, 5));
+        assertEquals("Bounced back from 103 to 97.", MoveOutcome.message(compiled.move(98, 5), 98));
+    }
+
+    @Test
+    @DisplayName("A six should give an extra turn and three sixes should forfeit it")
+    void testExtraTurnAndForfeit() {
+        MultiPlayerGame game = new MultiPlayerGame(board, new GameRules(false, true, true, 1), 2);
+        game.applyRoll(2);
+        game.applyRoll(2);
+
+        // Player 0 starts the turn on 2: 8, then 14, then the third six voids the turn
+        assertEquals(8, MoveOutcome.newPosition(game.applyRoll(6)));
+        assertEquals(0, game.getCurrentPlayer());
+        game.applyRoll(6);
+        assertEquals(0, game.getCurrentPlayer());
+        long forfeit = game.applyRoll(6);
+        assertEquals(MoveOutcome.FORFEIT, MoveOutcome.outcome(forfeit));
+        assertEquals(2, game.getPosition(0));
+        assertEquals(1, game.getCurrentPlayer());
+
+        // A six followed by another roll ends the turn normally
+        game.applyRoll(6);
+        game.applyRoll(2);
+        assertEquals(10, game.getPosition(1));
+        assertEquals(0, game.getCurrentPlayer());
+    }
+
+    @Test
+    @DisplayName("Two dice should roll from 2 to 12 with an extra turn on a double six")
+    void testTwoDice() {
+        GameRules rules = new GameRules(false, true, false, 2);
+        MultiPlayerGame game = new MultiPlayerGame(board, rules, 2);
+
+        assertThrows(IllegalArgumentException.class, () -> game.applyRoll(1));
+        assertEquals(33, MoveOutcome.newPosition(game.applyRoll(new ReplayDiceSource(3, 4))));
+        game.applyRoll(12);
+        assertEquals(1, game.getCurrentPlayer());
+        assertThrows(IllegalArgumentException.class, () -> new GameRules(false, false, true, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GameRules(false, false, false, 3));
+    }
+}
@@ -0,0 +1,125 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.OffHeapGameArena;
+import com.snakeladders.PackedGameState;
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for OffHeapGameArena class.
+ */
+@DisplayName("Off-Heap Game Arena Tests")
+class OffHeapGameArenaTest {
+
+    @Test
+    @DisplayName("Every move should match GameEngine.movePlayer for the player whose turn it is")
+    void testMatchesGameEngine() {
+        SplittableRandom random = new SplittableRandom(22);
+        for (SnakesAndLaddersBoard board : new SnakesAndLaddersBoard[]{new SnakesAndLaddersBoard(),
+                TestBoards.randomBoard(random, 500, 50),
+                TestBoards.randomBoard(random, PackedGameState.MAX_CELLS, PackedGameState.MAX_CELLS / 10)}) {
+            OffHeapGameArena arena = new OffHeapGameArena(board, 64);
+            for (int round = 0; round < 64; round++) {
+                int players = round % PackedGameState.MAX_PLAYERS + 1;
+                long game = arena.createGame(players);
+                GameEngine[] engines = new GameEngine[players];
+                for (int player = 0; player < players; player++) {
+                    engines[player] = new GameEngine(board);
+                }
+
+                int turn = 0;
+                int winner = -1;
+                int rollsAfterWin = 0;
+                for (int roll = 0; roll < 20_000 && rollsAfterWin < 3; roll++) {
+                    int dice = random.nextInt(1, 7);
+                    if (winner >= 0) {
+                        rollsAfterWin++;
+                    }
+                    long expected = engines[winner < 0 ? turn : winner].applyMove(dice);
+                    assertEquals(expected, arena.applyMove(game, dice));
+
+                    if (winner < 0 && MoveOutcome.outcome(expected) == MoveOutcome.WON) {
+                        winner = turn;
+                    } else if (winner < 0) {
+                        turn = (turn + 1) % players;
+                    }
+                    long state = arena.getState(game);
+                    for (int player = 0; player < players; player++) {
+                        assertEquals(engines[player].getCurrentPosition(), PackedGameState.getPosition(state, player));
+                    }
+                    assertEquals(winner, PackedGameState.getWinner(state));
+                    assertEquals(winner < 0 ? turn : winner, PackedGameState.getTurn(state));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent moves on shared games should never be lost")
+    void testConcurrentMoves() throws Exception {
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard(PackedGameState.MAX_CELLS,
+                Collections.emptyMap(), Collections.emptyMap());
+        OffHeapGameArena arena = new OffHeapGameArena(board, 16);
+        for (int game = 0; game < 16; game++) {
+            arena.createGame(1);
+        }
+
+        int threads = 4;
+        int movesPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int move = 0; move < movesPerThread; move++) {
+                        for (long game = 0; game < 16; game++) {
+                            arena.applyMove(game, 1);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (long game = 0; game < 16; game++) {
+            assertEquals(threads * movesPerThread, PackedGameState.getPosition(arena.getState(game), 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unknown games, bad rolls, oversized boards and overfull arenas")
+    void testValidation() {
+        OffHeapGameArena arena = new OffHeapGameArena(new SnakesAndLaddersBoard(), 2);
+        long game = arena.createGame(4);
+        arena.createGame(1);
+
+        assertThrows(IllegalArgumentException.class, () -> arena.applyMove(game, 7));
+        assertThrows(IllegalArgumentException.class, () -> arena.applyMove(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> arena.createGame(5));
+        assertThrows(IllegalStateException.class, () -> arena.createGame(1));
+        assertEquals(2, arena.getGameCount());
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapGameArena(
+                new SnakesAndLaddersBoard(PackedGameState.MAX_CELLS + 1, Collections.emptyMap(), Collections.emptyMap()), 1));
+
+        arena.applyMove(game, 3);
+        arena.resetGame(game, 2);
+        assertEquals(PackedGameState.newGame(2), arena.getState(game));
+        assertEquals(2, PackedGameState.getPlayers(arena.getState(game)));
+    }
+}
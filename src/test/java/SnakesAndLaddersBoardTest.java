@@ -4,9 +4,13 @@ import org.junit.jupiter.api.DisplayName;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.snakeladders.GameEngine;
+import com.snakeladders.MoveOutcome;
 import com.snakeladders.SnakesAndLaddersBoard;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 /**
  * Unit tests for SnakesAndLaddersBoard class.
@@ -124,17 +128,97 @@ class SnakesAndLaddersBoardTest {
     }
 
     @Test
-    @DisplayName("Should return defensive copies of snake and ladder maps")
-    void testDefensiveCopies() {
+    @DisplayName("Should return read-only views of snake and ladder maps")
+    void testReadOnlyViews() {
         Map<Integer, Integer> ladders = board.getLadders();
         Map<Integer, Integer> snakes = board.getSnakes();
 
-        // Try modifying the returned maps
-        ladders.put(10, 90);
-        snakes.put(20, 5);
+        // Modifying the returned maps must be rejected
+        assertThrows(UnsupportedOperationException.class, () -> ladders.put(10, 90));
+        assertThrows(UnsupportedOperationException.class, () -> snakes.put(20, 5));
 
         // Original board maps should not be affected
         assertFalse(board.getLadders().containsKey(10));
         assertFalse(board.getSnakes().containsKey(20));
     }
+
+    @Test
+    @DisplayName("Should classify every cell by kind")
+    void testGetCellKind() {
+        assertEquals(SnakesAndLaddersBoard.CELL_LADDER, board.getCellKind(7));
+        assertEquals(SnakesAndLaddersBoard.CELL_SNAKE, board.getCellKind(98));
+        assertEquals(SnakesAndLaddersBoard.CELL_GOAL, board.getCellKind(100));
+        assertEquals(SnakesAndLaddersBoard.CELL_PLAIN, board.getCellKind(50));
+
+        assertEquals(SnakesAndLaddersBoard.CELL_PLAIN, board.getCellKind(-1));
+        assertEquals(SnakesAndLaddersBoard.CELL_PLAIN, board.getCellKind(101));
+    }
+
+    @Test
+    @DisplayName("Should leave positions outside the board unchanged")
+    void testGetFinalPositionOutsideBoard() {
+        assertEquals(-3, board.getFinalPosition(-3));
+        assertEquals(105, board.getFinalPosition(105));
+    }
+
+    @Test
+    @DisplayName("Large boards with few jumps should use the sparse index")
+    void testSparseMode() {
+        int size = 1 << 22;
+        SplittableRandom random = new SplittableRandom(3);
+        Map<Integer, Integer> ladders = new HashMap<>();
+        Map<Integer, Integer> snakes = new HashMap<>();
+        while (ladders.size() + snakes.size() < 3000) {
+            // Odd starts and even ends keep the jumps free of chains
+            int from = (1 + random.nextInt(size - 2)) | 1;
+            if (ladders.containsKey(from) || snakes.containsKey(from)) {
+                continue;
+            }
+            int to = (1 + random.nextInt(size - 1)) & ~1;
+            if (to > from) {
+                ladders.put(from, to);
+            } else {
+                snakes.put(from, to);
+            }
+        }
+
+        SnakesAndLaddersBoard sparse = new SnakesAndLaddersBoard(size, ladders, snakes);
+        assertTrue(sparse.isSparse());
+        assertFalse(board.isSparse());
+
+        for (int position = -1; position <= size + 1; position++) {
+            int expected = ladders.getOrDefault(position, snakes.getOrDefault(position, position));
+            assertEquals(expected, sparse.getFinalPosition(position));
+        }
+        ladders.keySet().forEach(cell -> assertEquals(SnakesAndLaddersBoard.CELL_LADDER, sparse.getCellKind(cell)));
+        snakes.keySet().forEach(cell -> assertEquals(SnakesAndLaddersBoard.CELL_SNAKE, sparse.getCellKind(cell)));
+        assertEquals(SnakesAndLaddersBoard.CELL_GOAL, sparse.getCellKind(size));
+        assertEquals(SnakesAndLaddersBoard.CELL_PLAIN, sparse.getCellKind(2));
+
+        // Boards below the sparse threshold keep the dense tables
+        SnakesAndLaddersBoard dense = new SnakesAndLaddersBoard(5000, Map.of(5, 3000), Map.of(4000, 2));
+        assertFalse(dense.isSparse());
+        assertEquals(3000, dense.getFinalPosition(5));
+    }
+
+    @Test
+    @DisplayName("Moves near the end of the largest board should not overflow")
+    void testLargestBoard() {
+        int size = SnakesAndLaddersBoard.MAX_SIZE;
+        SnakesAndLaddersBoard largest = new SnakesAndLaddersBoard(size, Map.of(size - 100, size - 2),
+                Map.of(size - 50, 7));
+        assertTrue(largest.isSparse());
+
+        long overshoot = GameEngine.step(largest, size - 2, 6);
+        assertEquals(size - 2, MoveOutcome.newPosition(overshoot));
+        assertEquals(MoveOutcome.OVERSHOOT, MoveOutcome.outcome(overshoot));
+        long won = GameEngine.step(largest, size - 6, 6);
+        assertEquals(size, MoveOutcome.newPosition(won));
+        assertEquals(MoveOutcome.WON, MoveOutcome.outcome(won));
+        assertEquals(size - 2, MoveOutcome.newPosition(GameEngine.step(largest, size - 101, 1)));
+
+        assertThrows(IllegalArgumentException.class, () -> new SnakesAndLaddersBoard(size + 1, Map.of(), Map.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnakesAndLaddersBoard(Integer.MAX_VALUE, Map.of(), Map.of()));
+    }
 }
@@ -0,0 +1,46 @@
+import com.snakeladders.SnakesAndLaddersBoard;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Shared random board fixture for tests that check a component against the move rules.
+ */
+final class TestBoards {
+
+    private TestBoards() {
+    }
+
+    /**
+     * Build a board with the given number of random snakes and ladders. No cell is used by
+     * two jumps, so the jumps never chain and the board is always valid; chains are resolved
+     * by the board itself and tested there.
+     *
+     * @param random Source of the jump cells
+     * @param size Board size
+     * @param jumps Number of jumps, at most {@code (size - 2) / 2}
+     * @return The random board
+     */
+    static SnakesAndLaddersBoard randomBoard(SplittableRandom random, int size, int jumps) {
+        if (jumps < 0 || jumps > (size - 2) / 2) {
+            throw new IllegalArgumentException("Too many jumps for a board of " + size + ": " + jumps);
+        }
+        Map<Integer, Integer> ladders = new HashMap<>();
+        Map<Integer, Integer> snakes = new HashMap<>();
+        Set<Integer> used = new HashSet<>();
+        while (ladders.size() + snakes.size() < jumps) {
+            int from = random.nextInt(2, size);
+            int to = random.nextInt(1, size);
+            if (from == to || used.contains(from) || used.contains(to)) {
+                continue;
+            }
+            used.add(from);
+            used.add(to);
+            (to > from ? ladders : snakes).put(from, to);
+        }
+        return new SnakesAndLaddersBoard(size, ladders, snakes);
+    }
+}
@@ -0,0 +1,78 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameRules;
+import com.snakeladders.SnakesAndLaddersBoard;
+import com.snakeladders.TournamentResult;
+import com.snakeladders.TournamentRunner;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for TournamentRunner class.
+ */
+@DisplayName("Tournament Runner Tests")
+class TournamentRunnerTest {
+
+    @TempDir
+    Path directory;
+
+    private SnakesAndLaddersBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new SnakesAndLaddersBoard();
+    }
+
+    @Test
+    @DisplayName("Standings should add up and not depend on the number of threads")
+    void testStandingsAreDeterministic() throws Exception {
+        TournamentRunner runner = new TournamentRunner(board, GameRules.STANDARD, 7, 5_000, 11);
+        TournamentResult single = runner.run(new ForkJoinPool(1), null);
+        TournamentResult parallel = runner.run(new ForkJoinPool(4), null);
+
+        assertEquals(21 * 5_000, single.getMatches());
+        long decided = 0;
+        for (int player = 0; player < 7; player++) {
+            assertEquals(single.getWins(player), parallel.getWins(player));
+            decided += single.getWins(player);
+        }
+        assertEquals(single.getMatches(), decided + single.getDraws());
+        assertEquals(single.getMeanRolls(), parallel.getMeanRolls());
+        assertEquals(single.getMatches(), Arrays.stream(single.getRollHistogram()).sum());
+        // Every player has the same chances, so the leader cannot be far ahead of a fair share
+        assertTrue(single.getWins(single.getStandings()[0]) < 6 * 5_000 * 0.6);
+    }
+
+    @Test
+    @DisplayName("An interrupted tournament should resume from its checkpoint to the same standings")
+    void testResumeFromCheckpoint() throws Exception {
+        Path checkpoint = directory.resolve("tournament.ckpt");
+        TournamentRunner runner = new TournamentRunner(board, GameRules.STANDARD, 40, 2_000, 5);
+        runner.setCheckpointIntervalMillis(1);
+
+        // Stop after three chunks, as if the run had been killed after its last checkpoint
+        runner.setMaxChunksPerRun(3);
+        TournamentResult partial = runner.run(new ForkJoinPool(2), checkpoint);
+        assertEquals(3L * TournamentRunner.MATCHES_PER_CHUNK, partial.getMatches());
+
+        runner.setMaxChunksPerRun(Long.MAX_VALUE);
+        TournamentResult resumed = runner.run(new ForkJoinPool(2), checkpoint);
+        TournamentResult uninterrupted = runner.run(new ForkJoinPool(2), null);
+        assertEquals(partial.getMatches(), resumed.getResumedMatches());
+        assertEquals(uninterrupted.getMatches(), resumed.getMatches());
+        for (int player = 0; player < 40; player++) {
+            assertEquals(uninterrupted.getWins(player), resumed.getWins(player));
+        }
+        assertArrayEquals(uninterrupted.getRollHistogram(), resumed.getRollHistogram());
+
+        TournamentRunner other = new TournamentRunner(board, GameRules.STANDARD, 40, 2_000, 6);
+        assertThrows(IllegalArgumentException.class, () -> other.run(new ForkJoinPool(1), checkpoint));
+    }
+}
@@ -0,0 +1,82 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.snakeladders.GameEngine;
+import com.snakeladders.MarkovAnalyzer;
+import com.snakeladders.MoveOutcome;
+import com.snakeladders.SnakesAndLaddersBoard;
+import com.snakeladders.WinProbabilityTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for WinProbabilityTable class.
+ */
+@DisplayName("Win Probability Table Tests")
+class WinProbabilityTableTest {
+
+    @Test
+    @DisplayName("Should agree with the Markov chain finish probabilities")
+    void testMatchesMarkovAnalyzer() {
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        WinProbabilityTable table = new WinProbabilityTable(board, 300);
+        double[] finished = new MarkovAnalyzer(board).getFinishProbabilities(300);
+
+        for (int turns = 0; turns <= 300; turns += 7) {
+            assertEquals(finished[turns], table.getWinProbability(0, turns), 1e-5);
+        }
+        assertEquals(1.0f, table.getWinProbability(100, 0));
+        // From 99 only a roll of 1 wins
+        assertEquals(1.0 / 6, table.getWinProbability(99, 1), 1e-7);
+    }
+
+    @Test
+    @DisplayName("Should follow the move rules on random boards, including large parallel ones")
+    void testMatchesMoveRules() {
+        SplittableRandom random = new SplittableRandom(9);
+        for (int size : new int[]{12, 100, 1 << 17}) {
+            SnakesAndLaddersBoard board = TestBoards.randomBoard(random, size, Math.max(2, size / 100));
+            WinProbabilityTable table = new WinProbabilityTable(board, 12);
+            double[] expected = new double[size + 1];
+            expected[size] = 1.0;
+
+            for (int turns = 1; turns <= 12; turns++) {
+                double[] next = new double[size + 1];
+                for (int position = 0; position <= size; position++) {
+                    for (int diceRoll = 1; diceRoll <= 6; diceRoll++) {
+                        long move = GameEngine.step(board, position, diceRoll);
+                        next[position] += expected[MoveOutcome.newPosition(move)] / 6;
+                    }
+                }
+                next[size] = 1.0;
+                expected = next;
+            }
+            for (int position = 0; position <= size; position += Math.max(1, size / 997)) {
+                if (board.getFinalPosition(position) == position) {
+                    assertEquals(expected[position], table.getWinProbability(position, 12), 1e-6,
+                            "size " + size + ", position " + position);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should build rows only as far as queried and share tables per board")
+    void testIncrementalBuildAndCache() {
+        SnakesAndLaddersBoard board = new SnakesAndLaddersBoard();
+        WinProbabilityTable table = new WinProbabilityTable(board, 50);
+
+        assertEquals(-1, table.getBuiltTurns());
+        table.getWinProbability(0, 10);
+        assertEquals(10, table.getBuiltTurns());
+        table.getWinProbability(5, 3);
+        assertEquals(10, table.getBuiltTurns());
+        assertThrows(IllegalArgumentException.class, () -> table.getWinProbability(0, 51));
+        assertThrows(IllegalArgumentException.class, () -> table.getWinProbability(101, 1));
+
+        assertSame(WinProbabilityTable.forBoard(board), WinProbabilityTable.forBoard(board));
+        assertEquals(WinProbabilityTable.DEFAULT_MAX_TURNS, WinProbabilityTable.forBoard(board).getMaxTurns());
+    }
+}